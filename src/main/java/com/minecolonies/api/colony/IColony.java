@@ -48,6 +48,14 @@ public interface IColony
 
     void onWorldTick(@NotNull TickEvent.LevelTickEvent event);
 
+    /**
+     * Ticks the colony once, counting down its periodic work by all ticks passed since its last tick, e.g. after it was deferred.
+     *
+     * @param event        the level tick event.
+     * @param elapsedTicks the ticks passed since the last tick, at least 1.
+     */
+    void onWorldTick(@NotNull TickEvent.LevelTickEvent event, int elapsedTicks);
+
     /**
      * Returns the position of the colony.
      *
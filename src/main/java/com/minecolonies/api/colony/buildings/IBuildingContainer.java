@@ -1,9 +1,11 @@
 package com.minecolonies.api.colony.buildings;
 
+import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.tileentities.AbstractTileEntityColonyBuilding;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
@@ -14,6 +16,8 @@ import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nonnull;
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 public interface IBuildingContainer extends ISchematicProvider, ICapabilityProvider
 {
@@ -58,6 +62,31 @@ public interface IBuildingContainer extends ISchematicProvider, ICapabilityProvi
      */
     List<BlockPos> getContainers();
 
+    /**
+     * Count an item in the containers of the building, from the aggregated rack content instead of visiting every slot.
+     *
+     * @param storage the item, honouring its damage and nbt settings.
+     * @return the amount.
+     */
+    int getItemCount(@NotNull ItemStorage storage);
+
+    /**
+     * Count all items matching a predicate in the racks of the building, from the aggregated rack content instead of visiting every slot.
+     *
+     * @param predicate the predicate.
+     * @return the amount.
+     */
+    int getItemCount(@NotNull Predicate<ItemStack> predicate);
+
+    /**
+     * Count all items matching a predicate in the racks of the building, counting at most a limit of each item.
+     *
+     * @param predicate the predicate.
+     * @param limit     the limit per item.
+     * @return the amount.
+     */
+    int getItemCountWithLimit(@NotNull Predicate<ItemStack> predicate, @NotNull Function<ItemStack, Integer> limit);
+
     /**
      * Register a blockState and position. We suppress this warning since this parameter will be used in child classes which override this method.
      *
@@ -4,6 +4,7 @@ import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.entity.citizen.happiness.IHappinessModifier;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.Level;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -168,6 +169,14 @@ public interface ICitizenManager extends IEntityManager
     @Override
     ICitizenData getCivilian(final int citizenId);
 
+    /**
+     * Sends the complete view of a citizen to a player with the next update, e.g. when the player lost its baseline.
+     *
+     * @param citizenId the citizen id.
+     * @param player    the player.
+     */
+    void requestCitizenViewKeyframe(final int citizenId, @NotNull final ServerPlayer player);
+
     /**
      * Called in the morning.
      */
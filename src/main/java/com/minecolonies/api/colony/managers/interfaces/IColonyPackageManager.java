@@ -61,6 +61,13 @@ public interface IColonyPackageManager
      */
     void setDirty();
 
+    /**
+     * Sends the complete colony view to a player with the next update, e.g. when the player lost its baseline.
+     *
+     * @param player the player.
+     */
+    void requestColonyViewKeyframe(@NotNull final ServerPlayer player);
+
     /**
      * Add a new subscriber to the colony.
      *
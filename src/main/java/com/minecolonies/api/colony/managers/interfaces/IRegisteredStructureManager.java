@@ -17,6 +17,7 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -186,6 +187,14 @@ public interface IRegisteredStructureManager
      */
     void markBuildingsDirty();
 
+    /**
+     * Sends the complete view of a building to a player with the next update, e.g. when the player lost its baseline.
+     *
+     * @param buildingId the building position.
+     * @param player     the player.
+     */
+    void requestBuildingViewKeyframe(@NotNull final BlockPos buildingId, @NotNull final ServerPlayer player);
+
     /**
      * Marks fields data dirty.
      */
@@ -243,6 +252,32 @@ public interface IRegisteredStructureManager
      */
     void guardBuildingChangedAt(IBuilding guardBuilding, int newLevel);
 
+    /**
+     * Get all buildings whose position is within a horizontal square around a position.
+     *
+     * @param pos    the center of the square.
+     * @param radius the half side length of the square.
+     * @return the buildings.
+     */
+    @NotNull
+    List<IBuilding> getBuildingsNear(@NotNull BlockPos pos, int radius);
+
+    /**
+     * Get all buildings whose area, including the area added by their modules, overlaps a box horizontally.
+     *
+     * @param box the box.
+     * @return the buildings.
+     */
+    @NotNull
+    List<IBuilding> getBuildingsOverlapping(@NotNull BoundingBox box);
+
+    /**
+     * Event once the corners of a building changed, to update the area it is found at.
+     *
+     * @param building the building.
+     */
+    void onBuildingAreaChanged(@NotNull IBuilding building);
+
     /**
      * Set the townhall building.
      *
@@ -1,11 +1,55 @@
 package com.minecolonies.api.colony.requestsystem.data;
 
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.request.RequestState;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
 
 /**
  * The KV-Store for the requests and their identities. Extends the {@link IIdentitiesDataStore} with {@link IToken} as key type and {@link IRequest} as value type.
  */
 public interface IRequestIdentitiesDataStore extends IIdentitiesDataStore<IToken<?>, IRequest<?>>
 {
+    /**
+     * Adds a request, keeping the lookups by requester and state up to date.
+     *
+     * @param request The request to add.
+     */
+    void add(@NotNull IRequest<?> request);
+
+    /**
+     * Removes a request, keeping the lookups by requester and state up to date.
+     *
+     * @param token The token of the request to remove.
+     * @return The removed request or null if it was unknown.
+     */
+    @Nullable
+    IRequest<?> remove(@NotNull IToken<?> token);
+
+    /**
+     * Get the tokens of all requests made by a requester.
+     *
+     * @param requesterId The id of the requester.
+     * @return The request tokens, an unmodifiable live view.
+     */
+    Collection<IToken<?>> getRequestsByRequester(@NotNull IToken<?> requesterId);
+
+    /**
+     * Get the tokens of all requests in a given state.
+     *
+     * @param state The state.
+     * @return The request tokens, an unmodifiable live view.
+     */
+    Collection<IToken<?>> getRequestsInState(@NotNull RequestState state);
+
+    /**
+     * Called when the state of a request changed, moves it to its new state in the lookup.
+     *
+     * @param request       The request.
+     * @param previousState The state it had before.
+     */
+    void onRequestStateChanged(@NotNull IRequest<?> request, @NotNull RequestState previousState);
 }
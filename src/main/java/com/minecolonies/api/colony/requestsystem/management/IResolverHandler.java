@@ -171,6 +171,17 @@ public interface IResolverHandler
      */
     boolean isBeingRemoved(IToken<?> id);
 
+    /**
+     * Get the resolvers which can be assigned a request, ordered by priority first and by how specific their request type is second.
+     * <p>
+     * Uses an index by requestable class which gets rebuilt whenever resolvers are registered or removed.
+     * </p>
+     *
+     * @param request The request to get the candidate resolvers for.
+     * @return The candidate resolvers, must not be modified.
+     */
+    IRequestResolver<?>[] getResolversForRequest(IRequest<?> request);
+
     /**
      * Internal method that handles the removal of a single resolvers that is attached to a provider that is being removed.
      *
@@ -134,6 +134,16 @@ public interface IRequestManager extends INBTSerializable<CompoundTag>, ITickabl
     @NotNull
     void updateRequestState(@NotNull IToken<?> token, @NotNull RequestState state) throws IllegalArgumentException;
 
+    /**
+     * Called by a request after its state changed, so that the lookups of the manager can follow.
+     *
+     * @param request       The request whose state changed.
+     * @param previousState The state the request had before.
+     */
+    default void onRequestStateChanged(@NotNull final IRequest<?> request, @NotNull final RequestState previousState)
+    {
+    }
+
     /**
      * Method used to overrule a request. Updates the state and sets the delivery if applicable.
      *
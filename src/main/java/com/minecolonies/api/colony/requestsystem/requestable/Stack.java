@@ -339,6 +339,15 @@ public class Stack implements IConcreteDeliverable
         return matchDamage;
     }
 
+    /**
+     * Check if the tags should be matched.
+     * @return true if so.
+     */
+    public boolean matchOreDic()
+    {
+        return matchOreDic;
+    }
+
     @Override
     public IDeliverable copyWithCount(final int newCount)
     {
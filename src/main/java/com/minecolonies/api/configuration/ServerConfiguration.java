@@ -34,6 +34,9 @@ public class ServerConfiguration extends AbstractConfiguration
     public final ForgeConfigSpec.BooleanValue forceLoadColony;
     public final ForgeConfigSpec.IntValue     loadtime;
     public final ForgeConfigSpec.IntValue     colonyLoadStrictness;
+    public final ForgeConfigSpec.IntValue     colonyTickBudget;
+    public final ForgeConfigSpec.IntValue     citizenLodNearDistance;
+    public final ForgeConfigSpec.IntValue     citizenLodFarDistance;
     public final ForgeConfigSpec.IntValue     maxTreeSize;
     public final ForgeConfigSpec.BooleanValue noSupplyPlacementRestrictions;
     public final ForgeConfigSpec.BooleanValue skyRaiders;
@@ -145,6 +148,9 @@ public class ServerConfiguration extends AbstractConfiguration
         forceLoadColony = defineBoolean(builder, "forceloadcolony", true);
         loadtime = defineInteger(builder, "loadtime", 10, 1, 1440);
         colonyLoadStrictness = defineInteger(builder, "colonyloadstrictness", 3, 1, 15);
+        colonyTickBudget = defineInteger(builder, "colonytickbudget", 10, 1, 50);
+        citizenLodNearDistance = defineInteger(builder, "citizenlodneardistance", 64, 0, 512);
+        citizenLodFarDistance = defineInteger(builder, "citizenlodfardistance", 128, 0, 1024);
         maxTreeSize = defineInteger(builder, "maxtreesize", 400, 1, 1000);
         noSupplyPlacementRestrictions = defineBoolean(builder, "nosupplyplacementrestrictions", false);
         skyRaiders = defineBoolean(builder, "skyraiders", false);
@@ -12,6 +12,7 @@ public interface IRecipeManager
 {
     /**
      * Get a unmodifiable copy of the recipes map.
+     * The copy is rebuilt after every added recipe, use {@link #getRecipe(IToken)} for lookups.
      *
      * @return a map of Token, RecipeStorage.
      */
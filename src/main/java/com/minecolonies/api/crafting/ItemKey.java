@@ -0,0 +1,284 @@
+package com.minecolonies.api.crafting;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.minecolonies.api.items.CheckedNbtKey;
+import com.minecolonies.api.util.ItemStackUtils;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable, interned identity of an item variant: the item and its nbt, without count. Equal stacks share one key instance.
+ * Besides its own hash the key holds a precomputed hash for each {@link Match} mode, consistent with the comparison of {@link ItemStorage#equals(Object)},
+ * so maps keyed by a mode do not collapse all variants of one item into a single bucket.
+ */
+public final class ItemKey
+{
+    /**
+     * The pool of all keys in use. Replaced when the nbt comparison rules change, as those feed into the mode hashes.
+     */
+    private static volatile Interner<ItemKey> interner = Interners.newWeakInterner();
+
+    /**
+     * Copy of the stack with count one, never modified.
+     */
+    private final ItemStack stack;
+
+    /**
+     * Exact hash of item and nbt.
+     */
+    private final int hash;
+
+    /**
+     * Hashes by match mode, indexed by {@link Match#ordinal()}.
+     */
+    private final int[] matchHashes = new int[Match.values().length];
+
+    /**
+     * Create a key.
+     *
+     * @param stack the stack to copy.
+     */
+    private ItemKey(@NotNull final ItemStack stack)
+    {
+        this.stack = stack.copy();
+        if (!this.stack.isEmpty())
+        {
+            this.stack.setCount(1);
+        }
+
+        final Item item = this.stack.getItem();
+        final int tagHash = Objects.hashCode(this.stack.getTag());
+        final int nbtHash = matchedNbtHash(this.stack, tagHash);
+        this.hash = 31 * item.hashCode() + tagHash;
+        for (final Match match : Match.values())
+        {
+            matchHashes[match.ordinal()] = 31 * (31 * item.hashCode() + (match.matchDamage ? this.stack.getDamageValue() : 0)) + (match.matchNBT ? nbtHash : 0);
+        }
+    }
+
+    /**
+     * Get the key of a stack.
+     *
+     * @param stack the stack, is not retained.
+     * @return the shared key.
+     */
+    public static ItemKey of(@NotNull final ItemStack stack)
+    {
+        return interner.intern(new ItemKey(stack));
+    }
+
+    /**
+     * Get the key of the stack of a storage.
+     *
+     * @param storage the storage.
+     * @return the shared key.
+     */
+    public static ItemKey of(@NotNull final ItemStorage storage)
+    {
+        return of(storage.getItemStack());
+    }
+
+    /**
+     * Drops all pooled keys, called when the nbt comparison rules got reloaded. Maps built before keep their old hashes until they are rebuilt.
+     */
+    public static void onMatchRulesChanged()
+    {
+        interner = Interners.newWeakInterner();
+    }
+
+    /**
+     * Hash of the part of the nbt which {@link ItemStackUtils#compareItemStacksIgnoreStackSize(ItemStack, ItemStack, boolean, boolean)} compares.
+     *
+     * @param stack   the stack.
+     * @param tagHash the hash of the full tag.
+     * @return the hash.
+     */
+    private static int matchedNbtHash(final ItemStack stack, final int tagHash)
+    {
+        final Set<CheckedNbtKey> checkedKeys = ItemStackUtils.CHECKED_NBT_KEYS.getOrDefault(stack.getItem(), null);
+        if (checkedKeys == null)
+        {
+            return tagHash;
+        }
+
+        final CompoundTag tag = stack.getTag();
+        if (tag == null || checkedKeys.isEmpty())
+        {
+            return 0;
+        }
+
+        int result = 1;
+        for (final CheckedNbtKey checkedKey : checkedKeys)
+        {
+            result += checkedKeyHash(checkedKey, tag);
+        }
+        return result;
+    }
+
+    /**
+     * Hash of the value of a checked nbt key, mirrors {@link CheckedNbtKey#matches(CompoundTag, CompoundTag)}.
+     *
+     * @param checkedKey the checked key.
+     * @param compound   the compound holding the value.
+     * @return the hash.
+     */
+    private static int checkedKeyHash(final CheckedNbtKey checkedKey, final CompoundTag compound)
+    {
+        final Tag tag = compound.get(checkedKey.key);
+        if (tag == null)
+        {
+            return 0;
+        }
+
+        if (checkedKey.children.isEmpty())
+        {
+            return 31 * checkedKey.key.hashCode() + tag.hashCode();
+        }
+
+        int result = checkedKey.key.hashCode();
+        if (tag instanceof CompoundTag childCompound)
+        {
+            for (final CheckedNbtKey child : checkedKey.children)
+            {
+                result += checkedKeyHash(child, childCompound);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get a copy of the stack of the key.
+     *
+     * @return a stack with count one.
+     */
+    public ItemStack getItemStack()
+    {
+        return stack.copy();
+    }
+
+    /**
+     * Get the item of the key.
+     *
+     * @return the item.
+     */
+    public Item getItem()
+    {
+        return stack.getItem();
+    }
+
+    /**
+     * Get the precomputed hash of the key for a match mode.
+     *
+     * @param match the mode.
+     * @return the hash, equal for all keys matching in this mode.
+     */
+    public int hash(@NotNull final Match match)
+    {
+        return matchHashes[match.ordinal()];
+    }
+
+    /**
+     * Whether two keys match in a mode, the same way {@link ItemStorage#equals(Object)} does.
+     *
+     * @param other the other key.
+     * @param match the mode.
+     * @return true if so.
+     */
+    public boolean matches(@NotNull final ItemKey other, @NotNull final Match match)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        return hash(match) == other.hash(match) && ItemStackUtils.compareItemStacksIgnoreStackSize(stack, other.stack, match.matchDamage, match.matchNBT);
+    }
+
+    @Override
+    public boolean equals(final Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (!(o instanceof ItemKey))
+        {
+            return false;
+        }
+
+        final ItemKey that = (ItemKey) o;
+        return hash == that.hash && stack.getItem() == that.stack.getItem() && Objects.equals(stack.getTag(), that.stack.getTag());
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return hash;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ItemKey{" + stack + (stack.hasTag() ? stack.getTag() : "") + "}";
+    }
+
+    /**
+     * The ways two item variants can be compared, matching the damage and nbt settings of {@link ItemStorage}.
+     */
+    public enum Match
+    {
+        EXACT(true, true),
+        IGNORE_DAMAGE(false, true),
+        IGNORE_NBT(true, false),
+        ITEM(false, false);
+
+        /**
+         * Whether the damage is compared.
+         */
+        private final boolean matchDamage;
+
+        /**
+         * Whether the nbt is compared.
+         */
+        private final boolean matchNBT;
+
+        Match(final boolean matchDamage, final boolean matchNBT)
+        {
+            this.matchDamage = matchDamage;
+            this.matchNBT = matchNBT;
+        }
+
+        /**
+         * Get the mode for the damage and nbt settings of a storage.
+         *
+         * @param storage the storage.
+         * @return the mode.
+         */
+        public static Match of(@NotNull final ItemStorage storage)
+        {
+            return of(storage.ignoreDamageValue(), storage.ignoreNBT());
+        }
+
+        /**
+         * Get the mode for damage and nbt settings.
+         *
+         * @param ignoreDamage whether damage is ignored.
+         * @param ignoreNBT    whether nbt is ignored.
+         * @return the mode.
+         */
+        public static Match of(final boolean ignoreDamage, final boolean ignoreNBT)
+        {
+            if (ignoreNBT)
+            {
+                return ignoreDamage ? ITEM : IGNORE_NBT;
+            }
+            return ignoreDamage ? IGNORE_DAMAGE : EXACT;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.minecolonies.api.crafting;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Values by item variant, grouped once per {@link ItemKey.Match} mode. A lookup only queries the map of the requested mode and directly returns the values of
+ * all variants matching in that mode, instead of comparing against every variant of the item.
+ *
+ * @param <V> the value type.
+ */
+public class ItemKeyIndex<V>
+{
+    /**
+     * Values by bucket, one map per mode, indexed by {@link ItemKey.Match#ordinal()}.
+     */
+    private final List<Map<Bucket, List<V>>> buckets = new ArrayList<>();
+
+    /**
+     * Create an empty index.
+     */
+    public ItemKeyIndex()
+    {
+        for (int i = 0; i < ItemKey.Match.values().length; i++)
+        {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * Adds a value of a variant.
+     *
+     * @param key   the variant.
+     * @param value the value.
+     */
+    public void add(@NotNull final ItemKey key, @NotNull final V value)
+    {
+        for (final ItemKey.Match match : ItemKey.Match.values())
+        {
+            buckets.get(match.ordinal()).computeIfAbsent(new Bucket(key, match), b -> new ArrayList<>(1)).add(value);
+        }
+    }
+
+    /**
+     * Removes a value of a variant.
+     *
+     * @param key   the variant the value was added with.
+     * @param value the value.
+     */
+    public void remove(@NotNull final ItemKey key, @NotNull final V value)
+    {
+        for (final ItemKey.Match match : ItemKey.Match.values())
+        {
+            final Map<Bucket, List<V>> map = buckets.get(match.ordinal());
+            final Bucket bucket = new Bucket(key, match);
+            final List<V> values = map.get(bucket);
+            if (values != null && values.remove(value) && values.isEmpty())
+            {
+                map.remove(bucket);
+            }
+        }
+    }
+
+    /**
+     * Get the values of all variants matching a variant in a mode.
+     *
+     * @param key   the variant.
+     * @param match the mode.
+     * @return the values, empty if none.
+     */
+    @NotNull
+    public List<V> get(@NotNull final ItemKey key, @NotNull final ItemKey.Match match)
+    {
+        final List<V> values = buckets.get(match.ordinal()).get(new Bucket(key, match));
+        return values == null ? Collections.emptyList() : Collections.unmodifiableList(values);
+    }
+
+    /**
+     * Get the values of all variants matching a storage, honouring its damage and nbt settings.
+     *
+     * @param storage the storage.
+     * @return the values, empty if none.
+     */
+    @NotNull
+    public List<V> get(@NotNull final ItemStorage storage)
+    {
+        return get(ItemKey.of(storage), ItemKey.Match.of(storage));
+    }
+
+    /**
+     * Removes all values.
+     */
+    public void clear()
+    {
+        for (final Map<Bucket, List<V>> map : buckets)
+        {
+            map.clear();
+        }
+    }
+
+    /**
+     * Map key of a variant within one mode, uses the precomputed hash of the mode.
+     *
+     * @param key   the variant.
+     * @param match the mode.
+     */
+    private record Bucket(ItemKey key, ItemKey.Match match)
+    {
+        @Override
+        public boolean equals(final Object o)
+        {
+            return o instanceof Bucket other && match == other.match && key.matches(other.key, match);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return key.hash(match);
+        }
+    }
+}
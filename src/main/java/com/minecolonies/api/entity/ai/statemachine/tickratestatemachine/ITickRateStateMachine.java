@@ -35,6 +35,13 @@ public interface ITickRateStateMachine<S extends IState> extends IStateMachine<I
      */
     void setTickRate(final int tickRate);
 
+    /**
+     * Sets the name the transitions of this state machine are recorded under by the {@link StateMachineProfiler}.
+     *
+     * @param name the name, e.g. the class owning the state machine.
+     */
+    void setProfilingName(@NotNull String name);
+
     /**
      * Sets the delay to next execution for the currently executed transition
      *
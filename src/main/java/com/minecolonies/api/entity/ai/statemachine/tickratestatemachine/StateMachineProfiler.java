@@ -0,0 +1,312 @@
+package com.minecolonies.api.entity.ai.statemachine.tickratestatemachine;
+
+import com.minecolonies.api.entity.ai.statemachine.states.IState;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in profiler of the transitions run by {@link TickRateStateMachine}s. While enabled, the time of every transition which was due is recorded per state
+ * machine, per transition, per colony and per job type, as count, total, max and a histogram of power of two nanosecond buckets.
+ * The colony and job type are taken from the scope the state machine is ticked in, see {@link #enterScope(int, String)}.
+ * State machines ticked from within a transition of another one are subtracted from the time of the outer transition, so all recorded times are self times and
+ * add up to the time actually spent.
+ * While disabled the state machines only read the enabled flag once per tick.
+ */
+public final class StateMachineProfiler
+{
+    /**
+     * Number of histogram buckets, bucket i counts durations below 2^i nanoseconds, the last one also all longer ones.
+     */
+    public static final int BUCKETS = 40;
+
+    /**
+     * Scope of state machines ticked outside of a colony.
+     */
+    public static final Scope NO_SCOPE = new Scope(-1, "none");
+
+    /**
+     * Whether transitions are recorded.
+     */
+    private static volatile boolean enabled = false;
+
+    /**
+     * Scope and nesting of the state machines ticked on the current thread.
+     */
+    private static final ThreadLocal<ThreadState> threadState = ThreadLocal.withInitial(ThreadState::new);
+
+    /**
+     * Recorded stats, by state machine name, by transition, by colony id and by job type.
+     */
+    private static final Map<String, Stats>        machines    = new ConcurrentHashMap<>();
+    private static final Map<TransitionKey, Stats> transitions = new ConcurrentHashMap<>();
+    private static final Map<Integer, Stats>       colonies    = new ConcurrentHashMap<>();
+    private static final Map<String, Stats>        jobs        = new ConcurrentHashMap<>();
+
+    private StateMachineProfiler()
+    {
+        throw new IllegalStateException("Tried to initialize: StateMachineProfiler but this is a Utility class.");
+    }
+
+    /**
+     * Check if transitions are recorded.
+     *
+     * @return true if so.
+     */
+    public static boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * Starts or stops recording, keeps the recorded stats.
+     *
+     * @param enable true to start.
+     */
+    public static void setEnabled(final boolean enable)
+    {
+        enabled = enable;
+    }
+
+    /**
+     * Drops all recorded stats.
+     */
+    public static void reset()
+    {
+        machines.clear();
+        transitions.clear();
+        colonies.clear();
+        jobs.clear();
+    }
+
+    /**
+     * Sets the colony and job type the state machines ticked next on this thread belong to.
+     *
+     * @param colonyId the colony id.
+     * @param job      the job type.
+     * @return the previous scope to restore with {@link #exitScope(Scope)}, null if not enabled.
+     */
+    @Nullable
+    public static Scope enterScope(final int colonyId, @NotNull final String job)
+    {
+        if (!enabled)
+        {
+            return null;
+        }
+
+        final ThreadState state = threadState.get();
+        final Scope previous = state.scope;
+        state.scope = new Scope(colonyId, job);
+        return previous;
+    }
+
+    /**
+     * Restores the scope from before {@link #enterScope(int, String)}.
+     *
+     * @param previous the previous scope.
+     */
+    public static void exitScope(@Nullable final Scope previous)
+    {
+        if (previous != null)
+        {
+            threadState.get().scope = previous;
+        }
+    }
+
+    /**
+     * Called before a transition runs.
+     *
+     * @return the time recorded so far by the enclosing transition, to pass to {@link #record}.
+     */
+    static long begin()
+    {
+        final ThreadState state = threadState.get();
+        final long outer = state.nestedNanos;
+        state.nestedNanos = 0;
+        return outer;
+    }
+
+    /**
+     * Records the run of a transition.
+     *
+     * @param machine the name of the state machine.
+     * @param state   the state the transition was checked in.
+     * @param list    the transition list, the state or event type.
+     * @param index   the position of the transition within its list.
+     * @param outer   the value returned by {@link #begin()}.
+     * @param nanos   the time taken, including nested state machines.
+     */
+    static void record(final String machine, final IState state, final String list, final int index, final long outer, final long nanos)
+    {
+        final ThreadState current = threadState.get();
+        final long self = nanos - current.nestedNanos;
+        current.nestedNanos = outer + nanos;
+
+        machines.computeIfAbsent(machine, k -> new Stats()).add(self);
+        transitions.computeIfAbsent(new TransitionKey(machine, state, list, index), k -> new Stats()).add(self);
+        if (current.scope != NO_SCOPE)
+        {
+            colonies.computeIfAbsent(current.scope.colonyId(), k -> new Stats()).add(self);
+        }
+        jobs.computeIfAbsent(current.scope.job(), k -> new Stats()).add(self);
+    }
+
+    /**
+     * Get the stats by state machine name.
+     *
+     * @return the stats.
+     */
+    public static Map<String, Stats> getMachines()
+    {
+        return machines;
+    }
+
+    /**
+     * Get the stats by transition.
+     *
+     * @return the stats.
+     */
+    public static Map<TransitionKey, Stats> getTransitions()
+    {
+        return transitions;
+    }
+
+    /**
+     * Get the stats by colony id.
+     *
+     * @return the stats.
+     */
+    public static Map<Integer, Stats> getColonies()
+    {
+        return colonies;
+    }
+
+    /**
+     * Get the stats by job type.
+     *
+     * @return the stats.
+     */
+    public static Map<String, Stats> getJobs()
+    {
+        return jobs;
+    }
+
+    /**
+     * Profiling state of one thread.
+     */
+    private static class ThreadState
+    {
+        /**
+         * The scope state machines are ticked in.
+         */
+        private Scope scope = NO_SCOPE;
+
+        /**
+         * Time of the transitions which ran within the current transition.
+         */
+        private long nestedNanos = 0;
+    }
+
+    /**
+     * The colony and job type state machines are ticked for.
+     *
+     * @param colonyId the colony id.
+     * @param job      the job type.
+     */
+    public record Scope(int colonyId, String job)
+    {
+    }
+
+    /**
+     * Identifies a transition by the state machine and its position in the machine.
+     *
+     * @param machine the name of the state machine.
+     * @param state   the state it was checked in.
+     * @param list    the transition list, the state or event type.
+     * @param index   the position within the list.
+     */
+    public record TransitionKey(String machine, IState state, String list, int index)
+    {
+        @Override
+        public String toString()
+        {
+            return machine + "/" + state + "/" + list + "#" + index;
+        }
+    }
+
+    /**
+     * Recorded durations of one key.
+     */
+    public static class Stats
+    {
+        private final LongAdder       count     = new LongAdder();
+        private final LongAdder       nanos     = new LongAdder();
+        private final LongAccumulator maxNanos  = new LongAccumulator(Math::max, 0);
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+        /**
+         * Adds a duration.
+         *
+         * @param duration the duration in nanoseconds.
+         */
+        void add(final long duration)
+        {
+            count.increment();
+            nanos.add(duration);
+            maxNanos.accumulate(duration);
+            histogram.incrementAndGet(Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(duration)));
+        }
+
+        public long getCount()
+        {
+            return count.sum();
+        }
+
+        public long getTotalNanos()
+        {
+            return nanos.sum();
+        }
+
+        public long getMaxNanos()
+        {
+            return maxNanos.get();
+        }
+
+        /**
+         * Get the number of durations in a histogram bucket.
+         *
+         * @param bucket the bucket, durations below 2^bucket nanoseconds.
+         * @return the number.
+         */
+        public long getBucket(final int bucket)
+        {
+            return histogram.get(bucket);
+        }
+
+        /**
+         * Get the upper bound of the histogram bucket a percentile of the durations falls into.
+         *
+         * @param percentile the percentile, between 0 and 1.
+         * @return the bound in nanoseconds.
+         */
+        public long getPercentileNanos(final double percentile)
+        {
+            final long target = (long) Math.ceil(getCount() * percentile);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++)
+            {
+                seen += histogram.get(i);
+                if (seen >= target)
+                {
+                    return 1L << i;
+                }
+            }
+            return getMaxNanos();
+        }
+    }
+}
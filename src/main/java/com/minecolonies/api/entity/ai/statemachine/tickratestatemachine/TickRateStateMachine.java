@@ -36,6 +36,17 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
     private final List<ITickingTransition<S>> stateBlockingTransitions;
     private final List<ITickingTransition<S>> eventTransitions;
 
+    /**
+     * Name the transitions of this state machine are profiled under.
+     */
+    private String profilingName;
+
+    /**
+     * Transition list and position of the transition checked while profiling, null while not profiling.
+     */
+    private String profiledList  = null;
+    private int    profiledIndex = 0;
+
     /**
      * Construct a new StateMachine
      *
@@ -53,6 +64,7 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
         this.eventTransitionMap.put(AIBlockingEventType.STATE_BLOCKING, stateBlockingTransitions);
         eventTransitions = new ArrayList<>();
         this.eventTransitionMap.put(AIBlockingEventType.EVENT, eventTransitions);
+        profilingName = initialState instanceof Enum<?> state ? state.getDeclaringClass().getSimpleName() : initialState.getClass().getSimpleName();
     }
 
     /**
@@ -73,6 +85,12 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
     @Override
     public void tick()
     {
+        if (StateMachineProfiler.isEnabled())
+        {
+            tickProfiled();
+            return;
+        }
+
         for (int i = 0, aiBlockingTransitionsSize = aiBlockingTransitions.size(); i < aiBlockingTransitionsSize; i++)
         {
             if (checkTransition(aiBlockingTransitions.get(i)))
@@ -106,6 +124,48 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
         }
     }
 
+    /**
+     * Same as {@link #tick()}, but records which transition of which list is checked.
+     */
+    private void tickProfiled()
+    {
+        try
+        {
+            if (checkProfiled(aiBlockingTransitions, AIBlockingEventType.AI_BLOCKING.name())
+                  || checkProfiled(eventTransitions, AIBlockingEventType.EVENT.name())
+                  || checkProfiled(stateBlockingTransitions, AIBlockingEventType.STATE_BLOCKING.name()))
+            {
+                return;
+            }
+            checkProfiled(currentStateTransitions, getState().toString());
+        }
+        finally
+        {
+            profiledList = null;
+        }
+    }
+
+    /**
+     * Checks the transitions of a list while profiling.
+     *
+     * @param transitions the transitions.
+     * @param list        the name of the list.
+     * @return true if a transition worked and we should stop executing this tick
+     */
+    private boolean checkProfiled(final List<ITickingTransition<S>> transitions, final String list)
+    {
+        profiledList = list;
+        for (int i = 0, size = transitions.size(); i < size; i++)
+        {
+            profiledIndex = i;
+            if (checkTransition(transitions.get(i)))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Check the condition for a transition
      *
@@ -123,7 +183,19 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
 
         transition.setTicksToUpdate((int) (transition.getTickRate() / slownessFactor));
         executedTransition = transition;
-        return super.checkTransition(transition);
+        if (profiledList == null)
+        {
+            return super.checkTransition(transition);
+        }
+
+        final S state = getState();
+        final String list = profiledList;
+        final int index = profiledIndex;
+        final long outer = StateMachineProfiler.begin();
+        final long start = System.nanoTime();
+        final boolean result = super.checkTransition(transition);
+        StateMachineProfiler.record(profilingName, state, list, index, outer, System.nanoTime() - start);
+        return result;
     }
 
     @Override
@@ -138,6 +210,12 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
         this.tickRate = tickRate;
     }
 
+    @Override
+    public void setProfilingName(@NotNull final String name)
+    {
+        this.profilingName = name;
+    }
+
     @Override
     public void setCurrentDelay(final int ticksToNext)
     {
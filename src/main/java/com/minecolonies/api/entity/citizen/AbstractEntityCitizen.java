@@ -11,6 +11,7 @@ import com.minecolonies.api.colony.requestsystem.location.ILocation;
 import com.minecolonies.api.entity.ai.statemachine.states.EntityState;
 import com.minecolonies.api.entity.ai.statemachine.states.IState;
 import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.ITickRateStateMachine;
+import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.StateMachineProfiler;
 import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickRateStateMachine;
 import com.minecolonies.api.entity.citizen.citizenhandlers.*;
 import com.minecolonies.api.entity.other.MinecoloniesMinecart;
@@ -423,13 +424,28 @@ public abstract class AbstractEntityCitizen extends AbstractCivilianEntity imple
         return super.isPushable();
     }
 
+    /**
+     * Get the job type the state machines of this citizen are profiled under.
+     *
+     * @return the job registry name.
+     */
+    private String getProfilingJobName()
+    {
+        final IJob<?> job = getCitizenJobHandler().getColonyJob();
+        return job == null ? "unemployed" : job.getJobRegistryEntry().getKey().toString();
+    }
+
     @Override
     public void aiStep()
     {
         super.aiStep();
-        if (tickCount % ENTITY_AI_TICKRATE == 0)
+        if (tickCount % entityStateController.getTickRate() == 0)
         {
+            final StateMachineProfiler.Scope scope = StateMachineProfiler.isEnabled() && !level.isClientSide
+                                                       ? StateMachineProfiler.enterScope(getCitizenColonyHandler().getColonyId(), getProfilingJobName())
+                                                       : null;
             entityStateController.tick();
+            StateMachineProfiler.exitScope(scope);
         }
         updateSwingTime();
         if (collisionCounter > 0)
@@ -203,6 +203,7 @@ public abstract class AbstractEntityRaiderMob extends AbstractFastMinecoloniesEn
         this.goalSelector = new CustomGoalSelector(this.goalSelector);
         this.targetSelector = new CustomGoalSelector(this.targetSelector);
         this.xpReward = BARBARIAN_EXP_DROP;
+        ai.setProfilingName(getClass().getSimpleName());
         IMinecoloniesAPI.getInstance().getMobAIRegistry().applyToMob(this);
         this.setInvulnerable(true);
         RaiderMobUtils.setEquipment(this);
@@ -20,7 +20,6 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.block.entity.ChestBlockEntity;
 import net.minecraftforge.common.capabilities.ForgeCapabilities;
 import net.minecraftforge.common.capabilities.ICapabilityProvider;
 import net.minecraftforge.items.IItemHandler;
@@ -737,31 +736,8 @@ public class InventoryUtils
      */
     public static int hasBuildingEnoughElseCount(@NotNull final IBuilding provider, @NotNull final ItemStorage stack, final int count)
     {
-        int totalCount = 0;
-        final Level world = provider.getColony().getWorld();
-
-        for (final BlockPos pos : provider.getContainers())
-        {
-            if (WorldUtil.isBlockLoaded(world, pos))
-            {
-                final BlockEntity entity = world.getBlockEntity(pos);
-                if (entity instanceof TileEntityRack)
-                {
-                    totalCount += ((TileEntityRack) entity).getCount(stack);
-                }
-                else if (entity instanceof ChestBlockEntity)
-                {
-                    totalCount += getItemCountInProvider(entity, itemStack -> ItemStackUtils.compareItemStacksIgnoreStackSize(itemStack, stack.getItemStack(), !stack.ignoreDamageValue(), !stack.ignoreNBT() ));
-                }
-
-                if (totalCount > count)
-                {
-                    return Integer.MAX_VALUE;
-                }
-            }
-        }
-
-        return totalCount;
+        final int totalCount = provider.getItemCount(stack);
+        return totalCount > count ? Integer.MAX_VALUE : totalCount;
     }
 
     /**
@@ -773,27 +749,7 @@ public class InventoryUtils
      */
     public static int hasBuildingEnoughElseCount(@NotNull final IBuilding provider, @NotNull final Predicate<ItemStack> stack, final int count)
     {
-        int totalCount = 0;
-        final Level world = provider.getColony().getWorld();
-
-        for (final BlockPos pos : provider.getContainers())
-        {
-            if (WorldUtil.isBlockLoaded(world, pos))
-            {
-                final BlockEntity entity = world.getBlockEntity(pos);
-                if (entity instanceof TileEntityRack)
-                {
-                    totalCount += ((TileEntityRack) entity).getItemCount(stack);
-                }
-
-                if (totalCount > count)
-                {
-                    return totalCount;
-                }
-            }
-        }
-
-        return totalCount;
+        return provider.getItemCount(stack);
     }
 
     /**
@@ -824,26 +780,7 @@ public class InventoryUtils
      */
     public static int getCountFromBuilding(@NotNull final IBuilding provider, @NotNull final ItemStorage stack)
     {
-        int totalCount = 0;
-        final Level world = provider.getColony().getWorld();
-
-        for (final BlockPos pos : provider.getContainers())
-        {
-            if (WorldUtil.isBlockLoaded(world, pos))
-            {
-                final BlockEntity entity = world.getBlockEntity(pos);
-                if (entity instanceof TileEntityRack)
-                {
-                    totalCount += ((TileEntityRack) entity).getCount(stack);
-                }
-                else if (entity instanceof ChestBlockEntity)
-                {
-                    totalCount += getItemCountInProvider(entity, itemStack -> ItemStackUtils.compareItemStacksIgnoreStackSize(itemStack, stack.getItemStack()));
-                }
-            }
-        }
-
-        return totalCount;
+        return provider.getItemCount(stack);
     }
 
     /**
@@ -905,22 +842,7 @@ public class InventoryUtils
      */
     public static int getCountFromBuilding(@NotNull final IBuilding provider, @NotNull final Predicate<ItemStack> predicate)
     {
-        int totalCount = 0;
-        final Level world = provider.getColony().getWorld();
-
-        for (final BlockPos pos : provider.getContainers())
-        {
-            if (WorldUtil.isBlockLoaded(world, pos))
-            {
-                final BlockEntity entity = world.getBlockEntity(pos);
-                if (entity instanceof TileEntityRack)
-                {
-                    totalCount += ((TileEntityRack) entity).getItemCount(predicate);
-                }
-            }
-        }
-
-        return totalCount;
+        return provider.getItemCount(predicate);
     }
 
     /**
@@ -933,35 +855,7 @@ public class InventoryUtils
      */
     public static int getCountFromBuildingWithLimit(@NotNull final IBuilding provider, @NotNull final Predicate<ItemStack> predicate, final Function<ItemStack, Integer> limit)
     {
-        final Level world = provider.getColony().getWorld();
-
-        final Map<ItemStorage, Integer> allMatching = new HashMap<>();
-
-        for (final BlockPos pos : provider.getContainers())
-        {
-            if (WorldUtil.isBlockLoaded(world, pos))
-            {
-                final BlockEntity entity = world.getBlockEntity(pos);
-                if (entity instanceof TileEntityRack)
-                {
-                    for (final Map.Entry<ItemStorage, Integer> entry : ((TileEntityRack) entity).getAllContent().entrySet())
-                    {
-                        if (predicate.test(entry.getKey().getItemStack()))
-                        {
-                            allMatching.put(entry.getKey(), allMatching.getOrDefault(entry.getKey(), 0) + entry.getValue());
-                        }
-                    }
-                }
-            }
-        }
-
-        int totalCount = 0;
-        for (final Map.Entry<ItemStorage, Integer> entry : allMatching.entrySet())
-        {
-            totalCount += Math.min(limit.apply(entry.getKey().getItemStack()), entry.getValue());
-        }
-
-        return totalCount;
+        return provider.getItemCountWithLimit(predicate, limit);
     }
 
     /**
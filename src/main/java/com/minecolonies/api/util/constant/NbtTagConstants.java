@@ -397,6 +397,16 @@ public final class NbtTagConstants
      */
     public static final String TAG_CHUNK_STORAGE = "chunk";
 
+    /**
+     * Tag for the colony claim index of a world.
+     */
+    public static final String TAG_CLAIM_INDEX = "claimIndex";
+
+    /**
+     * Tag for the chunks statically claimed by their owner.
+     */
+    public static final String TAG_STATIC_CLAIMS = "staticClaims";
+
     /**
      * Var for first pos string.
      */
@@ -118,6 +118,10 @@ public class CommandTranslationConstants
     @NonNls
     public static final String COMMAND_BACKUP_FAILED                         = "com.minecolonies.command.backup.failed";
     @NonNls
+    public static final String COMMAND_BACKUP_RESTORE_SUCCESS                = "com.minecolonies.command.backup.restore.success";
+    @NonNls
+    public static final String COMMAND_BACKUP_RESTORE_FAILED                 = "com.minecolonies.command.backup.restore.failed";
+    @NonNls
     public static final String COMMAND_HELP_INFO_WIKI                        = "com.minecolonies.command.help.wiki";
     @NonNls
     public static final String COMMAND_HELP_INFO_DISCORD                     = "com.minecolonies.command.help.discord";
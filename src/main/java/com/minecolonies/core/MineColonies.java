@@ -34,6 +34,7 @@ import com.minecolonies.core.placementhandlers.main.SurvivalHandler;
 import com.minecolonies.core.recipes.FoodIngredient;
 import com.minecolonies.core.recipes.PlantIngredient;
 import com.minecolonies.core.structures.MineColoniesStructures;
+import com.minecolonies.core.util.WorkerUtil;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.capabilities.Capability;
@@ -108,7 +109,10 @@ public class MineColonies
         LanguageHandler.loadLangPath("assets/minecolonies/lang/%s.json"); // hotfix config comments, it's ugly bcs it's gonna be replaced
         config = new Configuration();
 
-        Consumer<TagsUpdatedEvent> onTagsLoaded = (event) -> ModTags.tagsLoaded = true;
+        Consumer<TagsUpdatedEvent> onTagsLoaded = (event) -> {
+            ModTags.tagsLoaded = true;
+            WorkerUtil.clearToolClassifications();
+        };
         MinecraftForge.EVENT_BUS.addListener(onTagsLoaded);
 
         Mod.EventBusSubscriber.Bus.FORGE.bus().get().register(EventHandler.class);
@@ -40,9 +40,10 @@ import com.minecolonies.core.colony.pvp.AttackingPlayer;
 import com.minecolonies.core.colony.requestsystem.management.manager.StandardRequestManager;
 import com.minecolonies.core.colony.workorders.WorkManager;
 import com.minecolonies.core.datalistener.CitizenNameListener;
+import com.minecolonies.core.entity.pathfinding.ColonyNavigationGraph;
+import com.minecolonies.core.entity.pathfinding.ColonyPathCache;
 import com.minecolonies.core.network.messages.client.colony.ColonyViewRemoveWorkOrderMessage;
 import com.minecolonies.core.quests.QuestManager;
-import com.minecolonies.api.util.ColonyUtils;
 import net.minecraft.ChatFormatting;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.registries.BuiltInRegistries;
@@ -64,7 +65,6 @@ import net.minecraft.world.level.block.entity.BannerPatterns;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.scores.PlayerTeam;
-import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.registries.ForgeRegistries;
 import org.jetbrains.annotations.NotNull;
@@ -132,6 +132,16 @@ public class Colony implements IColony
      */
     private final Map<BlockPos, BlockState> wayPoints = new HashMap<>();
 
+    /**
+     * Coarse navigation graph over the buildings and waypoints of the colony.
+     */
+    private final ColonyNavigationGraph navigationGraph = new ColonyNavigationGraph(this);
+
+    /**
+     * Cache of paths citizens walked to buildings of the colony.
+     */
+    private final ColonyPathCache pathCache = new ColonyPathCache(this);
+
     /**
      * Work Manager of the colony (Request System).
      */
@@ -374,18 +384,36 @@ public class Colony implements IColony
             Log.getLogger().warn("Exception triggered in colony:"+getID()+" in dimension:"+getDimension().location(), e);
             colonyStateMachine.setCurrentDelay(20 * 60 * 5);
         });
+        colonyStateMachine.setProfilingName("Colony");
 
-        colonyStateMachine.addTransition(new TickingTransition<>(INACTIVE, () -> true, this::updateState, UPDATE_STATE_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition<>(UNLOADED, () -> true, this::updateState, UPDATE_STATE_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, () -> true, this::updateState, UPDATE_STATE_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, citizenManager::tickCitizenData, () -> ACTIVE, TICKS_SECOND * 3));
+        addStaggeredTransition(new TickingTransition<>(INACTIVE, () -> true, this::updateState, UPDATE_STATE_INTERVAL), 0);
+        addStaggeredTransition(new TickingTransition<>(UNLOADED, () -> true, this::updateState, UPDATE_STATE_INTERVAL), 0);
+        addStaggeredTransition(new TickingTransition<>(ACTIVE, () -> true, this::updateState, UPDATE_STATE_INTERVAL), 0);
+        addStaggeredTransition(new TickingTransition<>(ACTIVE, citizenManager::tickCitizenData, () -> ACTIVE, TICKS_SECOND * 3), 1);
 
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::updateSubscribers, () -> ACTIVE, UPDATE_SUBSCRIBERS_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::tickRequests, () -> ACTIVE, UPDATE_RS_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::checkDayTime, () -> ACTIVE, UPDATE_DAYTIME_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::updateWayPoints, () -> ACTIVE, CHECK_WAYPOINT_EVERY));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::worldTickSlow, () -> ACTIVE, MAX_TICKRATE));
-        colonyStateMachine.addTransition(new TickingTransition<>(UNLOADED, this::worldTickUnloaded, () -> UNLOADED, MAX_TICKRATE));
+        addStaggeredTransition(new TickingTransition<>(ACTIVE, this::updateSubscribers, () -> ACTIVE, UPDATE_SUBSCRIBERS_INTERVAL), 2);
+        addStaggeredTransition(new TickingTransition<>(ACTIVE, this::tickRequests, () -> ACTIVE, UPDATE_RS_INTERVAL), 3);
+        addStaggeredTransition(new TickingTransition<>(ACTIVE, this::checkDayTime, () -> ACTIVE, UPDATE_DAYTIME_INTERVAL), 4);
+        addStaggeredTransition(new TickingTransition<>(ACTIVE, this::updateWayPoints, () -> ACTIVE, CHECK_WAYPOINT_EVERY), 5);
+
+        // The slow manager updates are spread evenly over their interval instead of all running on the same tick
+        addStaggeredTransition(new TickingTransition<>(ACTIVE, this::worldTickSlow, () -> ACTIVE, MAX_TICKRATE), 0);
+        addStaggeredTransition(new TickingTransition<>(ACTIVE, this::tickCitizenManagers, () -> ACTIVE, MAX_TICKRATE), MAX_TICKRATE / 4);
+        addStaggeredTransition(new TickingTransition<>(ACTIVE, this::tickEventManagers, () -> ACTIVE, MAX_TICKRATE), MAX_TICKRATE / 2);
+        addStaggeredTransition(new TickingTransition<>(ACTIVE, this::tickWorkManagers, () -> ACTIVE, MAX_TICKRATE), MAX_TICKRATE * 3 / 4);
+        addStaggeredTransition(new TickingTransition<>(UNLOADED, this::worldTickUnloaded, () -> UNLOADED, MAX_TICKRATE), 0);
+    }
+
+    /**
+     * Adds a transition to the colony state machine, with its first run shifted by the colony id so the same work of different colonies does not line up.
+     *
+     * @param transition the transition.
+     * @param offset     the ticks to shift it by within the colony.
+     */
+    private void addStaggeredTransition(final TickingTransition<ColonyState> transition, final int offset)
+    {
+        transition.setTicksToUpdate(ColonyTickScheduler.getPhase(id, offset, transition.getTickRate()));
+        colonyStateMachine.addTransition(transition);
     }
 
     /**
@@ -449,15 +477,7 @@ public class Colony implements IColony
     private boolean worldTickSlow()
     {
         buildingManager.cleanUpBuildings(this);
-        citizenManager.onColonyTick(this);
-        visitorManager.onColonyTick(this);
-        updateAttackingPlayers();
-        eventManager.onColonyTick(this);
         buildingManager.onColonyTick(this);
-        graveManager.onColonyTick(this);
-        workManager.onColonyTick(this);
-        reproductionManager.onColonyTick(this);
-        questManager.onColonyTick();
 
         final long currTime = System.currentTimeMillis();
         if (lastOnlineTime != 0)
@@ -478,6 +498,44 @@ public class Colony implements IColony
         return false;
     }
 
+    /**
+     * Called every 500 ticks, updates the citizen related managers.
+     *
+     * @return false
+     */
+    private boolean tickCitizenManagers()
+    {
+        citizenManager.onColonyTick(this);
+        visitorManager.onColonyTick(this);
+        reproductionManager.onColonyTick(this);
+        return false;
+    }
+
+    /**
+     * Called every 500 ticks, updates the attackers, events and graves.
+     *
+     * @return false
+     */
+    private boolean tickEventManagers()
+    {
+        updateAttackingPlayers();
+        eventManager.onColonyTick(this);
+        graveManager.onColonyTick(this);
+        return false;
+    }
+
+    /**
+     * Called every 500 ticks, updates the work orders and quests.
+     *
+     * @return false
+     */
+    private boolean tickWorkManagers()
+    {
+        workManager.onColonyTick(this);
+        questManager.onColonyTick();
+        return false;
+    }
+
     /**
      * Check if we can unload the colony now.
      * Update chunk unload timer and releases chunks when it hits 0.
@@ -991,12 +1049,11 @@ public class Colony implements IColony
         if (w.dimension() == dimensionId)
         {
             this.world = w;
-            // Register a new event handler
+            // Create the permission handler, events get routed to it by the ColonyPermissionEventDispatcher
             if (eventHandler == null)
             {
                 eventHandler = new ColonyPermissionEventHandler(this);
                 questManager.onWorldLoad();
-                MinecraftForge.EVENT_BUS.register(eventHandler);
             }
             setColonyColor(this.colonyTeamColor);
         }
@@ -1019,10 +1076,6 @@ public class Colony implements IColony
             return;
         }
 
-        if (eventHandler != null)
-        {
-            MinecraftForge.EVENT_BUS.unregister(eventHandler);
-        }
         world = null;
     }
 
@@ -1150,6 +1203,27 @@ public class Colony implements IColony
         colonyStateMachine.tick();
     }
 
+    @Override
+    public void onWorldTick(@NotNull final TickEvent.LevelTickEvent event, final int elapsedTicks)
+    {
+        if (elapsedTicks <= 1)
+        {
+            onWorldTick(event);
+            return;
+        }
+
+        // Catch up on the deferred ticks, so due work runs now instead of every countdown shifting back
+        colonyStateMachine.setTickRate(elapsedTicks);
+        try
+        {
+            onWorldTick(event);
+        }
+        finally
+        {
+            colonyStateMachine.setTickRate(1);
+        }
+    }
+
     /**
      * Calculate randomly if the colony should update the citizens. By mean they update it at CLEANUP_TICK_INCREMENT.
      *
@@ -1185,6 +1259,7 @@ public class Colony implements IColony
                             || (world.isEmptyBlock(entry.getKey().below()) && !BlockUtils.isAnySolid(entry.getValue())))
                         {
                             wayPoints.remove(entry.getKey());
+                            navigationGraph.markDirty();
                             markDirty();
                         }
                     }
@@ -1240,9 +1315,7 @@ public class Colony implements IColony
             return false;
         }
 
-
-        final LevelChunk chunk = w.getChunkAt(pos);
-        return ColonyUtils.getOwningColony(chunk) == this.getID();
+        return ColonyClaimIndex.getOwningColony(w, pos) == this.getID();
     }
 
     @Override
@@ -1434,6 +1507,7 @@ public class Colony implements IColony
     public void addWayPoint(final BlockPos point, final BlockState block)
     {
         wayPoints.put(point, block);
+        navigationGraph.markDirty();
         this.markDirty();
     }
 
@@ -1469,6 +1543,26 @@ public class Colony implements IColony
         return new HashMap<>(wayPoints);
     }
 
+    /**
+     * Get the coarse navigation graph of the colony, used to plan long walks.
+     *
+     * @return the graph.
+     */
+    public ColonyNavigationGraph getNavigationGraph()
+    {
+        return navigationGraph;
+    }
+
+    /**
+     * Get the cache of paths to buildings of the colony.
+     *
+     * @return the cache.
+     */
+    public ColonyPathCache getPathCache()
+    {
+        return pathCache;
+    }
+
     /**
      * This sets whether or not a colony can be automatically deleted Via command, or an on-tick check.
      *
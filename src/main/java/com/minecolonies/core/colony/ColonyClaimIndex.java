@@ -0,0 +1,298 @@
+package com.minecolonies.core.colony;
+
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.IColonyTagCapability;
+import com.minecolonies.api.util.ColonyUtils;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.NO_COLONY_ID;
+import static com.minecolonies.api.util.constant.NbtTagConstants.*;
+
+/**
+ * Owning colony of every claimed chunk of one dimension. Kept in sync with the chunk capabilities by the {@link com.minecolonies.core.util.ChunkDataHelper}, also
+ * for claims of unloaded chunks which are only applied to the capability once the chunk loads. Answers position to colony queries without accessing the chunk.
+ */
+public class ColonyClaimIndex
+{
+    /**
+     * The indices of the loaded server levels.
+     */
+    private static final Map<ResourceKey<Level>, ColonyClaimIndex> indices = new ConcurrentHashMap<>();
+
+    /**
+     * Owning colony by chunk position.
+     */
+    private final Long2IntOpenHashMap owners = new Long2IntOpenHashMap();
+
+    /**
+     * Chunks whose owner also has a static claim on them, those stay owned when the building claims of the owner are removed.
+     */
+    private final LongOpenHashSet staticOwners = new LongOpenHashSet();
+
+    /**
+     * Whether the index was restored from disk, worlds from before the index start empty.
+     */
+    private boolean restored = false;
+
+    /**
+     * Create an empty index.
+     */
+    public ColonyClaimIndex()
+    {
+        owners.defaultReturnValue(NO_COLONY_ID);
+    }
+
+    /**
+     * Makes the index of a loaded server level available to lookups.
+     *
+     * @param level the level.
+     * @param index the index.
+     */
+    public static void register(@NotNull final Level level, @NotNull final ColonyClaimIndex index)
+    {
+        indices.put(level.dimension(), index);
+    }
+
+    /**
+     * Removes the index of an unloaded level.
+     *
+     * @param level the level.
+     */
+    public static void unregister(@NotNull final Level level)
+    {
+        indices.remove(level.dimension());
+    }
+
+    /**
+     * Get the index of a dimension.
+     *
+     * @param dimension the dimension.
+     * @return the index or null if the level is not loaded on the server.
+     */
+    @Nullable
+    public static ColonyClaimIndex get(@NotNull final ResourceKey<Level> dimension)
+    {
+        return indices.get(dimension);
+    }
+
+    /**
+     * Get the id of the colony owning a position. Uses the index on the server and the synced chunk claims on the client.
+     *
+     * @param level the level.
+     * @param pos   the position.
+     * @return the colony id or {@link com.minecolonies.api.util.constant.ColonyManagerConstants#NO_COLONY_ID}.
+     */
+    public static int getOwningColony(@NotNull final Level level, @NotNull final BlockPos pos)
+    {
+        return getOwningColony(level, SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+    }
+
+    /**
+     * Get the id of the colony owning a chunk. Uses the index on the server and the synced chunk claims on the client.
+     *
+     * @param level  the level.
+     * @param chunkX the chunk x coordinate.
+     * @param chunkZ the chunk z coordinate.
+     * @return the colony id or {@link com.minecolonies.api.util.constant.ColonyManagerConstants#NO_COLONY_ID}.
+     */
+    public static int getOwningColony(@NotNull final Level level, final int chunkX, final int chunkZ)
+    {
+        final ColonyClaimIndex index = level.isClientSide ? null : indices.get(level.dimension());
+        if (index == null)
+        {
+            return ColonyUtils.getOwningColony(level.getChunk(chunkX, chunkZ));
+        }
+        return index.owners.get(ChunkPos.asLong(chunkX, chunkZ));
+    }
+
+    /**
+     * Get the id of the colony owning a chunk.
+     *
+     * @param chunk the chunk position as long.
+     * @return the colony id or {@link com.minecolonies.api.util.constant.ColonyManagerConstants#NO_COLONY_ID}.
+     */
+    public int getOwningColony(final long chunk)
+    {
+        return owners.get(chunk);
+    }
+
+    /**
+     * Takes over the claims of a loaded chunk, the capability is authoritative over any prediction made while it was unloaded.
+     *
+     * @param chunk the chunk position as long.
+     * @param cap   the claim capability of the chunk.
+     */
+    public void update(final long chunk, @NotNull final IColonyTagCapability cap)
+    {
+        final int owner = cap.getOwningColony();
+        if (owner == NO_COLONY_ID)
+        {
+            owners.remove(chunk);
+            staticOwners.remove(chunk);
+            return;
+        }
+
+        owners.put(chunk, owner);
+        if (cap.getStaticClaimColonies().contains(owner))
+        {
+            staticOwners.add(chunk);
+        }
+        else
+        {
+            staticOwners.remove(chunk);
+        }
+    }
+
+    /**
+     * Predicts a static claim change of an unloaded chunk, the same way the capability will apply it on load.
+     * Once the owner drops its claim the chunk counts as unclaimed until loaded, even if other colonies claim it as well.
+     *
+     * @param chunk     the chunk position as long.
+     * @param id        the claiming colony.
+     * @param add       claim or unclaim.
+     * @param force     whether the colony takes over the chunk.
+     * @param dimension the dimension of the index.
+     */
+    public void onStaticClaim(final long chunk, final int id, final boolean add, final boolean force, @NotNull final ResourceKey<Level> dimension)
+    {
+        final int owner = owners.get(chunk);
+        if (add)
+        {
+            if (force || owner == NO_COLONY_ID || IColonyManager.getInstance().getColonyByDimension(owner, dimension) == null)
+            {
+                owners.put(chunk, id);
+                staticOwners.add(chunk);
+            }
+            else if (owner == id)
+            {
+                staticOwners.add(chunk);
+            }
+        }
+        else if (owner == id)
+        {
+            owners.remove(chunk);
+            staticOwners.remove(chunk);
+        }
+    }
+
+    /**
+     * Predicts a building claim change of an unloaded chunk, the same way the capability will apply it on load.
+     *
+     * @param chunk the chunk position as long.
+     * @param id    the claiming colony.
+     * @param add   claim or unclaim.
+     */
+    public void onBuildingClaim(final long chunk, final int id, final boolean add)
+    {
+        final int owner = owners.get(chunk);
+        if (add)
+        {
+            if (owner == NO_COLONY_ID)
+            {
+                owners.put(chunk, id);
+            }
+        }
+        else if (owner == id && !staticOwners.contains(chunk))
+        {
+            // Other buildings of the colony might still claim it, the capability corrects this on load
+            owners.remove(chunk);
+        }
+    }
+
+    /**
+     * Drops all chunks owned by a deleted colony.
+     *
+     * @param id the colony id.
+     */
+    public void removeColony(final int id)
+    {
+        owners.long2IntEntrySet().removeIf(entry -> {
+            if (entry.getIntValue() == id)
+            {
+                staticOwners.remove(entry.getLongKey());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Whether the index was restored from disk.
+     *
+     * @return false for worlds saved before the index existed.
+     */
+    public boolean isRestored()
+    {
+        return restored;
+    }
+
+    /**
+     * Get the number of claimed chunks.
+     *
+     * @return the count.
+     */
+    public int size()
+    {
+        return owners.size();
+    }
+
+    /**
+     * Write the index to nbt.
+     *
+     * @return the compound.
+     */
+    public CompoundTag write()
+    {
+        final long[] chunks = new long[owners.size()];
+        final int[] ids = new int[owners.size()];
+        int i = 0;
+        for (final Long2IntMap.Entry entry : owners.long2IntEntrySet())
+        {
+            chunks[i] = entry.getLongKey();
+            ids[i] = entry.getIntValue();
+            i++;
+        }
+
+        final CompoundTag compound = new CompoundTag();
+        compound.putLongArray(TAG_CHUNK_STORAGE, chunks);
+        compound.putIntArray(TAG_COLONIES, ids);
+        compound.putLongArray(TAG_STATIC_CLAIMS, staticOwners.toLongArray());
+        return compound;
+    }
+
+    /**
+     * Read the index from nbt.
+     *
+     * @param compound the compound.
+     */
+    public void read(@NotNull final CompoundTag compound)
+    {
+        owners.clear();
+        staticOwners.clear();
+
+        final long[] chunks = compound.getLongArray(TAG_CHUNK_STORAGE);
+        final int[] ids = compound.getIntArray(TAG_COLONIES);
+        for (int i = 0; i < Math.min(chunks.length, ids.length); i++)
+        {
+            owners.put(chunks[i], ids[i]);
+        }
+        for (final long chunk : compound.getLongArray(TAG_STATIC_CLAIMS))
+        {
+            staticOwners.add(chunk);
+        }
+        restored = true;
+    }
+}
@@ -29,6 +29,7 @@ import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraftforge.common.MinecraftForge;
@@ -178,15 +179,6 @@ public final class ColonyManager implements IColonyManager
                 }
             }
 
-            try
-            {
-                MinecraftForge.EVENT_BUS.unregister(colony.getEventHandler());
-            }
-            catch (final NullPointerException e)
-            {
-                Log.getLogger().warn("Can't unregister the event handler twice");
-            }
-
             Log.getLogger().info("Deleting colony: " + colony.getID());
 
             final IColonyManagerCapability cap = world.getCapability(COLONY_MANAGER_CAP, null).resolve().orElse(null);
@@ -197,6 +189,7 @@ public final class ColonyManager implements IColonyManager
             }
 
             cap.deleteColony(id);
+            cap.getClaimIndex().removeColony(id);
             BackUpHelper.markColonyDeleted(colony.getID(), colony.getDimension());
             colony.getImportantMessageEntityPlayers()
               .forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewRemoveMessage(colony.getID(), colony.getDimension()), (ServerPlayer) player));
@@ -281,8 +274,7 @@ public final class ColonyManager implements IColonyManager
         {
             return null;
         }
-        final LevelChunk centralChunk = w.getChunkAt(pos);
-        final int id = ColonyUtils.getOwningColony(centralChunk);
+        final int id = ColonyClaimIndex.getOwningColony(w, pos);
         if (id == NO_COLONY_ID)
         {
             return null;
@@ -452,8 +444,7 @@ public final class ColonyManager implements IColonyManager
     @Override
     public IColony getClosestColony(@NotNull final Level w, @NotNull final BlockPos pos)
     {
-        final LevelChunk chunk = w.getChunkAt(pos);
-        final int owningColony = ColonyUtils.getOwningColony(chunk);
+        final int owningColony = ColonyClaimIndex.getOwningColony(w, pos);
         if (owningColony != NO_COLONY_ID)
         {
             return getColonyByWorld(owningColony, w);
@@ -596,7 +587,7 @@ public final class ColonyManager implements IColonyManager
     {
         if (event.phase == TickEvent.Phase.END)
         {
-            getColonies(event.level).forEach(c -> c.onWorldTick(event));
+            ColonyTickScheduler.tick(event, getColonies(event.level));
         }
     }
 
@@ -618,10 +609,44 @@ public final class ColonyManager implements IColonyManager
                 c.onWorldLoad(world);
             }
 
+            final IColonyManagerCapability cap = world.getCapability(COLONY_MANAGER_CAP, null).resolve().orElse(null);
+            if (cap != null)
+            {
+                if (!cap.getClaimIndex().isRestored() && cap.getClaimIndex().size() == 0)
+                {
+                    seedClaimIndex(world, cap.getClaimIndex());
+                }
+                ColonyClaimIndex.register(world, cap.getClaimIndex());
+            }
+
             MinecraftForge.EVENT_BUS.post(new ColonyManagerLoadedEvent(this));
         }
     }
 
+    /**
+     * Fills the claim index of a world saved before the index existed with the initial claims of its colonies.
+     * Building claims and overlaps get picked up as the chunks load.
+     *
+     * @param world the world.
+     * @param index the empty index.
+     */
+    private void seedClaimIndex(@NotNull final Level world, @NotNull final ColonyClaimIndex index)
+    {
+        final int range = getConfig().getServer().initialColonySize.get();
+        for (@NotNull final IColony colony : getColonies(world))
+        {
+            final int centerX = colony.getCenter().getX() >> 4;
+            final int centerZ = colony.getCenter().getZ() >> 4;
+            for (int chunkX = centerX - range; chunkX <= centerX + range; chunkX++)
+            {
+                for (int chunkZ = centerZ - range; chunkZ <= centerZ + range; chunkZ++)
+                {
+                    index.onStaticClaim(ChunkPos.asLong(chunkX, chunkZ), colony.getID(), true, false, world.dimension());
+                }
+            }
+        }
+    }
+
     @Override
     public void setCapLoaded()
     {
@@ -643,8 +668,11 @@ public final class ColonyManager implements IColonyManager
             if (hasColonies)
             {
                 BackUpHelper.backupColonyData();
+                BackUpHelper.awaitBackup();
             }
 
+            ColonyClaimIndex.unregister(world);
+
             MinecraftForge.EVENT_BUS.post(new ColonyManagerUnloadedEvent(this));
         }
     }
@@ -788,8 +816,7 @@ public final class ColonyManager implements IColonyManager
     @Override
     public boolean isCoordinateInAnyColony(@NotNull final Level world, final BlockPos pos)
     {
-        final LevelChunk centralChunk = world.getChunkAt(pos);
-        return ColonyUtils.getOwningColony(centralChunk) != NO_COLONY_ID;
+        return ColonyClaimIndex.getOwningColony(world, pos) != NO_COLONY_ID;
     }
 
     @Override
@@ -0,0 +1,165 @@
+package com.minecolonies.core.colony;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.StateMachineProfiler;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.event.TickEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+import static com.minecolonies.core.MineColonies.getConfig;
+
+/**
+ * Ticks the colonies of all levels within a shared time budget per server tick. Colonies which do not fit into the budget any more are deferred to the next
+ * tick, where ticking starts with them and catches up on the missed ticks, so the cost of many colonies is spread over several ticks instead of all of it
+ * hitting one tick.
+ * Also hands out the phase offsets which keep the periodic work of different colonies from lining up on the same ticks.
+ */
+public final class ColonyTickScheduler
+{
+    /**
+     * Ticks a colony may be deferred in a row before it is ticked regardless of the budget.
+     */
+    private static final int MAX_DEFERRED_TICKS = 10;
+
+    /**
+     * Multiplier spreading consecutive colony ids evenly over the phases of an interval.
+     */
+    private static final int PHASE_SPREAD = 0x9E3779B9;
+
+    /**
+     * Job type the colony state machine is profiled under.
+     */
+    private static final String PROFILING_SCOPE = "colony";
+
+    /**
+     * Index of the colony each level starts ticking with.
+     */
+    private static final Map<ResourceKey<Level>, Integer> cursors = new HashMap<>();
+
+    /**
+     * Cost of each colony.
+     */
+    private static final Map<IColony, Cost> costs = new WeakHashMap<>();
+
+    /**
+     * Game time of the server tick the spent time belongs to.
+     */
+    private static long currentTick = -1;
+
+    /**
+     * Nanoseconds spent on colony ticks in the current server tick.
+     */
+    private static long spentNanos = 0;
+
+    private ColonyTickScheduler()
+    {
+        throw new IllegalStateException("Tried to initialize: ColonyTickScheduler but this is a Utility class.");
+    }
+
+    /**
+     * Ticks the colonies of a level as far as the budget allows.
+     *
+     * @param event    the level tick event.
+     * @param colonies the colonies of the level.
+     */
+    public static void tick(@NotNull final TickEvent.LevelTickEvent event, @NotNull final List<IColony> colonies)
+    {
+        if (colonies.isEmpty())
+        {
+            return;
+        }
+
+        // All levels tick at the same game time within one server tick
+        final long gameTime = event.level.getGameTime();
+        if (gameTime != currentTick)
+        {
+            currentTick = gameTime;
+            spentNanos = 0;
+        }
+
+        final long budget = getConfig().getServer().colonyTickBudget.get() * 1000000L;
+        final int size = colonies.size();
+        final int start = Math.floorMod(cursors.getOrDefault(event.level.dimension(), 0), size);
+        int nextStart = -1;
+
+        for (int i = 0; i < size; i++)
+        {
+            final int index = (start + i) % size;
+            final IColony colony = colonies.get(index);
+            final Cost cost = costs.computeIfAbsent(colony, c -> new Cost());
+
+            if (spentNanos >= budget && cost.deferredInRow < MAX_DEFERRED_TICKS)
+            {
+                cost.deferredInRow++;
+                cost.deferred++;
+                if (nextStart == -1)
+                {
+                    nextStart = index;
+                }
+                continue;
+            }
+
+            final StateMachineProfiler.Scope scope = StateMachineProfiler.enterScope(colony.getID(), PROFILING_SCOPE);
+            final long before = System.nanoTime();
+            colony.onWorldTick(event, 1 + cost.deferredInRow);
+            final long nanos = System.nanoTime() - before;
+            StateMachineProfiler.exitScope(scope);
+
+            spentNanos += nanos;
+            cost.deferredInRow = 0;
+            cost.ticks++;
+            cost.totalNanos += nanos;
+            cost.maxNanos = Math.max(cost.maxNanos, nanos);
+        }
+
+        // Start with the deferred colonies next tick, otherwise rotate so the budget does not always run out on the same colonies
+        cursors.put(event.level.dimension(), nextStart == -1 ? start + 1 : nextStart);
+    }
+
+    /**
+     * Get the tick a periodic task of a colony is first run at within its interval.
+     *
+     * @param colonyId the colony id.
+     * @param offset   the offset of the task within the colony.
+     * @param interval the interval of the task in ticks.
+     * @return the phase, between 0 and the interval.
+     */
+    public static int getPhase(final int colonyId, final int offset, final int interval)
+    {
+        final int colonyPhase = (int) (((colonyId * PHASE_SPREAD) & 0xFFFFFFFFL) * interval >>> 32);
+        return Math.floorMod(colonyPhase + offset, interval);
+    }
+
+    /**
+     * Get the cost of each colony ticked since the last reset.
+     *
+     * @return the costs by colony.
+     */
+    public static Map<IColony, Cost> getCosts()
+    {
+        return costs;
+    }
+
+    /**
+     * Resets the collected costs.
+     */
+    public static void resetCosts()
+    {
+        costs.clear();
+    }
+
+    /**
+     * Tick cost of one colony.
+     */
+    public static class Cost
+    {
+        public long totalNanos;
+        public long maxNanos;
+        public int  ticks;
+        public int  deferred;
+        private int deferredInRow;
+    }
+}
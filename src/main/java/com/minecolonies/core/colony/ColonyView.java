@@ -1349,6 +1349,12 @@ public final class ColonyView implements IColonyView
 
     }
 
+    @Override
+    public void onWorldTick(@NotNull final TickEvent.LevelTickEvent event, final int elapsedTicks)
+    {
+
+    }
+
     @Override
     public Map<BlockPos, BlockState> getWayPoints()
     {
@@ -18,6 +18,7 @@ import javax.annotation.Nullable;
 import java.util.List;
 import java.util.Objects;
 
+import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_CLAIM_INDEX;
 import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_COLONIES;
 import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_COLONY_MANAGER;
 
@@ -72,6 +73,13 @@ public interface IColonyManagerCapability
      */
     int getTopID();
 
+    /**
+     * Get the claim index of the world.
+     *
+     * @return the index.
+     */
+    ColonyClaimIndex getClaimIndex();
+
     /**
      * The implementation of the colonyTagCapability.
      */
@@ -83,6 +91,12 @@ public interface IColonyManagerCapability
         @NotNull
         private final ColonyList<IColony> colonies = new ColonyList<>();
 
+        /**
+         * The owning colony of each claimed chunk.
+         */
+        @NotNull
+        private final ColonyClaimIndex claimIndex = new ColonyClaimIndex();
+
         @Override
         public IColony createColony(@NotNull final Level w, @NotNull final BlockPos pos)
         {
@@ -118,6 +132,12 @@ public interface IColonyManagerCapability
         {
             return colonies.getTopID();
         }
+
+        @Override
+        public ColonyClaimIndex getClaimIndex()
+        {
+            return claimIndex;
+        }
     }
 
     /**
@@ -130,6 +150,7 @@ public interface IColonyManagerCapability
         {
             final CompoundTag compound = new CompoundTag();
             compound.put(TAG_COLONIES, instance.getColonies().stream().map(IColony::getColonyTag).filter(Objects::nonNull).collect(NBTUtils.toListNBT()));
+            compound.put(TAG_CLAIM_INDEX, instance.getClaimIndex().write());
 
             if (overworld)
             {
@@ -192,6 +213,11 @@ public interface IColonyManagerCapability
                     }
                 }
 
+                if (compound.contains(TAG_CLAIM_INDEX))
+                {
+                    instance.getClaimIndex().read(compound.getCompound(TAG_CLAIM_INDEX));
+                }
+
                 if (compound.contains(TAG_COLONY_MANAGER) && overworld)
                 {
                     IColonyManager.getInstance().read(compound.getCompound(TAG_COLONY_MANAGER));
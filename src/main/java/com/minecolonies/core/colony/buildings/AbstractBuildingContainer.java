@@ -5,7 +5,12 @@ import com.minecolonies.api.blocks.AbstractBlockHut;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.buildings.IBuildingContainer;
+import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.tileentities.AbstractTileEntityColonyBuilding;
+import com.minecolonies.api.util.InventoryUtils;
+import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.api.util.WorldUtil;
+import com.minecolonies.core.tileentities.BuildingItemLedger;
 import com.minecolonies.core.tileentities.TileEntityColonyBuilding;
 import com.minecolonies.core.tileentities.TileEntityRack;
 import com.minecolonies.core.blocks.BlockMinecoloniesRack;
@@ -21,6 +26,7 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.ChestBlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.ForgeCapabilities;
@@ -30,6 +36,7 @@ import org.jetbrains.annotations.NotNull;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.*;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import static com.minecolonies.api.colony.requestsystem.requestable.deliveryman.AbstractDeliverymanRequestable.getMaxBuildingPriority;
@@ -60,6 +67,12 @@ public abstract class AbstractBuildingContainer extends AbstractSchematicProvide
      */
     private int unscaledPickUpPriority = 1;
 
+    /**
+     * Aggregated content of the racks of the building, created on first use.
+     */
+    @Nullable
+    private BuildingItemLedger itemLedger = null;
+
     /**
      * The constructor for the building container.
      *
@@ -128,12 +141,79 @@ public abstract class AbstractBuildingContainer extends AbstractSchematicProvide
     public void addContainerPosition(@NotNull final BlockPos pos)
     {
         containerList.add(pos);
+        getItemLedger().markDirty();
     }
 
     @Override
     public void removeContainerPosition(final BlockPos pos)
     {
         containerList.remove(pos);
+        getItemLedger().onRackRemoved(pos);
+
+        final Level world = colony.getWorld();
+        if (world != null && WorldUtil.isBlockLoaded(world, pos) && world.getBlockEntity(pos) instanceof TileEntityRack rack)
+        {
+            rack.setItemLedger(null);
+        }
+    }
+
+    /**
+     * Get the aggregated content of the racks of this building, the racks keep it up to date.
+     *
+     * @return the ledger.
+     */
+    public BuildingItemLedger getItemLedger()
+    {
+        if (itemLedger == null)
+        {
+            itemLedger = new BuildingItemLedger();
+        }
+        return itemLedger;
+    }
+
+    /**
+     * Get the up to date rack content of the building.
+     *
+     * @return the ledger, rebuilt first if stale.
+     */
+    private BuildingItemLedger getRefreshedItemLedger()
+    {
+        final BuildingItemLedger ledger = getItemLedger();
+        if (colony.getWorld() != null)
+        {
+            ledger.refreshIfNeeded(this, colony.getWorld());
+        }
+        return ledger;
+    }
+
+    @Override
+    public int getItemCount(@NotNull final ItemStorage storage)
+    {
+        final BuildingItemLedger ledger = getRefreshedItemLedger();
+        int count = ledger.getCount(storage);
+
+        final Level world = colony.getWorld();
+        for (final BlockPos pos : ledger.getOtherContainers())
+        {
+            if (world != null && WorldUtil.isBlockLoaded(world, pos) && world.getBlockEntity(pos) instanceof ChestBlockEntity chest)
+            {
+                count += InventoryUtils.getItemCountInProvider(chest,
+                  stack -> ItemStackUtils.compareItemStacksIgnoreStackSize(stack, storage.getItemStack(), !storage.ignoreDamageValue(), !storage.ignoreNBT()));
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int getItemCount(@NotNull final Predicate<ItemStack> predicate)
+    {
+        return getRefreshedItemLedger().getCount(predicate);
+    }
+
+    @Override
+    public int getItemCountWithLimit(@NotNull final Predicate<ItemStack> predicate, @NotNull final Function<ItemStack, Integer> limit)
+    {
+        return getRefreshedItemLedger().getCountWithLimit(predicate, limit);
     }
 
     @Override
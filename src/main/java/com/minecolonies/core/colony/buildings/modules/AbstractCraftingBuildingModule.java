@@ -13,10 +13,8 @@ import com.minecolonies.api.colony.buildings.workerbuildings.IWareHouse;
 import com.minecolonies.api.colony.jobs.IJob;
 import com.minecolonies.api.colony.jobs.registry.JobEntry;
 import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
-import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
-import com.minecolonies.api.colony.requestsystem.requestable.crafting.PublicCrafting;
 import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.crafting.*;
@@ -30,6 +28,7 @@ import com.minecolonies.core.colony.buildings.modules.settings.CrafterRecipeSett
 import com.minecolonies.core.colony.buildings.modules.settings.SettingKey;
 import com.minecolonies.core.colony.crafting.CustomRecipe;
 import com.minecolonies.core.colony.crafting.CustomRecipeManager;
+import com.minecolonies.core.colony.crafting.RecipeOutputPredicate;
 import com.minecolonies.core.colony.jobs.AbstractJobCrafter;
 import com.minecolonies.core.colony.requestsystem.resolvers.PublicWorkerCraftingProductionResolver;
 import com.minecolonies.core.colony.requestsystem.resolvers.PublicWorkerCraftingRequestResolver;
@@ -41,6 +40,7 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.Tuple;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Blocks;
@@ -96,6 +96,22 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
      */
     protected final List<IToken<?>> disabledRecipes = new ArrayList<>();
 
+    /**
+     * The enabled recipes in order, null until rebuilt after the recipe list changed.
+     */
+    @Nullable
+    private List<IRecipeStorage> enabledRecipes = null;
+
+    /**
+     * The enabled recipes by the items of their primary and alternate outputs, in recipe order.
+     */
+    private final Map<Item, List<IRecipeStorage>> recipesByOutput = new HashMap<>();
+
+    /**
+     * The inputs reserved by the pending tasks of the crafters.
+     */
+    private final CrafterReservationLedger reservationLedger = new CrafterReservationLedger();
+
     /**
      * The job entry that works at this module.
      */
@@ -245,6 +261,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
                 }
             }
         }
+        invalidateRecipeIndex();
     }
 
     @Override
@@ -272,7 +289,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
         final Map<ResourceLocation, CustomRecipe> crafterRecipes = CustomRecipeManager.getInstance().getAllRecipes().getOrDefault(getCustomRecipeKey(), Collections.emptyMap());
         for (final IToken<?> token : new ArrayList<>(recipes))
         {
-            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
+            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
 
             if (storage == null || (storage.getRecipeSource() != null && !crafterRecipes.containsKey(storage.getRecipeSource())) || (!isRecipeCompatibleWithCraftingModule(token) && !isPreTaughtRecipe(storage, crafterRecipes)))
             {
@@ -309,7 +326,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
     public Map<Predicate<ItemStack>, Tuple<Integer, Boolean>> getRequiredItemsAndAmount()
     {
         final Map<ItemStorage, Tuple<Integer, Boolean>> requiredItems = new HashMap<>();
-        for (final Tuple<IRecipeStorage, Integer> recipeStorage : getPendingRequestQueueExcluding(null))
+        for (final Tuple<IRecipeStorage, Integer> recipeStorage : getReservationLedger().getPendingTasks())
         {
             for (final ItemStorage itemStorage : recipeStorage.getA().getCleanedInput())
             {
@@ -338,73 +355,32 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
     @Override
     public Map<ItemStorage, Integer> reservedStacksExcluding(@Nullable final IRequest<? extends IDeliverable> request)
     {
-        final Map<ItemStorage, Integer> recipeOutputs = new HashMap<>();
-        for (final Tuple<IRecipeStorage, Integer> recipeStorage : getPendingRequestQueueExcluding(request))
-        {
-            for (final ItemStorage itemStorage : recipeStorage.getA().getCleanedInput())
-            {
-                int amount = itemStorage.getAmount() * recipeStorage.getB();
-                if (recipeOutputs.containsKey(itemStorage))
-                {
-                    amount += recipeOutputs.get(itemStorage);
-                }
-                recipeOutputs.put(itemStorage, amount);
-            }
-        }
-        return recipeOutputs;
+        return getReservationLedger().getReservedExcluding(building.getColony().getRequestManager(), request);
     }
 
     /**
-     * Get a list of all recipeStorages of the pending requests in the crafters queues.
-     * @param excluded ignore this request (and its parents).
-     * @return the list.
+     * Get the ledger of the inputs reserved by the pending crafter tasks, rebuilding it from the crafter queues if needed.
+     *
+     * @return the ledger.
      */
-    private List<Tuple<IRecipeStorage, Integer>> getPendingRequestQueueExcluding(@Nullable final IRequest<? extends IDeliverable> excluded)
+    public CrafterReservationLedger getReservationLedger()
     {
-        final List<Tuple<IRecipeStorage, Integer>> recipes = new ArrayList<>();
-        for (final ICitizenData citizen : building.getAllAssignedCitizen())
+        final Level world = building.getColony().getWorld();
+        final long gameTime = world == null ? 0 : world.getGameTime();
+        if (reservationLedger.needsRebuild(gameTime))
         {
-            if (citizen.getJob() instanceof AbstractJobCrafter)
+            final List<IToken<?>> tasks = new ArrayList<>();
+            for (final ICitizenData citizen : building.getAllAssignedCitizen())
             {
-                final List<IToken<?>> assignedTasks = new ArrayList<>(citizen.getJob(AbstractJobCrafter.class).getAssignedTasks());
-                assignedTasks.addAll(citizen.getJob(AbstractJobCrafter.class).getTaskQueue());
-
-                for (final IToken<?> taskToken : assignedTasks)
+                if (citizen.getJob() instanceof AbstractJobCrafter<?, ?> job)
                 {
-                    final IRequest<? extends PublicCrafting> request = (IRequest<? extends PublicCrafting>) building.getColony().getRequestManager().getRequestForToken(taskToken);
-                    if (request == null || (excluded != null && anyChildRequestIs(building.getColony().getRequestManager(), request, excluded)))
-                    {
-                        continue;
-                    }
-
-                    final IRecipeStorage recipeStorage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(request.getRequest().getRecipeID());
-                    if (holdsRecipe(request.getRequest().getRecipeID()) && recipeStorage != null)
-                    {
-                        recipes.add(new Tuple<>(recipeStorage, request.getRequest().getCount()));
-                    }
+                    tasks.addAll(job.getAssignedTasks());
+                    tasks.addAll(job.getTaskQueue());
                 }
             }
+            reservationLedger.rebuild(building.getColony().getRequestManager(), tasks, this::holdsRecipe, gameTime);
         }
-        return recipes;
-    }
-
-    private static boolean anyChildRequestIs(@NotNull final IRequestManager requestManager,
-                                             @NotNull final IRequest<?> parent,
-                                             @NotNull final IRequest<?> target)
-    {
-        return parent.getChildren().stream().anyMatch(childToken ->
-        {
-            final IRequest<?> childRequest = requestManager.getRequestForToken(childToken);
-            if (childRequest == target)
-            {
-                return true;
-            }
-            else if (childRequest != null)
-            {
-                return anyChildRequestIs(requestManager, childRequest, target);
-            }
-            return false;
-        });
+        return reservationLedger;
     }
 
     @Override
@@ -426,7 +402,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
                 return true;
             }
 
-            final IRecipeStorage recipeStorage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
+            final IRecipeStorage recipeStorage = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
             if (recipeStorage != null)
             {
                 if (recipeStorage.getAlternateOutputs().isEmpty())
@@ -472,7 +448,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
                         duplicateFound = token;
                         break;
                     }
-                    final IRecipeStorage storage = recipeManager.getRecipes().get(token);
+                    final IRecipeStorage storage = recipeManager.getRecipe(token);
 
                     //Let's verify that this recipe doesn't exist in an improved form
                     if(storage != null && storage.getPrimaryOutput().equals(recipeStorage.getPrimaryOutput(), true))
@@ -533,7 +509,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
                     final List<ItemStack> alternates = recipeStorage.getAlternateOutputs();
                     for(IToken<?> token : recipes)
                     {
-                        final IRecipeStorage storage = recipeManager.getRecipes().get(token);
+                        final IRecipeStorage storage = recipeManager.getRecipe(token);
                         if(storage.getRecipeType() instanceof ClassicRecipe && ItemStackUtils.compareItemStackListIgnoreStackSize(alternates, storage.getPrimaryOutput(), false, true))
                         {
                             removeRecipe(token);
@@ -558,6 +534,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
     public void clearRecipes()
     {
         recipes.clear();
+        invalidateRecipeIndex();
     }
 
     @Override
@@ -623,7 +600,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
     @Nullable
     public IRecipeStorage getFirstRecipe(final ItemStack stack)
     {
-        return getFirstRecipe(itemStack -> !itemStack.isEmpty() && ItemStackUtils.compareItemStacksIgnoreStackSize(itemStack, stack, true, true));
+        return getFirstRecipe(RecipeOutputPredicate.of(stack, itemStack -> !itemStack.isEmpty() && ItemStackUtils.compareItemStacksIgnoreStackSize(itemStack, stack, true, true)));
     }
 
     @Override
@@ -633,14 +610,9 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
         IRecipeStorage foundRecipe = null;
         final HashMap<IRecipeStorage, Integer> candidates = new HashMap<>();
         //Scan through and collect all possible recipes that could fulfill this, taking special note of the first one
-        for (final IToken<?> token : recipes)
+        for (final IRecipeStorage storage : getCandidateRecipes(stackPredicate))
         {
-            if (disabledRecipes.contains(token))
-            {
-                continue;
-            }
-            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
-            if (storage != null && (stackPredicate.test(storage.getPrimaryOutput()) || storage.getAlternateOutputs().stream().anyMatch(stackPredicate::test)))
+            if (stackPredicate.test(storage.getPrimaryOutput()) || storage.getAlternateOutputs().stream().anyMatch(stackPredicate::test))
             {
                 if(foundRecipe == null)
                 {
@@ -664,12 +636,114 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
         if(foundRecipe != null && foundRecipe.getRecipeType() instanceof MultiOutputRecipe)
         {
             IToken<?> token = IColonyManager.getInstance().getRecipeManager().checkOrAddRecipe(foundRecipe.getClassicForMultiOutput(stackPredicate));
-            foundRecipe = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
+            foundRecipe = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
         }
 
         return foundRecipe;
     }
 
+    /**
+     * Get the enabled recipes which might produce an output matching the predicate, in recipe order.
+     *
+     * @param stackPredicate the output predicate, narrowed down by output item if it is a {@link RecipeOutputPredicate}.
+     * @return the candidate recipes.
+     */
+    private Collection<IRecipeStorage> getCandidateRecipes(final Predicate<ItemStack> stackPredicate)
+    {
+        final List<IRecipeStorage> enabled = getEnabledRecipes();
+        if (!(stackPredicate instanceof RecipeOutputPredicate outputPredicate))
+        {
+            return enabled;
+        }
+
+        if (outputPredicate.items().size() == 1)
+        {
+            return recipesByOutput.getOrDefault(outputPredicate.items().iterator().next(), Collections.emptyList());
+        }
+
+        // Keep the recipe order across several items
+        final Set<IRecipeStorage> candidates = new HashSet<>();
+        for (final Item item : outputPredicate.items())
+        {
+            candidates.addAll(recipesByOutput.getOrDefault(item, Collections.emptyList()));
+        }
+        return enabled.stream().filter(candidates::contains).toList();
+    }
+
+    /**
+     * Get the enabled recipes in order, rebuilding them and the output index if the recipe list changed.
+     *
+     * @return the enabled recipes.
+     */
+    private List<IRecipeStorage> getEnabledRecipes()
+    {
+        if (enabledRecipes != null)
+        {
+            return enabledRecipes;
+        }
+
+        final List<IRecipeStorage> enabled = new ArrayList<>();
+        recipesByOutput.clear();
+        boolean complete = true;
+        final Set<IToken<?>> disabled = new HashSet<>(disabledRecipes);
+        for (final IToken<?> token : recipes)
+        {
+            if (disabled.contains(token))
+            {
+                continue;
+            }
+
+            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
+            if (storage == null)
+            {
+                // Not known to the recipe manager yet, try again next time
+                complete = false;
+                continue;
+            }
+
+            enabled.add(storage);
+            final Set<Item> outputs = new HashSet<>();
+            if (!storage.getPrimaryOutput().isEmpty())
+            {
+                outputs.add(storage.getPrimaryOutput().getItem());
+            }
+            for (final ItemStack alternate : storage.getAlternateOutputs())
+            {
+                if (!alternate.isEmpty())
+                {
+                    outputs.add(alternate.getItem());
+                }
+            }
+            for (final Item output : outputs)
+            {
+                recipesByOutput.computeIfAbsent(output, item -> new ArrayList<>()).add(storage);
+            }
+        }
+
+        if (complete)
+        {
+            enabledRecipes = enabled;
+        }
+        return enabled;
+    }
+
+    /**
+     * Marks the reservation ledger for a rebuild, e.g. after a crafter was assigned to or removed from the building.
+     */
+    public void invalidateReservations()
+    {
+        reservationLedger.markDirty();
+    }
+
+    /**
+     * Drops the enabled recipes and the output index after the recipe list changed.
+     */
+    protected void invalidateRecipeIndex()
+    {
+        enabledRecipes = null;
+        reservationLedger.markDirty();
+    }
+
     @Override
     public boolean holdsRecipe(final IToken<?> token)
     {
@@ -722,15 +796,9 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
     @Override
     public IRecipeStorage getFirstFulfillableRecipe(final Predicate<ItemStack> stackPredicate, final int count, final boolean considerReservation)
     {
-        for (final IToken<?> token : recipes)
+        for (final IRecipeStorage storage : getCandidateRecipes(stackPredicate))
         {
-            if (disabledRecipes.contains(token))
-            {
-                continue;
-            }
-
-            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
-            if (storage != null && (stackPredicate.test(storage.getPrimaryOutput()) || storage.getAlternateOutputs().stream().anyMatch(i -> stackPredicate.test(i))))
+            if (stackPredicate.test(storage.getPrimaryOutput()) || storage.getAlternateOutputs().stream().anyMatch(i -> stackPredicate.test(i)))
             {
                 final Set<IItemHandler> handlers = new HashSet<>();
                 for (final ICitizenData workerEntity : building.getAllAssignedCitizen())
@@ -802,18 +870,9 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
     @Override
     public void updateWorkerAvailableForRecipes()
     {
-        for (final IToken<?> token : recipes)
+        for (final IRecipeStorage recipeStorage : getEnabledRecipes())
         {
-            if (disabledRecipes.contains(token))
-            {
-                continue;
-            }
-
-            final IRecipeStorage recipeStorage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
-            if (recipeStorage != null)
-            {
-                building.getColony().getRequestManager().onColonyUpdate(request -> request.getRequest() instanceof IDeliverable iDeliverable && iDeliverable.matches(recipeStorage.getPrimaryOutput()));
-            }
+            building.getColony().getRequestManager().onColonyUpdate(request -> request.getRequest() instanceof IDeliverable iDeliverable && iDeliverable.matches(recipeStorage.getPrimaryOutput()));
         }
     }
 
@@ -825,6 +884,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
             int oldIndex = recipes.indexOf(oldRecipe);
             recipes.add(oldIndex, newRecipe);
             recipes.remove(oldRecipe);
+            invalidateRecipeIndex();
             markDirty();
         }
     }
@@ -842,6 +902,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
             Log.getLogger().warn("Failure to remove recipe, please tell the mod authors about this");
             recipes.clear();
         }
+        invalidateRecipeIndex();
     }
 
     @Override
@@ -857,6 +918,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
             {
                 recipes.add(token);
             }
+            invalidateRecipeIndex();
         }
     }
 
@@ -873,12 +935,14 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
             {
                 recipes.add(recipes.remove(i));
             }
+            invalidateRecipeIndex();
         }
         else if (i < recipes.size() && j < recipes.size() && i >= 0 && j >= 0)
         {
             final IToken<?> storage = recipes.get(i);
             recipes.set(i, recipes.get(j));
             recipes.set(j, storage);
+            invalidateRecipeIndex();
             markDirty();
         }
     }
@@ -891,7 +955,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
         {
             disabledRecipes.remove(key);
 
-            final IRecipeStorage recipeStorage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(key);
+            final IRecipeStorage recipeStorage = IColonyManager.getInstance().getRecipeManager().getRecipe(key);
             if (recipeStorage != null)
             {
                 building.getColony().getRequestManager().onColonyUpdate(request -> request.getRequest() instanceof IDeliverable iDeliverable && iDeliverable.matches(recipeStorage.getPrimaryOutput()));
@@ -901,6 +965,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
         {
             disabledRecipes.add(key);
         }
+        invalidateRecipeIndex();
         markDirty();
     }
 
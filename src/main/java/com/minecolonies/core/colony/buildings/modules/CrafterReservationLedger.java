@@ -0,0 +1,196 @@
+package com.minecolonies.core.colony.buildings.modules;
+
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.requestable.crafting.PublicCrafting;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.crafting.IRecipeStorage;
+import com.minecolonies.api.crafting.ItemStorage;
+import net.minecraft.util.Tuple;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+import static com.minecolonies.api.util.constant.Constants.TICKS_FIVE_MIN;
+
+/**
+ * Inputs reserved by the queued and scheduled tasks of the crafters of one crafting module, kept up to date by the crafter jobs whenever a task gets added or
+ * removed. Answers how many of an item is reserved, optionally excluding the tasks a request is part of, without walking the queues or the request trees.
+ */
+public class CrafterReservationLedger
+{
+    /**
+     * Game ticks after which the ledger is rebuilt from the queues, covers queue changes that bypassed the jobs.
+     */
+    private static final int REBUILD_INTERVAL = TICKS_FIVE_MIN;
+
+    /**
+     * Pending recipe and count by task.
+     */
+    private final Map<IToken<?>, Tuple<IRecipeStorage, Integer>> tasks = new LinkedHashMap<>();
+
+    /**
+     * Reserved amount per input.
+     */
+    private final Map<ItemStorage, Integer> totals = new HashMap<>();
+
+    /**
+     * Whether the ledger has to be rebuilt.
+     */
+    private boolean dirty = true;
+
+    /**
+     * Game time of the last rebuild.
+     */
+    private long lastRebuild = 0;
+
+    /**
+     * Marks the ledger for a rebuild, e.g. after the recipes or the workers changed.
+     */
+    public void markDirty()
+    {
+        dirty = true;
+    }
+
+    /**
+     * Whether the ledger has to be rebuilt.
+     *
+     * @param gameTime the current game time.
+     * @return true if so.
+     */
+    public boolean needsRebuild(final long gameTime)
+    {
+        return dirty || gameTime - lastRebuild >= REBUILD_INTERVAL;
+    }
+
+    /**
+     * Rebuilds the ledger from the tasks of all crafters.
+     *
+     * @param manager     the request manager.
+     * @param taskTokens  the queued and scheduled tasks.
+     * @param holdsRecipe whether the module holds a recipe.
+     * @param gameTime    the current game time.
+     */
+    public void rebuild(
+      @NotNull final IRequestManager manager,
+      @NotNull final Collection<IToken<?>> taskTokens,
+      @NotNull final Predicate<IToken<?>> holdsRecipe,
+      final long gameTime)
+    {
+        tasks.clear();
+        totals.clear();
+        for (final IToken<?> token : taskTokens)
+        {
+            add(manager, token, holdsRecipe);
+        }
+        dirty = false;
+        lastRebuild = gameTime;
+    }
+
+    /**
+     * Reserves the inputs of a task.
+     *
+     * @param manager     the request manager.
+     * @param token       the task.
+     * @param holdsRecipe whether the module holds a recipe.
+     */
+    @SuppressWarnings("unchecked")
+    public void add(@NotNull final IRequestManager manager, @NotNull final IToken<?> token, @NotNull final Predicate<IToken<?>> holdsRecipe)
+    {
+        if (tasks.containsKey(token) || !(manager.getRequestForToken(token) instanceof IRequest<?> request) || !(request.getRequest() instanceof PublicCrafting))
+        {
+            return;
+        }
+
+        final PublicCrafting crafting = ((IRequest<? extends PublicCrafting>) request).getRequest();
+        final IRecipeStorage recipeStorage = IColonyManager.getInstance().getRecipeManager().getRecipe(crafting.getRecipeID());
+        if (recipeStorage == null || !holdsRecipe.test(crafting.getRecipeID()))
+        {
+            return;
+        }
+
+        final Tuple<IRecipeStorage, Integer> task = new Tuple<>(recipeStorage, crafting.getCount());
+        tasks.put(token, task);
+        addTo(totals, task, 1);
+    }
+
+    /**
+     * Releases the inputs of a finished or cancelled task.
+     *
+     * @param token the task.
+     */
+    public void remove(@NotNull final IToken<?> token)
+    {
+        final Tuple<IRecipeStorage, Integer> task = tasks.remove(token);
+        if (task != null)
+        {
+            addTo(totals, task, -1);
+        }
+    }
+
+    /**
+     * Get the recipes and counts of all pending tasks.
+     *
+     * @return the pending tasks, in queue order.
+     */
+    public Collection<Tuple<IRecipeStorage, Integer>> getPendingTasks()
+    {
+        return tasks.values();
+    }
+
+    /**
+     * Get the reserved inputs, ignoring the tasks which the given request is a descendant of.
+     *
+     * @param manager  the request manager.
+     * @param excluded the request or null.
+     * @return the reserved amount per input.
+     */
+    public Map<ItemStorage, Integer> getReservedExcluding(@NotNull final IRequestManager manager, @Nullable final IRequest<?> excluded)
+    {
+        final Map<ItemStorage, Integer> reserved = new HashMap<>(totals);
+        if (excluded == null)
+        {
+            return reserved;
+        }
+
+        // A task contains the request if the task is one of its ancestors
+        IRequest<?> parent = excluded.hasParent() ? manager.getRequestForToken(excluded.getParent()) : null;
+        final Set<IToken<?>> visited = new HashSet<>();
+        while (parent != null && visited.add(parent.getId()))
+        {
+            final Tuple<IRecipeStorage, Integer> task = tasks.get(parent.getId());
+            if (task != null)
+            {
+                addTo(reserved, task, -1);
+            }
+            parent = parent.hasParent() ? manager.getRequestForToken(parent.getParent()) : null;
+        }
+        return reserved;
+    }
+
+    /**
+     * Adds or removes the inputs of a task to an amount map, dropping amounts which reach zero.
+     *
+     * @param amounts the map.
+     * @param task    the task.
+     * @param sign    1 to add, -1 to remove.
+     */
+    private static void addTo(final Map<ItemStorage, Integer> amounts, final Tuple<IRecipeStorage, Integer> task, final int sign)
+    {
+        for (final ItemStorage input : task.getA().getCleanedInput())
+        {
+            final int amount = amounts.getOrDefault(input, 0) + sign * input.getAmount() * task.getB();
+            if (amount > 0)
+            {
+                amounts.put(input, amount);
+            }
+            else
+            {
+                amounts.remove(input);
+            }
+        }
+    }
+}
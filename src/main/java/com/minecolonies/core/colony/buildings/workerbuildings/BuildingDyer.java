@@ -168,7 +168,7 @@ public class BuildingDyer extends AbstractBuilding
                 {
                     IToken<?> token = getTokenForWool(color);
 
-                    final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
+                    final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
 
                     IRecipeStorage toTest = storage.getRecipeType() instanceof MultiOutputRecipe ? storage.getClassicForMultiOutput(stackPredicate) : storage;
                     if (toTest.canFullFillRecipe(count, considerReservation ? reservedStacks() : Collections.emptyMap(), new ArrayList<>(handlers), building))
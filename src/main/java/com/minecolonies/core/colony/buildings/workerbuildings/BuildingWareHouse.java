@@ -23,6 +23,7 @@ import com.minecolonies.core.colony.requestsystem.resolvers.WarehouseRequestReso
 import com.minecolonies.core.tileentities.TileEntityColonyBuilding;
 import com.minecolonies.core.tileentities.TileEntityRack;
 import com.minecolonies.core.tileentities.TileEntityWareHouse;
+import com.minecolonies.core.tileentities.WarehouseItemLedger;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
@@ -51,6 +52,11 @@ public class BuildingWareHouse extends AbstractBuilding implements IWareHouse
      */
     public static final int MAX_STORAGE_UPGRADE = 3;
 
+    /**
+     * Aggregated content of the racks of this warehouse.
+     */
+    private final WarehouseItemLedger itemLedger = new WarehouseItemLedger();
+
     /**
      * Instantiates a new warehouse building.
      *
@@ -81,6 +87,17 @@ public class BuildingWareHouse extends AbstractBuilding implements IWareHouse
         super.requestRepair(builder);
     }
 
+    /**
+     * Get the aggregated content of the racks of this warehouse.
+     *
+     * @return the ledger.
+     */
+    @Override
+    public WarehouseItemLedger getItemLedger()
+    {
+        return itemLedger;
+    }
+
     @Override
     public boolean canAccessWareHouse(final ICitizenData citizenData)
     {
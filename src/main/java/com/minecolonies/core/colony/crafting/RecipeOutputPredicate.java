@@ -0,0 +1,57 @@
+package com.minecolonies.core.colony.crafting;
+
+import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
+import com.minecolonies.api.colony.requestsystem.requestable.Stack;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Output predicate which also names the only items it can match, so crafting modules can look up candidate recipes by output item instead of testing all of
+ * them.
+ *
+ * @param items     the items the predicate can match.
+ * @param predicate the actual predicate.
+ */
+public record RecipeOutputPredicate(@NotNull Set<Item> items, @NotNull Predicate<ItemStack> predicate) implements Predicate<ItemStack>
+{
+    /**
+     * Narrow a predicate which only matches the item of the given stack. Empty stacks are not narrowed, recipes without output are not indexed.
+     *
+     * @param stack     the stack.
+     * @param predicate the actual predicate.
+     * @return the predicate.
+     */
+    public static Predicate<ItemStack> of(@NotNull final ItemStack stack, @NotNull final Predicate<ItemStack> predicate)
+    {
+        if (stack.isEmpty())
+        {
+            return predicate;
+        }
+        return new RecipeOutputPredicate(Set.of(stack.getItem()), predicate);
+    }
+
+    /**
+     * Create the predicate for a deliverable, narrowed to its item where the deliverable only matches one item.
+     *
+     * @param deliverable the deliverable.
+     * @return the predicate.
+     */
+    public static Predicate<ItemStack> of(@NotNull final IDeliverable deliverable)
+    {
+        if (deliverable instanceof Stack stack && !stack.matchOreDic())
+        {
+            return of(stack.getStack(), deliverable::matches);
+        }
+        return deliverable::matches;
+    }
+
+    @Override
+    public boolean test(final ItemStack stack)
+    {
+        return predicate.test(stack);
+    }
+}
@@ -1,6 +1,9 @@
 package com.minecolonies.core.colony.jobs;
 
 import com.google.common.collect.ImmutableList;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.colony.buildings.modules.IAssignsJob;
+import com.minecolonies.core.colony.buildings.modules.AbstractCraftingBuildingModule;
 import com.minecolonies.core.entity.citizen.EntityCitizen;
 import net.minecraft.core.BlockPos;
 import net.minecraft.resources.ResourceLocation;
@@ -19,6 +22,7 @@ import com.minecolonies.core.entity.ai.workers.AbstractEntityAIBasic;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.LinkedList;
 import java.util.List;
@@ -191,6 +195,7 @@ public abstract class AbstractJobCrafter<AI extends AbstractEntityAIBasic<J, ? e
         IRequest<R> request = (IRequest<R>) getColony().getRequestManager().getRequestForToken(getTaskQueueFromDataStore().peekFirst());
         while (request == null)
         {
+            releaseReservations(getTaskQueueFromDataStore().peekFirst());
             getTaskQueueFromDataStore().remove(getTaskQueueFromDataStore().peekFirst());
             request = (IRequest<R>) getColony().getRequestManager().getRequestForToken(getTaskQueueFromDataStore().peekFirst());
         }
@@ -206,6 +211,7 @@ public abstract class AbstractJobCrafter<AI extends AbstractEntityAIBasic<J, ? e
     public void addRequest(@NotNull final IToken<?> token)
     {
         getTaskQueueFromDataStore().add(token);
+        reserveInputs(token);
     }
 
     /**
@@ -240,11 +246,47 @@ public abstract class AbstractJobCrafter<AI extends AbstractEntityAIBasic<J, ? e
         {
             getAssignedTasksFromDataStore().remove(token);
         }
+        releaseReservations(token);
     }
 
     public void onTaskBeingScheduled(@NotNull final IToken<?> token)
     {
         getAssignedTasksFromDataStore().add(token);
+        reserveInputs(token);
+    }
+
+    /**
+     * Reserves the inputs of a new task in the crafting modules of the work building.
+     *
+     * @param token the task.
+     */
+    private void reserveInputs(@NotNull final IToken<?> token)
+    {
+        final IBuilding building = getCitizen().getWorkBuilding();
+        if (building != null)
+        {
+            for (final AbstractCraftingBuildingModule module : building.getModulesByType(AbstractCraftingBuildingModule.class))
+            {
+                module.getReservationLedger().add(getColony().getRequestManager(), token, module::holdsRecipe);
+            }
+        }
+    }
+
+    /**
+     * Releases the inputs of a finished or cancelled task in the crafting modules of the work building.
+     *
+     * @param token the task.
+     */
+    private void releaseReservations(@Nullable final IToken<?> token)
+    {
+        final IBuilding building = getCitizen().getWorkBuilding();
+        if (building != null && token != null)
+        {
+            for (final AbstractCraftingBuildingModule module : building.getModulesByType(AbstractCraftingBuildingModule.class))
+            {
+                module.getReservationLedger().remove(token);
+            }
+        }
     }
 
     public void onTaskBeingResolved(@NotNull final IToken<?> token)
@@ -328,12 +370,44 @@ public abstract class AbstractJobCrafter<AI extends AbstractEntityAIBasic<J, ? e
         this.progress = progress;
     }
 
+    @Override
+    public boolean assignTo(final IAssignsJob module)
+    {
+        final IBuilding oldBuilding = getWorkBuilding();
+        if (!super.assignTo(module))
+        {
+            return false;
+        }
+
+        invalidateReservations(oldBuilding);
+        invalidateReservations(module.getBuilding());
+        return true;
+    }
+
     @Override
     public void onRemoval()
     {
+        final IBuilding building = getWorkBuilding();
         super.onRemoval();
         cancelAssignedRequests();
         getColony().getRequestManager().getDataStoreManager().remove(this.rsDataStoreToken);
+        invalidateReservations(building);
+    }
+
+    /**
+     * Makes the crafting modules of a building rebuild their reservations, after a crafter joined or left it.
+     *
+     * @param building the building.
+     */
+    private void invalidateReservations(@Nullable final IBuilding building)
+    {
+        if (building != null)
+        {
+            for (final AbstractCraftingBuildingModule module : building.getModulesByType(AbstractCraftingBuildingModule.class))
+            {
+                module.invalidateReservations();
+            }
+        }
     }
 
     private void cancelAssignedRequests()
@@ -0,0 +1,425 @@
+package com.minecolonies.core.colony.managers;
+
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.colony.buildings.modules.IAltersBuildingFootprint;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Tuple;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Buildings of a colony bucketed into a grid of square cells, once by their position and once by their area, plus lists of the buildings per queried type.
+ * Nearest building, buildings within a radius and buildings overlapping an area are answered from the cells around the query instead of checking every building.
+ */
+public class BuildingSpatialIndex
+{
+    /**
+     * Cells are 32 blocks wide.
+     */
+    private static final int CELL_SHIFT = 5;
+    private static final int CELL_SIZE  = 1 << CELL_SHIFT;
+
+    /**
+     * Up to this many buildings of a type the nearest one is looked for by checking all of them.
+     */
+    private static final int LINEAR_SEARCH_LIMIT = 16;
+
+    /**
+     * Buildings by the cell of their position.
+     */
+    private final Long2ObjectOpenHashMap<List<IBuilding>> positionCells = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Buildings by all cells their area overlaps.
+     */
+    private final Long2ObjectOpenHashMap<List<IBuilding>> areaCells = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * The area each building was indexed with, by building id.
+     */
+    private final Map<BlockPos, BoundingBox> areas = new HashMap<>();
+
+    /**
+     * Buildings whose area still has to be indexed. Done on the next area query, the corners may not be known yet when a building is added.
+     */
+    private final Map<BlockPos, IBuilding> pendingAreas = new HashMap<>();
+
+    /**
+     * All buildings.
+     */
+    private final List<IBuilding> buildings = new ArrayList<>();
+
+    /**
+     * Buildings by queried type, dropped whenever buildings are added or removed.
+     */
+    private final Map<Class<?>, List<IBuilding>> byType = new HashMap<>();
+
+    /**
+     * Cell bounds of all building positions.
+     */
+    private int minCellX = Integer.MAX_VALUE;
+    private int maxCellX = Integer.MIN_VALUE;
+    private int minCellZ = Integer.MAX_VALUE;
+    private int maxCellZ = Integer.MIN_VALUE;
+
+    /**
+     * Adds a building.
+     *
+     * @param building the building.
+     */
+    public void add(@NotNull final IBuilding building)
+    {
+        remove(building);
+
+        buildings.add(building);
+        final int cellX = building.getPosition().getX() >> CELL_SHIFT;
+        final int cellZ = building.getPosition().getZ() >> CELL_SHIFT;
+        positionCells.computeIfAbsent(ChunkPos.asLong(cellX, cellZ), k -> new ArrayList<>()).add(building);
+        minCellX = Math.min(minCellX, cellX);
+        maxCellX = Math.max(maxCellX, cellX);
+        minCellZ = Math.min(minCellZ, cellZ);
+        maxCellZ = Math.max(maxCellZ, cellZ);
+
+        pendingAreas.put(building.getID(), building);
+        byType.clear();
+    }
+
+    /**
+     * Removes a building.
+     *
+     * @param building the building.
+     */
+    public void remove(@NotNull final IBuilding building)
+    {
+        if (!buildings.removeIf(b -> b.getID().equals(building.getID())))
+        {
+            return;
+        }
+
+        removeFromCell(positionCells, ChunkPos.asLong(building.getPosition().getX() >> CELL_SHIFT, building.getPosition().getZ() >> CELL_SHIFT), building);
+        removeArea(building);
+        pendingAreas.remove(building.getID());
+        byType.clear();
+    }
+
+    /**
+     * Re-indexes the area of a building, after its corners or level changed.
+     *
+     * @param building the building.
+     */
+    public void updateArea(@NotNull final IBuilding building)
+    {
+        if (areas.containsKey(building.getID()))
+        {
+            removeArea(building);
+            pendingAreas.put(building.getID(), building);
+        }
+    }
+
+    /**
+     * Removes all buildings.
+     */
+    public void clear()
+    {
+        positionCells.clear();
+        areaCells.clear();
+        areas.clear();
+        pendingAreas.clear();
+        buildings.clear();
+        byType.clear();
+        minCellX = Integer.MAX_VALUE;
+        maxCellX = Integer.MIN_VALUE;
+        minCellZ = Integer.MAX_VALUE;
+        maxCellZ = Integer.MIN_VALUE;
+    }
+
+    /**
+     * Get all buildings of a type.
+     *
+     * @param type the type.
+     * @return the buildings.
+     */
+    @NotNull
+    public List<IBuilding> getOfType(@NotNull final Class<?> type)
+    {
+        if (type == IBuilding.class)
+        {
+            return Collections.unmodifiableList(buildings);
+        }
+
+        return byType.computeIfAbsent(type, t -> {
+            final List<IBuilding> result = new ArrayList<>();
+            for (final IBuilding building : buildings)
+            {
+                if (t.isInstance(building))
+                {
+                    result.add(building);
+                }
+            }
+            return Collections.unmodifiableList(result);
+        });
+    }
+
+    /**
+     * Get the building of a type closest to a position.
+     *
+     * @param pos    the position.
+     * @param type   the type.
+     * @param filter additional condition the building has to meet.
+     * @return the closest building or null if none matches.
+     */
+    @Nullable
+    public IBuilding getNearest(@NotNull final BlockPos pos, @NotNull final Class<?> type, @NotNull final Predicate<IBuilding> filter)
+    {
+        final List<IBuilding> candidates = getOfType(type);
+        if (candidates.size() <= LINEAR_SEARCH_LIMIT)
+        {
+            return getNearest(pos, candidates, type, filter, null);
+        }
+
+        final int cellX = pos.getX() >> CELL_SHIFT;
+        final int cellZ = pos.getZ() >> CELL_SHIFT;
+        final int maxRing = Math.max(Math.max(Math.abs(cellX - minCellX), Math.abs(cellX - maxCellX)), Math.max(Math.abs(cellZ - minCellZ), Math.abs(cellZ - maxCellZ)));
+
+        IBuilding best = null;
+        for (int ring = 0; ring <= maxRing; ring++)
+        {
+            for (int x = cellX - ring; x <= cellX + ring; x++)
+            {
+                // Only the border of the ring, the inner cells were visited before
+                final int step = (x == cellX - ring || x == cellX + ring) ? 1 : Math.max(1, ring * 2);
+                for (int z = cellZ - ring; z <= cellZ + ring; z += step)
+                {
+                    final List<IBuilding> cell = positionCells.get(ChunkPos.asLong(x, z));
+                    if (cell != null)
+                    {
+                        best = getNearest(pos, cell, type, filter, best);
+                    }
+                }
+            }
+
+            // Buildings beyond this ring are at least this far away horizontally
+            final long ringDistance = (long) ring * CELL_SIZE;
+            if (best != null && best.getPosition().distSqr(pos) <= ringDistance * ringDistance)
+            {
+                break;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Get the building closest to a position from a list.
+     *
+     * @param pos        the position.
+     * @param candidates the buildings to check.
+     * @param type       the type.
+     * @param filter     additional condition the building has to meet.
+     * @param best       the closest building found so far.
+     * @return the closest building.
+     */
+    private static IBuilding getNearest(final BlockPos pos, final List<IBuilding> candidates, final Class<?> type, final Predicate<IBuilding> filter, IBuilding best)
+    {
+        double bestDistance = best == null ? Double.MAX_VALUE : best.getPosition().distSqr(pos);
+        for (final IBuilding building : candidates)
+        {
+            if (type.isInstance(building) && filter.test(building))
+            {
+                final double distance = building.getPosition().distSqr(pos);
+                if (distance < bestDistance)
+                {
+                    bestDistance = distance;
+                    best = building;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Get the buildings whose position is within a horizontal square around a position.
+     *
+     * @param pos    the center.
+     * @param radius the half width of the square.
+     * @return the buildings.
+     */
+    @NotNull
+    public List<IBuilding> getNear(@NotNull final BlockPos pos, final int radius)
+    {
+        final List<IBuilding> result = new ArrayList<>();
+        for (int x = (pos.getX() - radius) >> CELL_SHIFT; x <= (pos.getX() + radius) >> CELL_SHIFT; x++)
+        {
+            for (int z = (pos.getZ() - radius) >> CELL_SHIFT; z <= (pos.getZ() + radius) >> CELL_SHIFT; z++)
+            {
+                final List<IBuilding> cell = positionCells.get(ChunkPos.asLong(x, z));
+                if (cell == null)
+                {
+                    continue;
+                }
+
+                for (final IBuilding building : cell)
+                {
+                    if (Math.abs(building.getPosition().getX() - pos.getX()) <= radius && Math.abs(building.getPosition().getZ() - pos.getZ()) <= radius)
+                    {
+                        result.add(building);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the buildings whose position is within a box.
+     *
+     * @param box the box.
+     * @return the buildings.
+     */
+    @NotNull
+    public List<IBuilding> getPositionedIn(@NotNull final BoundingBox box)
+    {
+        final List<IBuilding> result = new ArrayList<>();
+        for (int x = box.minX() >> CELL_SHIFT; x <= box.maxX() >> CELL_SHIFT; x++)
+        {
+            for (int z = box.minZ() >> CELL_SHIFT; z <= box.maxZ() >> CELL_SHIFT; z++)
+            {
+                final List<IBuilding> cell = positionCells.get(ChunkPos.asLong(x, z));
+                if (cell == null)
+                {
+                    continue;
+                }
+
+                for (final IBuilding building : cell)
+                {
+                    if (box.isInside(building.getPosition()))
+                    {
+                        result.add(building);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the buildings whose area, including footprint extensions and the one block margin of {@link IBuilding#isInBuilding}, overlaps a box.
+     *
+     * @param box the box.
+     * @return the buildings.
+     */
+    @NotNull
+    public List<IBuilding> getOverlapping(@NotNull final BoundingBox box)
+    {
+        if (!pendingAreas.isEmpty())
+        {
+            final List<IBuilding> pending = new ArrayList<>(pendingAreas.values());
+            pendingAreas.clear();
+            pending.forEach(this::addArea);
+        }
+
+        final Set<IBuilding> result = new LinkedHashSet<>();
+        for (int x = box.minX() >> CELL_SHIFT; x <= box.maxX() >> CELL_SHIFT; x++)
+        {
+            for (int z = box.minZ() >> CELL_SHIFT; z <= box.maxZ() >> CELL_SHIFT; z++)
+            {
+                final List<IBuilding> cell = areaCells.get(ChunkPos.asLong(x, z));
+                if (cell == null)
+                {
+                    continue;
+                }
+
+                for (final IBuilding building : cell)
+                {
+                    final BoundingBox area = areas.get(building.getID());
+                    if (area != null && area.intersects(box))
+                    {
+                        result.add(building);
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(result);
+    }
+
+    /**
+     * Indexes the area of a building.
+     *
+     * @param building the building.
+     */
+    private void addArea(final IBuilding building)
+    {
+        final BoundingBox area = getArea(building);
+        areas.put(building.getID(), area);
+        for (int x = area.minX() >> CELL_SHIFT; x <= area.maxX() >> CELL_SHIFT; x++)
+        {
+            for (int z = area.minZ() >> CELL_SHIFT; z <= area.maxZ() >> CELL_SHIFT; z++)
+            {
+                areaCells.computeIfAbsent(ChunkPos.asLong(x, z), k -> new ArrayList<>()).add(building);
+            }
+        }
+    }
+
+    /**
+     * Removes the indexed area of a building.
+     *
+     * @param building the building.
+     */
+    private void removeArea(final IBuilding building)
+    {
+        final BoundingBox area = areas.remove(building.getID());
+        if (area == null)
+        {
+            return;
+        }
+
+        for (int x = area.minX() >> CELL_SHIFT; x <= area.maxX() >> CELL_SHIFT; x++)
+        {
+            for (int z = area.minZ() >> CELL_SHIFT; z <= area.maxZ() >> CELL_SHIFT; z++)
+            {
+                removeFromCell(areaCells, ChunkPos.asLong(x, z), building);
+            }
+        }
+    }
+
+    /**
+     * Removes a building from a cell, and the cell if it is empty afterwards.
+     *
+     * @param cells    the cells.
+     * @param key      the cell key.
+     * @param building the building.
+     */
+    private static void removeFromCell(final Long2ObjectOpenHashMap<List<IBuilding>> cells, final long key, final IBuilding building)
+    {
+        final List<IBuilding> cell = cells.get(key);
+        if (cell != null && cell.removeIf(b -> b.getID().equals(building.getID())) && cell.isEmpty())
+        {
+            cells.remove(key);
+        }
+    }
+
+    /**
+     * Calculates the area a building covers, as used by {@link IBuilding#isInBuilding}.
+     *
+     * @param building the building.
+     * @return the area.
+     */
+    private static BoundingBox getArea(final IBuilding building)
+    {
+        final Tuple<BlockPos, BlockPos> corners = building.getCorners();
+        BlockPos cornerA = corners.getA();
+        BlockPos cornerB = corners.getB();
+        if (building.hasModule(IAltersBuildingFootprint.class))
+        {
+            final Tuple<BlockPos, BlockPos> extensions = building.getFirstModuleOccurance(IAltersBuildingFootprint.class).getAdditionalCorners();
+            cornerA = cornerA.offset(extensions.getA());
+            cornerB = cornerB.offset(extensions.getB());
+        }
+        return BoundingBox.fromCorners(cornerA, cornerB).inflatedBy(1);
+    }
+}
@@ -27,14 +27,18 @@ import com.minecolonies.core.colony.colonyEvents.citizenEvents.CitizenSpawnedEve
 import com.minecolonies.core.colony.jobs.AbstractJobGuard;
 import com.minecolonies.core.colony.jobs.JobUndertaker;
 import com.minecolonies.core.entity.citizen.EntityCitizen;
+import com.minecolonies.core.network.ViewDelta;
+import com.minecolonies.core.network.ViewSyncState;
 import com.minecolonies.core.network.messages.client.colony.ColonyViewCitizenViewMessage;
 import com.minecolonies.core.network.messages.client.colony.ColonyViewRemoveCitizenMessage;
 import com.minecolonies.core.quests.QuestInstance;
 import com.minecolonies.core.quests.triggers.CitizenTriggerReturnData;
+import io.netty.buffer.Unpooled;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.Entity;
@@ -67,6 +71,11 @@ public class CitizenManager implements ICitizenManager
      */
     private boolean isCitizensDirty = false;
 
+    /**
+     * Synchronization state of the citizen views.
+     */
+    private final Map<Integer, ViewSyncState> citizenViewSync = new HashMap<>();
+
     /**
      * The highest citizen id.
      */
@@ -222,14 +231,23 @@ public class CitizenManager implements ICitizenManager
                 players.addAll(closeSubscribers);
             }
             players.addAll(newSubscribers);
+            final long gameTime = colony.getWorld().getGameTime();
             for (@NotNull final ICitizenData citizen : citizens.values())
             {
                 if (citizen.isDirty() || !newSubscribers.isEmpty())
                 {
-                    final ColonyViewCitizenViewMessage message = new ColonyViewCitizenViewMessage(colony, citizen);
-                    players.forEach(player -> Network.getNetwork().sendToPlayer(message, player));
+                    final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+                    citizen.serializeViewNetworkData(buf);
+                    citizenViewSync.computeIfAbsent(citizen.getId(), id -> new ViewSyncState(ViewDelta.ViewType.CITIZEN))
+                      .send(buf, players, newSubscribers, gameTime, (mode, data, player) -> new ColonyViewCitizenViewMessage(colony, citizen, mode, data));
+                    buf.release();
                 }
             }
+
+            if (citizenViewSync.size() > citizens.size())
+            {
+                citizenViewSync.keySet().retainAll(citizens.keySet());
+            }
         }
     }
 
@@ -678,6 +696,18 @@ public class CitizenManager implements ICitizenManager
         this.areCitizensSleeping = true;
     }
 
+    @Override
+    public void requestCitizenViewKeyframe(final int citizenId, @NotNull final ServerPlayer player)
+    {
+        final ViewSyncState state = citizenViewSync.get(citizenId);
+        final ICitizenData citizen = citizens.get(citizenId);
+        if (state != null && citizen != null)
+        {
+            state.requestKeyframe(player);
+            citizen.markDirty(0);
+        }
+    }
+
     @Override
     public void onWakeUp()
     {
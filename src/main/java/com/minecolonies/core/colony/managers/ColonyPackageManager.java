@@ -10,6 +10,8 @@ import com.minecolonies.core.Network;
 import com.minecolonies.core.colony.Colony;
 import com.minecolonies.core.colony.ColonyView;
 import com.minecolonies.core.colony.permissions.Permissions;
+import com.minecolonies.core.network.ViewDelta;
+import com.minecolonies.core.network.ViewSyncState;
 import com.minecolonies.core.network.messages.PermissionsMessage;
 import com.minecolonies.core.network.messages.client.colony.ColonyViewMessage;
 import com.minecolonies.core.network.messages.client.colony.ColonyViewWorkOrderMessage;
@@ -64,6 +66,11 @@ public class ColonyPackageManager implements IColonyPackageManager
      */
     private final Colony colony;
 
+    /**
+     * Synchronization state of the colony view.
+     */
+    private final ViewSyncState colonyViewSync = new ViewSyncState(ViewDelta.ViewType.COLONY);
+
     /**
      * Creates the ColonyPackageManager for a colony.
      *
@@ -211,12 +218,12 @@ public class ColonyPackageManager implements IColonyPackageManager
             }
             players.addAll(newSubscribers);
 
-            final ColonyViewMessage message = new ColonyViewMessage(colony, colonyFriendlyByteBuf);
-            for (ServerPlayer player : players)
-            {
+            colonyViewSync.send(colonyFriendlyByteBuf, players, newSubscribers, colony.getWorld().getGameTime(), (mode, data, player) -> {
+                final ColonyViewMessage message = new ColonyViewMessage(colony, mode, data);
                 message.setIsNewSubscription(newSubscribers.contains(player));
-                Network.getNetwork().sendToPlayer(message, player);
-            }
+                return message;
+            });
+            colonyFriendlyByteBuf.release();
         }
         colony.getRequestManager().setDirty(false);
     }
@@ -262,6 +269,13 @@ public class ColonyPackageManager implements IColonyPackageManager
         this.isDirty = true;
     }
 
+    @Override
+    public void requestColonyViewKeyframe(@NotNull final ServerPlayer player)
+    {
+        colonyViewSync.requestKeyframe(player);
+        isDirty = true;
+    }
+
     @Override
     public void addCloseSubscriber(@NotNull final ServerPlayer subscriber)
     {
@@ -58,6 +58,7 @@ import static com.minecolonies.api.util.BlockPosUtil.SOLID_AIR_POS_SELECTOR;
 import static com.minecolonies.api.util.constant.ColonyConstants.BIG_HORDE_SIZE;
 import static com.minecolonies.api.util.constant.ColonyManagerConstants.NO_COLONY_ID;
 import static com.minecolonies.api.util.constant.Constants.DEFAULT_BARBARIAN_DIFFICULTY;
+import static com.minecolonies.api.util.constant.Constants.MAX_BUILDING_LEVEL;
 import static com.minecolonies.api.util.constant.Constants.TICKS_SECOND;
 import static com.minecolonies.api.util.constant.NbtTagConstants.*;
 
@@ -76,6 +77,11 @@ public class RaidManager implements IRaiderManager
      */
     private static final int MIN_BUILDING_SPAWN_DIST = 35;
 
+    /**
+     * Max distance to keep while spawning near buildings, the town hall at max level keeps the most.
+     */
+    private static final int MAX_BUILDING_SPAWN_DIST = MIN_BUILDING_SPAWN_DIST + MAX_BUILDING_LEVEL * 8;
+
     /**
      * Thresholds for reducing or increasing raid difficulty
      */
@@ -398,7 +404,7 @@ public class RaidManager implements IRaiderManager
         final BlockPos closestBuildingPos = colony.getBuildingManager().getBestBuilding(targetSpawnPoint, IBuilding.class);
         final PathJobRaiderPathing job =
           new PathJobRaiderPathing(new ArrayList<>(colony.getBuildingManager().getBuildings().values()), colony.getWorld(), closestBuildingPos, targetSpawnPoint);
-        job.getResult().startJob(Pathfinding.getExecutor());
+        Pathfinding.enqueue(job);
         return job.getResult();
     }
 
@@ -494,7 +500,6 @@ public class RaidManager implements IRaiderManager
     {
         BlockPos spawnPos = new BlockPos(start);
         BlockPos tempPos = new BlockPos(spawnPos.getX(), spawnPos.getY(), spawnPos.getZ());
-        final Collection<IBuilding> buildings = colony.getBuildingManager().getBuildings().values();
 
         final int xDiff = Math.abs(start.getX() - advancePos.getX());
         final int zDiff = Math.abs(start.getZ() - advancePos.getZ());
@@ -512,7 +517,9 @@ public class RaidManager implements IRaiderManager
 
                 if (WorldUtil.isEntityBlockLoaded(colony.getWorld(), tempPos))
                 {
-                    if (isValidSpawnPoint(buildings, tempPos) && !isOtherColony(tempPos.getX(), tempPos.getZ()))
+                    // Only buildings within the largest keep distance can reject the position
+                    if (isValidSpawnPoint(colony.getBuildingManager().getBuildingsNear(tempPos, MAX_BUILDING_SPAWN_DIST), tempPos)
+                          && !isOtherColony(tempPos.getX(), tempPos.getZ()))
                     {
                         spawnPos = tempPos;
                         validChunkCount++;
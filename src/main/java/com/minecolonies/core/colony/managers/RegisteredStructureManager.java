@@ -32,15 +32,19 @@ import com.minecolonies.core.colony.buildings.workerbuildings.BuildingTownHall;
 import com.minecolonies.core.colony.buildings.workerbuildings.BuildingWareHouse;
 import com.minecolonies.core.colony.fields.registry.FieldDataManager;
 import com.minecolonies.core.entity.ai.workers.util.ConstructionTapeHelper;
+import com.minecolonies.core.network.ViewDelta;
+import com.minecolonies.core.network.ViewSyncState;
 import com.minecolonies.core.network.messages.client.colony.ColonyViewBuildingViewMessage;
 import com.minecolonies.core.network.messages.client.colony.ColonyViewFieldsUpdateMessage;
 import com.minecolonies.core.network.messages.client.colony.ColonyViewRemoveBuildingMessage;
 import com.minecolonies.core.quests.objectives.IBuildingUpgradeObjectiveTemplate;
 import com.minecolonies.core.tileentities.TileEntityDecorationController;
+import io.netty.buffer.Unpooled;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
@@ -72,6 +76,11 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     @NotNull
     private ImmutableMap<BlockPos, IBuilding> buildings = ImmutableMap.of();
 
+    /**
+     * Spatial index of the buildings, kept in sync with the building map.
+     */
+    private final BuildingSpatialIndex buildingIndex = new BuildingSpatialIndex();
+
     /**
      * List of fields of the colony.
      */
@@ -108,6 +117,11 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
      */
     private boolean isFieldsDirty = false;
 
+    /**
+     * Synchronization state of the building views.
+     */
+    private final Map<BlockPos, ViewSyncState> buildingViewSync = new HashMap<>();
+
     /**
      * The colony of the manager.
      */
@@ -135,6 +149,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     public void read(@NotNull final CompoundTag compound)
     {
         buildings = ImmutableMap.of();
+        buildingIndex.clear();
         maxChunkX = colony.getCenter().getX() >> 4;
         minChunkX = colony.getCenter().getX() >> 4;
         maxChunkZ = colony.getCenter().getZ() >> 4;
@@ -293,6 +308,18 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
         }
     }
 
+    @Override
+    public void requestBuildingViewKeyframe(@NotNull final BlockPos buildingId, @NotNull final ServerPlayer player)
+    {
+        final ViewSyncState state = buildingViewSync.get(buildingId);
+        final IBuilding building = buildings.get(buildingId);
+        if (state != null && building != null)
+        {
+            state.requestKeyframe(player);
+            building.markDirty();
+        }
+    }
+
     @Override
     public void markBuildingsDirty()
     {
@@ -454,22 +481,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     @Override
     public IWareHouse getClosestWarehouseInColony(final BlockPos pos)
     {
-        IWareHouse wareHouse = null;
-        double dist = 0;
-        for (final IWareHouse building : wareHouses)
-        {
-            if (building.getBuildingLevel() > 0 && building.getTileEntity() != null)
-            {
-                final double tempDist = building.getPosition().distSqr(pos);
-                if (wareHouse == null || tempDist < dist)
-                {
-                    dist = tempDist;
-                    wareHouse = building;
-                }
-            }
-        }
-
-        return wareHouse;
+        return (IWareHouse) buildingIndex.getNearest(pos, IWareHouse.class, building -> building.getBuildingLevel() > 0 && building.getTileEntity() != null);
     }
 
     @Override
@@ -633,6 +645,8 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
             }
 
             buildings = builder.build();
+            buildingIndex.remove(building);
+            colony.getNavigationGraph().markDirty();
 
             for (final ServerPlayer player : subscribers)
             {
@@ -680,21 +694,8 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     @Override
     public BlockPos getBestBuilding(final BlockPos citizen, final Class<? extends IBuilding> clazz)
     {
-        double distance = Double.MAX_VALUE;
-        BlockPos goodCook = null;
-        for (final IBuilding building : buildings.values())
-        {
-            if (clazz.isInstance(building) && building.getBuildingLevel() > 0)
-            {
-                final double localDistance = building.getPosition().distSqr(citizen);
-                if (localDistance < distance)
-                {
-                    distance = localDistance;
-                    goodCook = building.getPosition();
-                }
-            }
-        }
-        return goodCook;
+        final IBuilding building = buildingIndex.getNearest(citizen, clazz, b -> b.getBuildingLevel() > 0);
+        return building == null ? null : building.getPosition();
     }
 
     @Override
@@ -731,18 +732,26 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
             return true;
         }
 
-        for (final IBuilding colonyBuilding : getBuildings().values())
+        return isGuardedBy(building, buildingIndex.getOfType(IGuardBuilding.class)) || isGuardedBy(building, buildingIndex.getOfType(BuildingBarracks.class));
+    }
+
+    /**
+     * Check if a building is within the guarded region of one of the given guard buildings.
+     *
+     * @param building       the building to check.
+     * @param guardBuildings the guard buildings.
+     * @return true if so.
+     */
+    private static boolean isGuardedBy(final IBuilding building, final List<IBuilding> guardBuildings)
+    {
+        for (final IBuilding guardBuilding : guardBuildings)
         {
-            if (colonyBuilding instanceof IGuardBuilding || colonyBuilding instanceof BuildingBarracks)
+            final BoundingBox guardedRegion = BlockPosUtil.getChunkAlignedBB(guardBuilding.getPosition(), guardBuilding.getClaimRadius(guardBuilding.getBuildingLevel()));
+            if (guardedRegion.isInside(building.getPosition()))
             {
-                final BoundingBox guardedRegion = BlockPosUtil.getChunkAlignedBB(colonyBuilding.getPosition(), colonyBuilding.getClaimRadius(colonyBuilding.getBuildingLevel()));
-                if (guardedRegion.isInside(building.getPosition()))
-                {
-                    return true;
-                }
+                return true;
             }
         }
-
         return false;
     }
 
@@ -751,15 +760,32 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     {
         final int claimRadius = guardBuilding.getClaimRadius(Math.max(guardBuilding.getBuildingLevel(), newLevel));
         final BoundingBox guardedRegion = BlockPosUtil.getChunkAlignedBB(guardBuilding.getPosition(), claimRadius);
-        for (final IBuilding building : getBuildings().values())
+        for (final IBuilding building : buildingIndex.getPositionedIn(guardedRegion))
         {
-            if (guardedRegion.isInside(building.getPosition()))
-            {
-                building.resetGuardBuildingNear();
-            }
+            building.resetGuardBuildingNear();
         }
     }
 
+    @NotNull
+    @Override
+    public List<IBuilding> getBuildingsNear(@NotNull final BlockPos pos, final int radius)
+    {
+        return buildingIndex.getNear(pos, radius);
+    }
+
+    @NotNull
+    @Override
+    public List<IBuilding> getBuildingsOverlapping(@NotNull final BoundingBox box)
+    {
+        return buildingIndex.getOverlapping(box);
+    }
+
+    @Override
+    public void onBuildingAreaChanged(@NotNull final IBuilding building)
+    {
+        buildingIndex.updateArea(building);
+    }
+
     @Override
     public void setTownHall(@Nullable final ITownHall building)
     {
@@ -807,6 +833,8 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     private void addBuilding(@NotNull final IBuilding building)
     {
         buildings = new ImmutableMap.Builder<BlockPos, IBuilding>().putAll(buildings).put(building.getID(), building).build();
+        buildingIndex.add(building);
+        colony.getNavigationGraph().markDirty();
 
         building.markDirty();
 
@@ -842,14 +870,23 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
                 players.addAll(closeSubscribers);
             }
             players.addAll(newSubscribers);
+            final long gameTime = colony.getWorld().getGameTime();
             for (@NotNull final IBuilding building : buildings.values())
             {
                 if (building.isDirty() || !newSubscribers.isEmpty())
                 {
-                    final ColonyViewBuildingViewMessage message = new ColonyViewBuildingViewMessage(building, !newSubscribers.isEmpty());
-                    players.forEach(player -> Network.getNetwork().sendToPlayer(message, player));
+                    final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+                    building.serializeToView(buf, !newSubscribers.isEmpty());
+                    buildingViewSync.computeIfAbsent(building.getID(), id -> new ViewSyncState(ViewDelta.ViewType.BUILDING))
+                      .send(buf, players, newSubscribers, gameTime, (mode, data, player) -> new ColonyViewBuildingViewMessage(building, mode, data));
+                    buf.release();
                 }
             }
+
+            if (buildingViewSync.size() > buildings.size())
+            {
+                buildingViewSync.keySet().retainAll(buildings.keySet());
+            }
         }
     }
 
@@ -908,6 +945,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     {
         if (building != null)
         {
+            buildingIndex.updateArea(building);
             colony.getCitizenManager().calculateMaxCitizens();
             markBuildingsDirty();
             if (buildBuildingObjectives.containsKey(building.getBuildingType()))
@@ -0,0 +1,365 @@
+package com.minecolonies.core.colony.permissions;
+
+import com.minecolonies.api.blocks.AbstractBlockHut;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.util.EntityUtils;
+import com.minecolonies.api.util.constant.Constants;
+import com.minecolonies.core.colony.Colony;
+import com.minecolonies.core.colony.ColonyClaimIndex;
+import com.minecolonies.core.entity.citizen.EntityCitizen;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.monster.Monster;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.BlockHitResult;
+import net.minecraft.world.phys.EntityHitResult;
+import net.minecraftforge.event.entity.item.ItemTossEvent;
+import net.minecraftforge.event.entity.living.LivingHurtEvent;
+import net.minecraftforge.event.entity.player.*;
+import net.minecraftforge.event.level.BlockEvent;
+import net.minecraftforge.event.level.ExplosionEvent;
+import net.minecraftforge.eventbus.api.Event;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.NO_COLONY_ID;
+
+/**
+ * Single listener for all events a colony might deny. Resolves the colony owning the position of an event once from the chunk claim and passes the event to
+ * the {@link ColonyPermissionEventHandler} of that colony only.
+ */
+@Mod.EventBusSubscriber(modid = Constants.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public class ColonyPermissionEventDispatcher
+{
+    /**
+     * Handling statistics by event type.
+     */
+    private static final Map<Class<? extends Event>, Stats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * BlockEvent.EntityPlaceEvent dispatcher.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final BlockEvent.EntityPlaceEvent event)
+    {
+        final long start = System.nanoTime();
+        if (event.getEntity() instanceof Player player)
+        {
+            dispatch(player.level, event.getPos(), handler -> handler.on(event));
+        }
+        record(event, start);
+    }
+
+    /**
+     * BlockEvent.BreakEvent dispatcher, huts go to the colony of the building.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final BlockEvent.BreakEvent event)
+    {
+        if (event.getLevel().isClientSide())
+        {
+            return;
+        }
+
+        final long start = System.nanoTime();
+        if (event.getState().getBlock() instanceof AbstractBlockHut)
+        {
+            @Nullable final IBuilding building = IColonyManager.getInstance().getBuilding(event.getPlayer().level, event.getPos());
+            final ColonyPermissionEventHandler handler = building == null ? null : getHandler(building.getColony());
+            if (handler != null)
+            {
+                handler.on(event);
+            }
+        }
+        else
+        {
+            final Player player = EntityUtils.getPlayerOfFakePlayer(event.getPlayer(), event.getPlayer().getCommandSenderWorld());
+            dispatch(player.getCommandSenderWorld(), event.getPos(), handler -> handler.on(event));
+        }
+        record(event, start);
+    }
+
+    /**
+     * ExplosionEvent.Detonate dispatcher, filters the blocks and entities of all colonies at once.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final ExplosionEvent.Detonate event)
+    {
+        final long start = System.nanoTime();
+        ColonyPermissionEventHandler.filterExplosion(event);
+        record(event, start);
+    }
+
+    /**
+     * ExplosionEvent.Start dispatcher.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final ExplosionEvent.Start event)
+    {
+        final long start = System.nanoTime();
+        dispatch(event.getLevel(), BlockPos.containing(event.getExplosion().getPosition()), handler -> handler.on(event));
+        record(event, start);
+    }
+
+    /**
+     * PlayerInteractEvent dispatcher.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final PlayerInteractEvent event)
+    {
+        final long start = System.nanoTime();
+        if (event instanceof PlayerInteractEvent.EntityInteract entityInteract)
+        {
+            dispatchToPlayerColony(event.getEntity(), event.getLevel(), event.getPos(), handler -> handler.on(entityInteract));
+        }
+        else if (event instanceof PlayerInteractEvent.EntityInteractSpecific entityInteractSpecific)
+        {
+            dispatchToPlayerColony(event.getEntity(), event.getLevel(), event.getPos(), handler -> handler.on(entityInteractSpecific));
+        }
+        else
+        {
+            dispatch(event.getLevel(), event.getPos(), handler -> handler.on(event));
+        }
+        record(event, start);
+    }
+
+    /**
+     * ItemTossEvent dispatcher.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final ItemTossEvent event)
+    {
+        final long start = System.nanoTime();
+        dispatchToPlayerColony(event.getPlayer(), event.getPlayer().getCommandSenderWorld(), event.getPlayer().blockPosition(), handler -> handler.on(event));
+        record(event, start);
+    }
+
+    /**
+     * EntityItemPickupEvent dispatcher.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final EntityItemPickupEvent event)
+    {
+        final long start = System.nanoTime();
+        dispatchToPlayerColony(event.getEntity(), event.getEntity().getCommandSenderWorld(), event.getEntity().blockPosition(), handler -> handler.on(event));
+        record(event, start);
+    }
+
+    /**
+     * FillBucketEvent dispatcher.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final FillBucketEvent event)
+    {
+        final long start = System.nanoTime();
+        @Nullable BlockPos targetBlockPos = null;
+        if (event.getTarget() instanceof BlockHitResult)
+        {
+            targetBlockPos = ((BlockHitResult) event.getTarget()).getBlockPos();
+        }
+        else if (event.getTarget() instanceof EntityHitResult)
+        {
+            targetBlockPos = ((EntityHitResult) event.getTarget()).getEntity().blockPosition();
+        }
+        dispatchToPlayerColony(event.getEntity(), event.getEntity().getCommandSenderWorld(), targetBlockPos, handler -> handler.on(event));
+        record(event, start);
+    }
+
+    /**
+     * ArrowLooseEvent dispatcher.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final ArrowLooseEvent event)
+    {
+        final long start = System.nanoTime();
+        dispatchToPlayerColony(event.getEntity(), event.getEntity().getCommandSenderWorld(), event.getEntity().blockPosition(), handler -> handler.on(event));
+        record(event, start);
+    }
+
+    /**
+     * LivingHurtEvent dispatcher, goes to the colony of the attacking citizen.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final LivingHurtEvent event)
+    {
+        final long start = System.nanoTime();
+        if (event.getEntity() instanceof ServerPlayer && event.getSource().getEntity() instanceof EntityCitizen citizen)
+        {
+            final ColonyPermissionEventHandler handler =
+              getHandler(IColonyManager.getInstance().getColonyByDimension(citizen.getCitizenColonyHandler().getColonyId(), citizen.level.dimension()));
+            if (handler != null)
+            {
+                handler.on(event);
+            }
+        }
+        record(event, start);
+    }
+
+    /**
+     * AttackEntityEvent dispatcher, goes to the colony the attacking player stands in.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final AttackEntityEvent event)
+    {
+        if (event.getTarget() instanceof Monster)
+        {
+            return;
+        }
+
+        final long start = System.nanoTime();
+        final Player player = EntityUtils.getPlayerOfFakePlayer(event.getEntity(), event.getEntity().getCommandSenderWorld());
+        dispatch(player.getCommandSenderWorld(), player.blockPosition(), handler -> handler.on(event));
+        record(event, start);
+    }
+
+    /**
+     * Passes an event to the colony owning a position, if any.
+     *
+     * @param level   the level of the position.
+     * @param pos     the position.
+     * @param handler calls the handler of the colony.
+     */
+    private static void dispatch(final Level level, final BlockPos pos, final Consumer<ColonyPermissionEventHandler> handler)
+    {
+        final ColonyPermissionEventHandler colonyHandler = getHandler(getOwningColony(level, pos));
+        if (colonyHandler != null)
+        {
+            handler.accept(colonyHandler);
+        }
+    }
+
+    /**
+     * Passes a player event to the colony owning a position, resolving fake players and missing positions like the handler does.
+     *
+     * @param playerIn the acting player.
+     * @param world    the world of the event.
+     * @param pos      the position or null for the position of the player.
+     * @param handler  calls the handler of the colony.
+     */
+    private static void dispatchToPlayerColony(
+      final Player playerIn,
+      final Level world,
+      @Nullable final BlockPos pos,
+      final Consumer<ColonyPermissionEventHandler> handler)
+    {
+        final Player player = EntityUtils.getPlayerOfFakePlayer(playerIn, world);
+        dispatch(player.getCommandSenderWorld(), pos == null ? player.blockPosition() : pos, handler);
+    }
+
+    /**
+     * Get the colony owning the chunk of a position.
+     *
+     * @param level the level.
+     * @param pos   the position.
+     * @return the colony or null if the chunk is not claimed.
+     */
+    @Nullable
+    public static IColony getOwningColony(@NotNull final Level level, @NotNull final BlockPos pos)
+    {
+        final int colonyId = ColonyClaimIndex.getOwningColony(level, pos);
+        if (colonyId == NO_COLONY_ID)
+        {
+            return null;
+        }
+        return IColonyManager.getInstance().getColonyByDimension(colonyId, level.dimension());
+    }
+
+    /**
+     * Get the permission handler of a colony whose world is loaded.
+     *
+     * @param colony the colony.
+     * @return the handler or null.
+     */
+    @Nullable
+    private static ColonyPermissionEventHandler getHandler(@Nullable final IColony colony)
+    {
+        if (colony instanceof Colony && colony.getWorld() != null)
+        {
+            return ((Colony) colony).getEventHandler();
+        }
+        return null;
+    }
+
+    /**
+     * Records the handling time of an event.
+     *
+     * @param event the event.
+     * @param start the start time in nanoseconds.
+     */
+    private static void record(final Event event, final long start)
+    {
+        final Stats eventStats = stats.computeIfAbsent(event.getClass(), type -> new Stats());
+        eventStats.count.increment();
+        eventStats.nanos.add(System.nanoTime() - start);
+    }
+
+    /**
+     * Get the handling statistics by event type.
+     *
+     * @return the statistics.
+     */
+    public static Map<Class<? extends Event>, Stats> getStats()
+    {
+        return stats;
+    }
+
+    /**
+     * Resets the statistics.
+     */
+    public static void resetStats()
+    {
+        stats.clear();
+    }
+
+    /**
+     * Handling statistics of one event type.
+     */
+    public static class Stats
+    {
+        public final LongAdder count = new LongAdder();
+        public final LongAdder nanos = new LongAdder();
+
+        /**
+         * Get the average handling time.
+         *
+         * @return the time in microseconds.
+         */
+        public double getAvgMicros()
+        {
+            final long handled = count.sum();
+            return handled == 0 ? 0 : nanos.sum() / 1000d / handled;
+        }
+    }
+}
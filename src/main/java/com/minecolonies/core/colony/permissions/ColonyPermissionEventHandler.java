@@ -10,6 +10,7 @@ import com.minecolonies.api.colony.permissions.Explosions;
 import com.minecolonies.api.colony.permissions.PermissionEvent;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.items.ModTags;
+import com.minecolonies.api.util.ColonyUtils;
 import com.minecolonies.api.util.EntityUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.MessageUtils;
@@ -18,8 +19,10 @@ import com.minecolonies.core.MineColonies;
 import com.minecolonies.core.blocks.BlockDecorationController;
 import com.minecolonies.core.blocks.huts.BlockHutTownHall;
 import com.minecolonies.core.colony.Colony;
+import com.minecolonies.core.colony.ColonyClaimIndex;
 import com.minecolonies.core.colony.jobs.AbstractJobGuard;
 import com.minecolonies.core.entity.citizen.EntityCitizen;
+import it.unimi.dsi.fastutil.longs.Long2BooleanOpenHashMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.Entity;
@@ -29,12 +32,14 @@ import net.minecraft.world.entity.monster.Monster;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.PotionItem;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.block.AirBlock;
 import net.minecraft.world.level.block.BaseEntityBlock;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.EntityHitResult;
 import net.minecraftforge.common.util.FakePlayer;
@@ -44,7 +49,6 @@ import net.minecraftforge.event.entity.player.*;
 import net.minecraftforge.event.level.BlockEvent;
 import net.minecraftforge.event.level.ExplosionEvent;
 import net.minecraftforge.eventbus.api.Event;
-import net.minecraftforge.eventbus.api.SubscribeEvent;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -53,12 +57,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.NO_COLONY_ID;
 import static com.minecolonies.api.util.constant.TranslationConstants.PERMISSION_DENIED;
 
 /**
- * This class handles all permission checks on events and cancels them if needed.
+ * This class handles all permission checks on events of one colony and cancels them if needed.
+ * Events are passed in by the {@link ColonyPermissionEventDispatcher} once it resolved the colony they concern.
  */
 public class ColonyPermissionEventHandler
 {
@@ -87,7 +92,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event BlockEvent.PlaceEvent
      */
-    @SubscribeEvent
     public void on(final BlockEvent.EntityPlaceEvent event)
     {
         final Action action = event.getPlacedBlock().getBlock() instanceof AbstractBlockHut ? Action.PLACE_HUTS : Action.PLACE_BLOCKS;
@@ -187,7 +191,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event BlockEvent.BreakEvent
      */
-    @SubscribeEvent
     public void on(final BlockEvent.BreakEvent event)
     {
         final LevelAccessor world = event.getLevel();
@@ -246,12 +249,12 @@ public class ColonyPermissionEventHandler
     }
 
     /**
-     * ExplosionEvent.Detonate handler.
+     * ExplosionEvent.Detonate handler, protects the blocks and entities of all colonies.
+     * Claims are looked up once per chunk and only in loaded chunks, positions in chunks which are not loaded count as protected.
      *
      * @param event ExplosionEvent.Detonate
      */
-    @SubscribeEvent
-    public void on(final ExplosionEvent.Detonate event)
+    public static void filterExplosion(final ExplosionEvent.Detonate event)
     {
         if (MineColonies.getConfig().getServer().turnOffExplosionsInColonies.get() == Explosions.DAMAGE_EVERYTHING)
         {
@@ -259,29 +262,23 @@ public class ColonyPermissionEventHandler
         }
 
         final Level eventWorld = event.getLevel();
-        final Predicate<BlockPos> getBlocksInColony = pos -> colony.isCoordInColony(eventWorld, pos);
+        final Long2BooleanOpenHashMap protectedChunks = new Long2BooleanOpenHashMap();
+        final Predicate<BlockPos> getBlocksInColony = pos -> isProtectedChunk(eventWorld, protectedChunks, pos.getX() >> 4, pos.getZ() >> 4);
         Predicate<Entity> getEntitiesInColony = entity -> (!(entity instanceof Enemy) || (entity instanceof Llama))
-                                                            && colony.isCoordInColony(entity.getCommandSenderWorld(), entity.blockPosition());
+                                                            && isProtectedChunk(eventWorld, protectedChunks, entity.chunkPosition().x, entity.chunkPosition().z);
         switch(MineColonies.getConfig().getServer().turnOffExplosionsInColonies.get())
         {
             case DAMAGE_NOTHING:
                 // if any entity is in colony -> remove from list
-                getEntitiesInColony = entity -> colony.isCoordInColony(entity.getCommandSenderWorld(), entity.blockPosition());
+                getEntitiesInColony = entity -> isProtectedChunk(eventWorld, protectedChunks, entity.chunkPosition().x, entity.chunkPosition().z);
                 // intentional fall-through to next case.
             case DAMAGE_PLAYERS:
                 // if non-mob or llama entity is in colony -> remove from list
-                final List<Entity> entitiesToRemove = event.getAffectedEntities().stream()
-                                                          .filter(getEntitiesInColony)
-                                                          .filter(entity -> !(entity instanceof ServerPlayer))
-                                                          .collect(Collectors.toList());
-                event.getAffectedEntities().removeAll(entitiesToRemove);
+                removeMatching(event.getAffectedEntities(), getEntitiesInColony.and(entity -> !(entity instanceof ServerPlayer)));
                 // intentional fall-through to next case.
             case DAMAGE_ENTITIES:
                 // if block is in colony -> remove from list
-                final List<BlockPos> blocksToRemove = event.getAffectedBlocks().stream()
-                                                        .filter(getBlocksInColony)
-                                                        .collect(Collectors.toList());
-                event.getAffectedBlocks().removeAll(blocksToRemove);
+                removeMatching(event.getAffectedBlocks(), getBlocksInColony);
                 break;
             case DAMAGE_EVERYTHING:
             default:
@@ -289,12 +286,75 @@ public class ColonyPermissionEventHandler
         }
     }
 
+    /**
+     * Checks if a chunk is claimed by a colony, without loading it.
+     *
+     * @param world  the world.
+     * @param cache  results of the chunks checked already.
+     * @param chunkX the chunk x coordinate.
+     * @param chunkZ the chunk z coordinate.
+     * @return true if claimed, or not loaded while the world has no claim index.
+     */
+    private static boolean isProtectedChunk(final Level world, final Long2BooleanOpenHashMap cache, final int chunkX, final int chunkZ)
+    {
+        final long key = ChunkPos.asLong(chunkX, chunkZ);
+        if (cache.containsKey(key))
+        {
+            return cache.get(key);
+        }
+
+        final boolean isProtected;
+        final ColonyClaimIndex index = ColonyClaimIndex.get(world.dimension());
+        if (index != null)
+        {
+            final int colonyId = index.getOwningColony(key);
+            isProtected = colonyId != NO_COLONY_ID && IColonyManager.getInstance().getColonyByDimension(colonyId, world.dimension()) != null;
+        }
+        else
+        {
+            final LevelChunk chunk = world.getChunkSource().getChunkNow(chunkX, chunkZ);
+            final int colonyId = chunk == null ? NO_COLONY_ID : ColonyUtils.getOwningColony(chunk);
+            isProtected = chunk == null || (colonyId != NO_COLONY_ID && IColonyManager.getInstance().getColonyByDimension(colonyId, world.dimension()) != null);
+        }
+        cache.put(key, isProtected);
+        return isProtected;
+    }
+
+    /**
+     * Removes all matching elements of a random access list in one pass, keeping the order of the others.
+     *
+     * @param list      the list.
+     * @param predicate matches the elements to remove.
+     * @param <T>       the element type.
+     */
+    private static <T> void removeMatching(final List<T> list, final Predicate<T> predicate)
+    {
+        int kept = 0;
+        final int size = list.size();
+        for (int i = 0; i < size; i++)
+        {
+            final T element = list.get(i);
+            if (!predicate.test(element))
+            {
+                if (kept != i)
+                {
+                    list.set(kept, element);
+                }
+                kept++;
+            }
+        }
+
+        if (kept < size)
+        {
+            list.subList(kept, size).clear();
+        }
+    }
+
     /**
      * ExplosionEvent.Start handler.
      *
      * @param event ExplosionEvent.Detonate
      */
-    @SubscribeEvent
     public void on(final ExplosionEvent.Start event)
     {
         if (MineColonies.getConfig().getServer().enableColonyProtection.get()
@@ -312,7 +372,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event PlayerInteractEvent
      */
-    @SubscribeEvent
     public void on(final PlayerInteractEvent event)
     {
         if (colony.isCoordInColony(event.getLevel(), event.getPos())
@@ -398,7 +457,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event PlayerInteractEvent
      */
-    @SubscribeEvent
     public void on(final PlayerInteractEvent.EntityInteract event)
     {
         if (isFreeToInteractWith(null, event.getPos())
@@ -455,7 +513,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event PlayerInteractEvent
      */
-    @SubscribeEvent
     public void on(final PlayerInteractEvent.EntityInteractSpecific event)
     {
         if (isFreeToInteractWith(null, event.getPos())
@@ -473,7 +530,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event ItemTossEvent
      */
-    @SubscribeEvent
     public void on(final ItemTossEvent event)
     {
         if (checkEventCancelation(Action.TOSS_ITEM, event.getPlayer(), event.getPlayer().getCommandSenderWorld(), event, event.getPlayer().blockPosition()))
@@ -489,7 +545,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event ItemEntityPickupEvent
      */
-    @SubscribeEvent
     public void on(final EntityItemPickupEvent event)
     {
         checkEventCancelation(Action.PICKUP_ITEM, event.getEntity(), event.getEntity().getCommandSenderWorld(), event, event.getEntity().blockPosition());
@@ -502,7 +557,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event ItemEntityPickupEvent
      */
-    @SubscribeEvent
     public void on(final FillBucketEvent event)
     {
         @Nullable BlockPos targetBlockPos = null;
@@ -524,7 +578,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event ItemEntityPickupEvent
      */
-    @SubscribeEvent
     public void on(final ArrowLooseEvent event)
     {
         checkEventCancelation(Action.SHOOT_ARROW, event.getEntity(), event.getEntity().getCommandSenderWorld(), event, event.getEntity().blockPosition());
@@ -538,7 +591,6 @@ public class ColonyPermissionEventHandler
      * this here is handling players getting hurt by citizens.
      * @param event
      */
-    @SubscribeEvent
     public void on(final LivingHurtEvent event)
     {
         if (event.getEntity() instanceof ServerPlayer
@@ -558,7 +610,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event ItemEntityPickupEvent
      */
-    @SubscribeEvent
     public void on(final AttackEntityEvent event)
     {
         if (event.getTarget() instanceof Monster)
@@ -2,6 +2,7 @@ package com.minecolonies.core.colony.requestsystem.data;
 
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
+import com.google.common.collect.Maps;
 import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
 import com.minecolonies.api.colony.requestsystem.data.IRequestIdentitiesDataStore;
@@ -9,6 +10,7 @@ import com.minecolonies.api.colony.requestsystem.factory.FactoryVoidInput;
 import com.minecolonies.api.colony.requestsystem.factory.IFactory;
 import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.request.RequestState;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.util.NBTUtils;
 import com.minecolonies.api.util.constant.SerializationIdentifierConstants;
@@ -20,9 +22,9 @@ import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.util.Tuple;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.NbtTagConstants.*;
@@ -35,24 +37,137 @@ public class StandardRequestIdentitiesDataStore implements IRequestIdentitiesDat
     private       IToken<?>                     id;
     private final BiMap<IToken<?>, IRequest<?>> map;
 
+    /**
+     * Read only view handed out, all changes go through {@link #add(IRequest)} and {@link #remove(IToken)} to keep the lookups below in sync.
+     */
+    private final BiMap<IToken<?>, IRequest<?>> view;
+
+    /**
+     * Request tokens by requester id.
+     */
+    private final Map<IToken<?>, Set<IToken<?>>> byRequester = new HashMap<>();
+
+    /**
+     * Request tokens by request state.
+     */
+    private final Map<RequestState, Set<IToken<?>>> byState = new EnumMap<>(RequestState.class);
+
     public StandardRequestIdentitiesDataStore(
       final IToken<?> id,
       final BiMap<IToken<?>, IRequest<?>> map)
     {
         this.id = id;
         this.map = map;
+        this.view = Maps.unmodifiableBiMap(map);
+        for (final IRequest<?> request : map.values())
+        {
+            index(request);
+        }
     }
 
     public StandardRequestIdentitiesDataStore()
     {
         this.id = StandardFactoryController.getInstance().getNewInstance(TypeConstants.ITOKEN);
         this.map = HashBiMap.create();
+        this.view = Maps.unmodifiableBiMap(map);
     }
 
     @Override
     public BiMap<IToken<?>, IRequest<?>> getIdentities()
     {
-        return map;
+        return view;
+    }
+
+    @Override
+    public void add(@NotNull final IRequest<?> request)
+    {
+        final IRequest<?> previous = map.put(request.getId(), request);
+        if (previous != null)
+        {
+            unindex(previous, previous.getState());
+        }
+        index(request);
+    }
+
+    @Nullable
+    @Override
+    public IRequest<?> remove(@NotNull final IToken<?> token)
+    {
+        final IRequest<?> request = map.remove(token);
+        if (request != null)
+        {
+            unindex(request, request.getState());
+        }
+        return request;
+    }
+
+    @Override
+    public Collection<IToken<?>> getRequestsByRequester(@NotNull final IToken<?> requesterId)
+    {
+        final Set<IToken<?>> tokens = byRequester.get(requesterId);
+        return tokens == null ? Collections.emptySet() : Collections.unmodifiableSet(tokens);
+    }
+
+    @Override
+    public Collection<IToken<?>> getRequestsInState(@NotNull final RequestState state)
+    {
+        final Set<IToken<?>> tokens = byState.get(state);
+        return tokens == null ? Collections.emptySet() : Collections.unmodifiableSet(tokens);
+    }
+
+    @Override
+    public void onRequestStateChanged(@NotNull final IRequest<?> request, @NotNull final RequestState previousState)
+    {
+        if (map.get(request.getId()) != request)
+        {
+            return;
+        }
+
+        removeFromIndex(byState, previousState, request.getId());
+        byState.computeIfAbsent(request.getState(), s -> new LinkedHashSet<>()).add(request.getId());
+    }
+
+    /**
+     * Adds a request to the lookups.
+     *
+     * @param request The request.
+     */
+    private void index(final IRequest<?> request)
+    {
+        byRequester.computeIfAbsent(request.getRequester().getId(), r -> new LinkedHashSet<>()).add(request.getId());
+        byState.computeIfAbsent(request.getState(), s -> new LinkedHashSet<>()).add(request.getId());
+    }
+
+    /**
+     * Removes a request from the lookups.
+     *
+     * @param request The request.
+     * @param state   The state it is indexed with.
+     */
+    private void unindex(final IRequest<?> request, final RequestState state)
+    {
+        removeFromIndex(byRequester, request.getRequester().getId(), request.getId());
+        removeFromIndex(byState, state, request.getId());
+    }
+
+    /**
+     * Removes a token from a lookup, dropping empty sets.
+     *
+     * @param index The lookup.
+     * @param key   The key the token is stored with.
+     * @param token The token.
+     */
+    private static <K> void removeFromIndex(final Map<K, Set<IToken<?>>> index, final K key, final IToken<?> token)
+    {
+        final Set<IToken<?>> tokens = index.get(key);
+        if (tokens != null)
+        {
+            tokens.remove(token);
+            if (tokens.isEmpty())
+            {
+                index.remove(key);
+            }
+        }
     }
 
     @Override
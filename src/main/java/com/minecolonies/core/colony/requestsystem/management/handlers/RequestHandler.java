@@ -3,6 +3,7 @@ package com.minecolonies.core.colony.requestsystem.management.handlers;
 import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
 import com.google.common.reflect.TypeToken;
+import com.minecolonies.api.colony.requestsystem.data.IRequestIdentitiesDataStore;
 import com.minecolonies.api.colony.requestsystem.management.IRequestHandler;
 import com.minecolonies.api.colony.requestsystem.manager.AssigningStrategy;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
@@ -20,7 +21,6 @@ import com.minecolonies.core.colony.requestsystem.management.manager.wrapped.Wra
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.Suppression.RAWTYPES;
 import static com.minecolonies.api.util.constant.Suppression.UNCHECKED;
@@ -69,7 +69,7 @@ public class RequestHandler implements IRequestHandler
 
         manager.log("Registering request: " + request);
 
-        manager.getRequestIdentitiesDataStore().getIdentities().put(request.getId(), request);
+        manager.getRequestIdentitiesDataStore().add(request);
     }
 
     /**
@@ -129,36 +129,7 @@ public class RequestHandler implements IRequestHandler
 
         request.setState(new WrappedStaticStateRequestManager(manager), RequestState.ASSIGNING);
 
-        final Set<TypeToken<?>> requestTypes = request.getSuperClasses();
-
-        final List<TypeToken<?>> typeIndexList = new LinkedList<>(requestTypes);
-
-        List<IRequestResolver<? extends IRequestable>> resolverList = new ArrayList<>();
-        for (final TypeToken<?> requestTypeToken : requestTypes)
-        {
-            final Collection<IToken<?>> resolverTokens = manager.getRequestableTypeRequestResolverAssignmentDataStore()
-              .getAssignments()
-              .get(requestTypeToken);
-
-            if (resolverTokens == null)
-            {
-                continue;
-            }
-
-            for (IToken<?> iToken : resolverTokens)
-            {
-                final IRequestResolver<? extends IRequestable> iRequestResolver = manager.getResolverHandler().getResolver(iToken);
-                if (requestTypes.contains(iRequestResolver.getRequestType()))
-                {
-                    resolverList.add(iRequestResolver);
-                }
-            }
-        }
-
-        resolverList.sort(Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority())
-          .thenComparingInt((IRequestResolver<?> r) -> typeIndexList.indexOf(r.getRequestType())));
-
-        final Set<IRequestResolver<?>> resolvers = new LinkedHashSet<>(resolverList);
+        final IRequestResolver<?>[] resolvers = manager.getResolverHandler().getResolversForRequest(request);
 
         IRequestResolver previousResolver = null;
         int previousMetric = Integer.MAX_VALUE;
@@ -404,7 +375,7 @@ public class RequestHandler implements IRequestHandler
 
         if (manager.getRequestResolverRequestAssignmentDataStore().getAssignmentForValue(token) == null)
         {
-            manager.getRequestIdentitiesDataStore().getIdentities().remove(token);
+            manager.getRequestIdentitiesDataStore().remove(token);
             return;
         }
 
@@ -573,17 +544,18 @@ public class RequestHandler implements IRequestHandler
             }
         }
 
-        manager.getRequestIdentitiesDataStore().getIdentities().remove(token);
+        manager.getRequestIdentitiesDataStore().remove(token);
     }
 
     @Override
     public void removeRequester(final IRequester requester)
     {
-        for (final IRequest<?> req : new ArrayList<>(manager.getRequestIdentitiesDataStore().getIdentities().values()))
+        for (final IToken<?> token : new ArrayList<>(manager.getRequestIdentitiesDataStore().getRequestsByRequester(requester.getId())))
         {
-            if (req.getRequester().getId().equals(requester.getId()))
+            // Cancelling a request can remove others made by the same requester
+            if (getRequestOrNull(token) != null)
             {
-                onRequestCancelled(req.getId());
+                onRequestCancelled(token);
             }
         }
     }
@@ -628,11 +600,14 @@ public class RequestHandler implements IRequestHandler
     @Override
     public Collection<IRequest<?>> getRequestsMadeByRequester(final IRequester requester)
     {
-        return manager.getRequestIdentitiesDataStore()
-          .getIdentities()
-          .values()
-          .stream()
-          .filter(iRequest -> iRequest.getRequester().getId().equals(requester.getId()))
-          .collect(Collectors.toList());
+        final IRequestIdentitiesDataStore dataStore = manager.getRequestIdentitiesDataStore();
+        final Collection<IToken<?>> tokens = dataStore.getRequestsByRequester(requester.getId());
+
+        final List<IRequest<?>> requests = new ArrayList<>(tokens.size());
+        for (final IToken<?> token : tokens)
+        {
+            requests.add(dataStore.getIdentities().get(token));
+        }
+        return requests;
     }
 }
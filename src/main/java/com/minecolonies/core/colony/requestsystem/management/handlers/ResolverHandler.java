@@ -35,6 +35,22 @@ public class ResolverHandler implements IResolverHandler
      */
     private List<IToken<?>> tempBlackList = new ArrayList<>();
 
+    /**
+     * Candidate resolvers by requestable class, see {@link #getResolversForRequest(IRequest)}.
+     */
+    private final Map<Class<?>, IRequestResolver<?>[]> resolverIndex = new HashMap<>();
+
+    /**
+     * Version of the registered resolvers, changes whenever a resolver is registered or removed.
+     */
+    private int resolverVersion = 0;
+
+    /**
+     * Resolver version and data store the index was built from.
+     */
+    private int    indexedResolverVersion = -1;
+    private Object indexedDataStore       = null;
+
     public ResolverHandler(final IStandardRequestManager manager)
     {
         this.manager = manager;
@@ -98,6 +114,7 @@ public class ResolverHandler implements IResolverHandler
             manager.log("Registering resolver: " + resolver + " with request type: " + c);
             manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().get(c).add(resolver.getId());
         });
+        resolverVersion++;
 
         return resolver.getId();
     }
@@ -299,6 +316,7 @@ public class ResolverHandler implements IResolverHandler
             manager.log("Removing resolver: " + resolver + " with request type: " + c);
             manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().get(c).remove(resolver.getId());
         });
+        resolverVersion++;
     }
 
     /**
@@ -437,4 +455,65 @@ public class ResolverHandler implements IResolverHandler
     {
         return tempBlackList.contains(id);
     }
+
+    @Override
+    public IRequestResolver<?>[] getResolversForRequest(final IRequest<?> request)
+    {
+        // The data store gets replaced when the request system is loaded
+        final Object dataStore = manager.getRequestableTypeRequestResolverAssignmentDataStore();
+        if (indexedResolverVersion != resolverVersion || indexedDataStore != dataStore)
+        {
+            resolverIndex.clear();
+            indexedResolverVersion = resolverVersion;
+            indexedDataStore = dataStore;
+        }
+
+        final Class<?> requestableClass = request.getRequest().getClass();
+        IRequestResolver<?>[] resolvers = resolverIndex.get(requestableClass);
+        if (resolvers == null)
+        {
+            resolvers = buildResolverIndexEntry(request.getSuperClasses());
+            resolverIndex.put(requestableClass, resolvers);
+        }
+
+        return resolvers;
+    }
+
+    /**
+     * Collects the resolvers which can handle any of the given request types.
+     *
+     * @param requestTypes The types of a requestable class.
+     * @return The resolvers, ordered by priority and then by the position of their request type in the given types.
+     */
+    private IRequestResolver<?>[] buildResolverIndexEntry(final Set<TypeToken<?>> requestTypes)
+    {
+        final List<TypeToken<?>> typeIndexList = new ArrayList<>(requestTypes);
+
+        final List<IRequestResolver<?>> resolverList = new ArrayList<>();
+        for (final TypeToken<?> requestTypeToken : requestTypes)
+        {
+            final Collection<IToken<?>> resolverTokens = manager.getRequestableTypeRequestResolverAssignmentDataStore()
+              .getAssignments()
+              .get(requestTypeToken);
+
+            if (resolverTokens == null)
+            {
+                continue;
+            }
+
+            for (final IToken<?> token : resolverTokens)
+            {
+                final IRequestResolver<?> resolver = getResolver(token);
+                if (requestTypes.contains(resolver.getRequestType()))
+                {
+                    resolverList.add(resolver);
+                }
+            }
+        }
+
+        resolverList.sort(Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority())
+          .thenComparingInt((IRequestResolver<?> r) -> typeIndexList.indexOf(r.getRequestType())));
+
+        return new LinkedHashSet<>(resolverList).toArray(new IRequestResolver<?>[0]);
+    }
 }
@@ -282,6 +282,12 @@ public class StandardRequestManager implements IStandardRequestManager
         return getResolverForToken(getResolverHandler().getResolverForRequest(request).getId());
     }
 
+    @Override
+    public void onRequestStateChanged(@NotNull final IRequest<?> request, @NotNull final RequestState previousState)
+    {
+        getRequestIdentitiesDataStore().onRequestStateChanged(request, previousState);
+    }
+
     /**
      * Method to update the state of a given request.
      *
@@ -165,6 +165,12 @@ public abstract class AbstractWrappedRequestManager implements IRequestManager
         wrappedManager.updateRequestState(token, state);
     }
 
+    @Override
+    public void onRequestStateChanged(@NotNull final IRequest<?> request, @NotNull final RequestState previousState)
+    {
+        wrappedManager.onRequestStateChanged(request, previousState);
+    }
+
     @Override
     public void overruleRequest(@NotNull final IToken<?> token, @Nullable final ItemStack stack) throws IllegalArgumentException
     {
@@ -136,8 +136,13 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
     @Override
     public void setState(@NotNull final IRequestManager manager, @NotNull final RequestState state)
     {
+        final RequestState previousState = this.state;
         this.state = state;
         manager.log("Updated state from: " + getId() + " to: " + state);
+        if (previousState != state)
+        {
+            manager.onRequestStateChanged(this, previousState);
+        }
 
         if (this.hasParent() && this.getParent() != null)
         {
@@ -18,6 +18,7 @@ import com.minecolonies.api.util.CraftingUtils;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.core.colony.buildings.AbstractBuilding;
+import com.minecolonies.core.colony.crafting.RecipeOutputPredicate;
 import com.minecolonies.core.colony.requestsystem.requesters.IBuildingBasedRequester;
 import net.minecraft.world.item.ItemStack;
 import org.jetbrains.annotations.NotNull;
@@ -131,7 +132,7 @@ public abstract class AbstractCraftingProductionResolver<C extends AbstractCraft
             return null;
         }
 
-        final IRecipeStorage fullfillableCrafting = module.getFirstFulfillableRecipe(itemStack -> ItemStackUtils.compareItemStacksIgnoreStackSize(itemStack, stack), count, true);
+        final IRecipeStorage fullfillableCrafting = module.getFirstFulfillableRecipe(RecipeOutputPredicate.of(stack, itemStack -> ItemStackUtils.compareItemStacksIgnoreStackSize(itemStack, stack)), count, true);
         if (fullfillableCrafting != null)
         {
             return ImmutableList.of();
@@ -245,7 +246,7 @@ public abstract class AbstractCraftingProductionResolver<C extends AbstractCraft
             manager.updateRequestState(request.getId(), RequestState.FAILED);
             return;
         }
-        final IRecipeStorage storage = module.getFirstFulfillableRecipe(stack -> ItemStackUtils.compareItemStacksIgnoreStackSize(stack, request.getRequest().getStack()), request.getRequest().getCount(), false);
+        final IRecipeStorage storage = module.getFirstFulfillableRecipe(RecipeOutputPredicate.of(request.getRequest().getStack(), stack -> ItemStackUtils.compareItemStacksIgnoreStackSize(stack, request.getRequest().getStack())), request.getRequest().getCount(), false);
 
         if (storage == null)
         {
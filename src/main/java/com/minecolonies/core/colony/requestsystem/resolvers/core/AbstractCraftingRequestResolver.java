@@ -21,6 +21,7 @@ import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.core.colony.buildings.AbstractBuilding;
 import com.minecolonies.core.colony.buildings.modules.WorkerBuildingModule;
+import com.minecolonies.core.colony.crafting.RecipeOutputPredicate;
 import com.minecolonies.core.colony.requestsystem.requesters.IBuildingBasedRequester;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.item.ItemStack;
@@ -145,9 +146,10 @@ public abstract class AbstractCraftingRequestResolver extends AbstractRequestRes
         }
 
         final boolean isFood = request.getRequest() instanceof Food;
+        final Predicate<ItemStack> outputPredicate = RecipeOutputPredicate.of(request.getRequest());
         for (final ICraftingBuildingModule module : building.getModulesByType(ICraftingBuildingModule.class))
         {
-            final IRecipeStorage recipe = module.getFirstRecipe(itemStack -> request.getRequest().matches(itemStack));
+            final IRecipeStorage recipe = module.getFirstRecipe(outputPredicate);
 
             // If this building is resolving a generic food request, then only allow it to resolve non-smeltables.
             if (recipe != null && (!isFood || recipe.getIntermediate() != Blocks.FURNACE) && canBuildingCraftRecipe(building, recipe))
@@ -251,7 +253,7 @@ public abstract class AbstractCraftingRequestResolver extends AbstractRequestRes
     {
         return attemptResolveForBuildingAndStack(manager,
           building,
-          itemStack -> request.getRequest().matches(itemStack),
+          RecipeOutputPredicate.of(request.getRequest()),
           request.getRequest().getCount(),
           request.getRequest().getMinimumCount());
     }
@@ -161,14 +161,7 @@ public abstract class AbstractWarehouseRequestResolver extends AbstractRequestRe
         }
         for (final TileEntityWareHouse tile : wareHouses)
         {
-            final List<Tuple<ItemStack, BlockPos>> inv = tile.getMatchingItemStacksInWarehouse(itemStack -> request.getRequest().matches(itemStack));
-            for (final Tuple<ItemStack, BlockPos> stack : inv)
-            {
-                if (!stack.getA().isEmpty())
-                {
-                    totalAvailable += stack.getA().getCount();
-                }
-            }
+            totalAvailable += tile.getAvailableCount(itemStack -> request.getRequest().matches(itemStack));
         }
 
         if (totalAvailable >= totalRequested || totalAvailable >= request.getRequest().getMinimumCount())
@@ -186,6 +179,45 @@ public abstract class AbstractWarehouseRequestResolver extends AbstractRequestRe
         return Lists.newArrayList(manager.createRequest(this, remainingRequest));
     }
 
+    @Override
+    public void onRequestAssigned(@NotNull final IRequestManager manager, @NotNull final IRequest<? extends IDeliverable> request, final boolean simulation)
+    {
+        if (simulation || manager.getColony().getWorld().isClientSide || !(manager.getColony() instanceof Colony))
+        {
+            return;
+        }
+
+        // Hold the stock found for this request until its deliveries are created, so other requests do not count it as well
+        int remaining = request.getRequest().getCount();
+        for (final TileEntityWareHouse wareHouse : getWareHousesInColony((Colony) manager.getColony(), request.getRequester().getLocation().getInDimensionLocation()))
+        {
+            if (remaining <= 0)
+            {
+                break;
+            }
+            remaining -= wareHouse.reserveStock(request.getId(), itemStack -> request.getRequest().matches(itemStack), remaining);
+        }
+    }
+
+    /**
+     * Releases the stock reserved for a request in all warehouses.
+     *
+     * @param manager the request manager.
+     * @param request the request.
+     */
+    private static void releaseStock(@NotNull final IRequestManager manager, @NotNull final IRequest<?> request)
+    {
+        if (manager.getColony().getWorld().isClientSide || !(manager.getColony() instanceof Colony))
+        {
+            return;
+        }
+
+        for (final TileEntityWareHouse wareHouse : getWareHousesInColony((Colony) manager.getColony(), request.getRequester().getLocation().getInDimensionLocation()))
+        {
+            wareHouse.releaseStock(request.getId());
+        }
+    }
+
     @Override
     public void resolveRequest(@NotNull final IRequestManager manager, @NotNull final IRequest<? extends IDeliverable> request)
     {
@@ -201,6 +233,8 @@ public abstract class AbstractWarehouseRequestResolver extends AbstractRequestRe
             return null;
         }
 
+        releaseStock(manager, completedRequest);
+
         final Colony colony = (Colony) manager.getColony();
         final List<TileEntityWareHouse> wareHouses = getWareHousesInColony(colony, completedRequest.getRequester().getLocation().getInDimensionLocation());
 
@@ -268,7 +302,7 @@ public abstract class AbstractWarehouseRequestResolver extends AbstractRequestRe
     @Override
     public void onAssignedRequestBeingCancelled(@NotNull final IRequestManager manager, @NotNull final IRequest<? extends IDeliverable> request)
     {
-
+        releaseStock(manager, request);
     }
 
     @Override
@@ -93,7 +93,13 @@ public class EntryPoint
           .addNode(new CommandResetPlayerSupplies().build())
           .addNode(new CommandHelp().build())
           .addNode(new ScanCommand().build())
-          .addNode(new CommandPruneWorld().build());
+          .addNode(new CommandPruneWorld().build())
+          .addNode(new CommandPathfindingStats().build())
+          .addNode(new CommandNetworkStats().build())
+          .addNode(new CommandPermissionStats().build())
+          .addNode(new CommandSaveStats().build())
+          .addNode(new CommandColonyTickStats().build())
+          .addNode(new CommandAIProfile().build());
 
         /*
          * Root minecolonies alias command tree, all subtrees are added here.
@@ -112,7 +118,13 @@ public class EntryPoint
           .addNode(new CommandBackup().build())
           .addNode(new CommandResetPlayerSupplies().build())
           .addNode(new CommandHelp().build())
-          .addNode(new CommandPruneWorld().build());
+          .addNode(new CommandPruneWorld().build())
+          .addNode(new CommandPathfindingStats().build())
+          .addNode(new CommandNetworkStats().build())
+          .addNode(new CommandPermissionStats().build())
+          .addNode(new CommandSaveStats().build())
+          .addNode(new CommandColonyTickStats().build())
+          .addNode(new CommandAIProfile().build());
 
         // Adds all command trees to the dispatcher to register the commands.
         dispatcher.register(minecoloniesRoot.build());
@@ -0,0 +1,230 @@
+package com.minecolonies.core.commands.generalcommands;
+
+import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.StateMachineProfiler;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.core.commands.commandTypes.IMCCommand;
+import com.minecolonies.core.commands.commandTypes.IMCOPCommand;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.level.storage.LevelResource;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.*;
+
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.FILENAME_MINECOLONIES_PATH;
+
+/**
+ * Controls the {@link StateMachineProfiler}: starts and stops recording, prints the most expensive state machines, transitions, colonies and job types, and
+ * exports all recorded stats including the histograms to a csv file in the world folder.
+ */
+public class CommandAIProfile implements IMCOPCommand
+{
+    /**
+     * Number of entries printed per group.
+     */
+    private static final int REPORT_ENTRIES = 10;
+
+    /**
+     * Folder within the minecolonies save folder the exports are written to.
+     */
+    private static final String EXPORT_FOLDER = "profiling";
+    private static final String EXPORT_NAME   = "aiprofile-%s.csv";
+
+    private static final String STATUS_TEXT  = "AI profiling is %s.";
+    private static final String GROUP_TEXT   = "-- %s --";
+    private static final String ENTRY_TEXT   = "%s: total=%.2fms count=%d avg=%.1fus p50<%.1fus p99<%.1fus max=%.1fus";
+    private static final String START_TEXT   = "AI profiling started.";
+    private static final String STOP_TEXT    = "AI profiling stopped.";
+    private static final String RESET_TEXT   = "AI profiling statistics reset.";
+    private static final String EXPORT_TEXT  = "AI profile exported to %s.";
+    private static final String FAILED_TEXT  = "AI profile export failed, see the log.";
+
+    /**
+     * What happens when the command is executed after preConditions are successful.
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSourceStack> context)
+    {
+        send(context, String.format(STATUS_TEXT, StateMachineProfiler.isEnabled() ? "running" : "stopped"));
+        report(context, "state machines", StateMachineProfiler.getMachines());
+        report(context, "transitions", StateMachineProfiler.getTransitions());
+        report(context, "colonies", StateMachineProfiler.getColonies());
+        report(context, "jobs", StateMachineProfiler.getJobs());
+        return 1;
+    }
+
+    /**
+     * Prints the most expensive entries of one group.
+     *
+     * @param context the context of the command execution
+     * @param group   the group name.
+     * @param stats   the stats of the group.
+     */
+    private static void report(final CommandContext<CommandSourceStack> context, final String group, final Map<?, StateMachineProfiler.Stats> stats)
+    {
+        send(context, String.format(GROUP_TEXT, group));
+        final List<Map.Entry<?, StateMachineProfiler.Stats>> entries = sorted(stats);
+        for (int i = 0; i < Math.min(REPORT_ENTRIES, entries.size()); i++)
+        {
+            final StateMachineProfiler.Stats entry = entries.get(i).getValue();
+            final long count = Math.max(1, entry.getCount());
+            send(context, String.format(ENTRY_TEXT,
+              entries.get(i).getKey(),
+              entry.getTotalNanos() / 1000000d,
+              entry.getCount(),
+              entry.getTotalNanos() / 1000d / count,
+              entry.getPercentileNanos(0.5) / 1000d,
+              entry.getPercentileNanos(0.99) / 1000d,
+              entry.getMaxNanos() / 1000d));
+        }
+    }
+
+    /**
+     * Sorts the entries of a group by total time, most expensive first.
+     *
+     * @param stats the stats of the group.
+     * @return the sorted entries.
+     */
+    private static List<Map.Entry<?, StateMachineProfiler.Stats>> sorted(final Map<?, StateMachineProfiler.Stats> stats)
+    {
+        final List<Map.Entry<?, StateMachineProfiler.Stats>> entries = new ArrayList<>(stats.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue().getTotalNanos(), a.getValue().getTotalNanos()));
+        return entries;
+    }
+
+    private static void send(final CommandContext<CommandSourceStack> context, final String text)
+    {
+        context.getSource().sendSuccess(() -> Component.literal(text), false);
+    }
+
+    /**
+     * Starts or stops recording.
+     *
+     * @param context the context of the command execution
+     * @param enable  true to start.
+     * @return 1 if successful.
+     */
+    private int onToggle(final CommandContext<CommandSourceStack> context, final boolean enable)
+    {
+        if (!checkPreCondition(context))
+        {
+            return 0;
+        }
+
+        StateMachineProfiler.setEnabled(enable);
+        send(context, enable ? START_TEXT : STOP_TEXT);
+        return 1;
+    }
+
+    /**
+     * Drops the recorded stats.
+     *
+     * @param context the context of the command execution
+     * @return 1 if successful.
+     */
+    private int onReset(final CommandContext<CommandSourceStack> context)
+    {
+        if (!checkPreCondition(context))
+        {
+            return 0;
+        }
+
+        StateMachineProfiler.reset();
+        send(context, RESET_TEXT);
+        return 1;
+    }
+
+    /**
+     * Writes all recorded stats to a csv file, one line per entry with the histogram buckets as columns.
+     *
+     * @param context the context of the command execution
+     * @return 1 if successful.
+     */
+    private int onExport(final CommandContext<CommandSourceStack> context)
+    {
+        if (!checkPreCondition(context))
+        {
+            return 0;
+        }
+
+        final File folder = new File(new File(context.getSource().getServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH), EXPORT_FOLDER);
+        final File file = new File(folder, String.format(EXPORT_NAME, new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(new Date())));
+        folder.mkdirs();
+        try (PrintWriter writer = new PrintWriter(file, StandardCharsets.UTF_8))
+        {
+            final StringBuilder header = new StringBuilder("group,key,count,total_ns,max_ns");
+            for (int i = 0; i < StateMachineProfiler.BUCKETS; i++)
+            {
+                header.append(",lt_").append(1L << i).append("ns");
+            }
+            writer.println(header);
+
+            export(writer, "machine", StateMachineProfiler.getMachines());
+            export(writer, "transition", StateMachineProfiler.getTransitions());
+            export(writer, "colony", StateMachineProfiler.getColonies());
+            export(writer, "job", StateMachineProfiler.getJobs());
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().error("Could not export the AI profile", e);
+            send(context, FAILED_TEXT);
+            return 0;
+        }
+
+        send(context, String.format(EXPORT_TEXT, file.getName()));
+        return 1;
+    }
+
+    /**
+     * Writes the entries of one group.
+     *
+     * @param writer the csv writer.
+     * @param group  the group name.
+     * @param stats  the stats of the group.
+     */
+    private static void export(final PrintWriter writer, final String group, final Map<?, StateMachineProfiler.Stats> stats)
+    {
+        for (final Map.Entry<?, StateMachineProfiler.Stats> entry : sorted(stats))
+        {
+            final StateMachineProfiler.Stats value = entry.getValue();
+            final StringBuilder line = new StringBuilder(group).append(',')
+              .append(entry.getKey().toString().replace(',', ';')).append(',')
+              .append(value.getCount()).append(',')
+              .append(value.getTotalNanos()).append(',')
+              .append(value.getMaxNanos());
+            for (int i = 0; i < StateMachineProfiler.BUCKETS; i++)
+            {
+                line.append(',').append(value.getBucket(i));
+            }
+            writer.println(line);
+        }
+    }
+
+    /**
+     * Name string of the command.
+     */
+    @Override
+    public String getName()
+    {
+        return "aiprofile";
+    }
+
+    @Override
+    public LiteralArgumentBuilder<CommandSourceStack> build()
+    {
+        return IMCCommand.newLiteral(getName())
+          .executes(this::checkPreConditionAndExecute)
+          .then(IMCCommand.newLiteral("start").executes(context -> onToggle(context, true)))
+          .then(IMCCommand.newLiteral("stop").executes(context -> onToggle(context, false)))
+          .then(IMCCommand.newLiteral("reset").executes(this::onReset))
+          .then(IMCCommand.newLiteral("export").executes(this::onExport));
+    }
+}
@@ -1,13 +1,16 @@
 package com.minecolonies.core.commands.generalcommands;
 
+import com.minecolonies.core.commands.commandTypes.IMCCommand;
 import com.minecolonies.core.commands.commandTypes.IMCOPCommand;
 import com.minecolonies.core.util.BackUpHelper;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.context.CommandContext;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.network.chat.Component;
 
-import static com.minecolonies.api.util.constant.translation.CommandTranslationConstants.COMMAND_BACKUP_FAILED;
-import static com.minecolonies.api.util.constant.translation.CommandTranslationConstants.COMMAND_BACKUP_SUCCESS;
+import static com.minecolonies.api.util.constant.translation.CommandTranslationConstants.*;
+import static com.minecolonies.core.commands.CommandArgumentNames.BACKUP_ARG;
 
 public class CommandBackup implements IMCOPCommand
 {
@@ -31,6 +34,29 @@ public class CommandBackup implements IMCOPCommand
         return 1;
     }
 
+    /**
+     * Restores the colony files of a backup into the save folder.
+     *
+     * @param context the context of the command execution
+     * @return 1 if successful.
+     */
+    private int onRestore(final CommandContext<CommandSourceStack> context)
+    {
+        if (!checkPreCondition(context))
+        {
+            return 0;
+        }
+
+        final String backupName = StringArgumentType.getString(context, BACKUP_ARG);
+        if (BackUpHelper.restoreBackupFiles(backupName))
+        {
+            context.getSource().sendSuccess(() -> Component.translatable(COMMAND_BACKUP_RESTORE_SUCCESS, backupName), true);
+            return 1;
+        }
+        context.getSource().sendSuccess(() -> Component.translatable(COMMAND_BACKUP_RESTORE_FAILED, backupName), true);
+        return 0;
+    }
+
     /**
      * Name string of the command.
      */
@@ -39,4 +65,12 @@ public class CommandBackup implements IMCOPCommand
     {
         return "backup";
     }
+
+    @Override
+    public LiteralArgumentBuilder<CommandSourceStack> build()
+    {
+        return IMCCommand.newLiteral(getName())
+          .executes(this::checkPreConditionAndExecute)
+          .then(IMCCommand.newLiteral("restore").then(IMCCommand.newArgument(BACKUP_ARG, StringArgumentType.string()).executes(this::onRestore)));
+    }
 }
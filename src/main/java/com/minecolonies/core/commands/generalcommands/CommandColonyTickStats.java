@@ -0,0 +1,86 @@
+package com.minecolonies.core.commands.generalcommands;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.core.colony.ColonyTickScheduler;
+import com.minecolonies.core.commands.commandTypes.IMCCommand;
+import com.minecolonies.core.commands.commandTypes.IMCOPCommand;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.chat.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prints how long the ticks of each colony took, most expensive first, and how often they were deferred by the colony tick budget.
+ */
+public class CommandColonyTickStats implements IMCOPCommand
+{
+    private static final String COLONY_TEXT = "#%d %s (%s): avg=%.3fms max=%.3fms total=%.1fms ticks=%d deferred=%d";
+    private static final String RESET_TEXT  = "Colony tick statistics reset.";
+
+    /**
+     * What happens when the command is executed after preConditions are successful.
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSourceStack> context)
+    {
+        final List<Map.Entry<IColony, ColonyTickScheduler.Cost>> entries = new ArrayList<>(ColonyTickScheduler.getCosts().entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue().totalNanos, a.getValue().totalNanos));
+        for (final Map.Entry<IColony, ColonyTickScheduler.Cost> entry : entries)
+        {
+            final IColony colony = entry.getKey();
+            final ColonyTickScheduler.Cost cost = entry.getValue();
+            final String line = String.format(COLONY_TEXT,
+              colony.getID(),
+              colony.getName(),
+              colony.getDimension().location(),
+              cost.ticks == 0 ? 0 : cost.totalNanos / 1000000d / cost.ticks,
+              cost.maxNanos / 1000000d,
+              cost.totalNanos / 1000000d,
+              cost.ticks,
+              cost.deferred);
+            context.getSource().sendSuccess(() -> Component.literal(line), false);
+        }
+        return 1;
+    }
+
+    /**
+     * Resets the collected statistics.
+     *
+     * @param context the context of the command execution
+     * @return 1 if successful.
+     */
+    private int onReset(final CommandContext<CommandSourceStack> context)
+    {
+        if (!checkPreCondition(context))
+        {
+            return 0;
+        }
+
+        ColonyTickScheduler.resetCosts();
+        context.getSource().sendSuccess(() -> Component.literal(RESET_TEXT), false);
+        return 1;
+    }
+
+    /**
+     * Name string of the command.
+     */
+    @Override
+    public String getName()
+    {
+        return "colonytickstats";
+    }
+
+    @Override
+    public LiteralArgumentBuilder<CommandSourceStack> build()
+    {
+        return IMCCommand.newLiteral(getName())
+          .executes(this::checkPreConditionAndExecute)
+          .then(IMCCommand.newLiteral("reset").executes(this::onReset));
+    }
+}
@@ -0,0 +1,100 @@
+package com.minecolonies.core.commands.generalcommands;
+
+import com.minecolonies.api.network.IMessage;
+import com.minecolonies.core.Network;
+import com.minecolonies.core.commands.commandTypes.IMCCommand;
+import com.minecolonies.core.commands.commandTypes.IMCOPCommand;
+import com.minecolonies.core.network.ViewDelta;
+import com.minecolonies.core.network.ViewSyncState;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.chat.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Prints the bytes sent per message type and the delta statistics of the colony view synchronization.
+ */
+public class CommandNetworkStats implements IMCOPCommand
+{
+    private static final String VIEW_TEXT    = "%s views: keyframes=%d (%d bytes) deltas=%d (%d bytes) unchanged=%d";
+    private static final String MESSAGE_TEXT = "%s: %d bytes";
+    private static final String RESET_TEXT   = "Network statistics reset.";
+
+    /**
+     * Amount of message types listed, largest first.
+     */
+    private static final int MAX_MESSAGE_LINES = 10;
+
+    /**
+     * What happens when the command is executed after preConditions are successful.
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSourceStack> context)
+    {
+        for (final ViewDelta.ViewType type : ViewDelta.ViewType.values())
+        {
+            final ViewSyncState.Stats stats = ViewSyncState.getStats(type);
+            final String line = String.format(VIEW_TEXT,
+              type.name(),
+              stats.keyframes.sum(),
+              stats.keyframeBytes.sum(),
+              stats.deltas.sum(),
+              stats.deltaBytes.sum(),
+              stats.skipped.sum());
+            context.getSource().sendSuccess(() -> Component.literal(line), false);
+        }
+
+        final List<Map.Entry<Class<? extends IMessage>, LongAdder>> messages = new ArrayList<>(Network.getNetwork().getSentBytes().entrySet());
+        messages.sort((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()));
+        for (int i = 0; i < Math.min(MAX_MESSAGE_LINES, messages.size()); i++)
+        {
+            final Map.Entry<Class<? extends IMessage>, LongAdder> entry = messages.get(i);
+            final String line = String.format(MESSAGE_TEXT, entry.getKey().getSimpleName(), entry.getValue().sum());
+            context.getSource().sendSuccess(() -> Component.literal(line), false);
+        }
+        return 1;
+    }
+
+    /**
+     * Resets the collected statistics.
+     *
+     * @param context the context of the command execution
+     * @return 1 if successful.
+     */
+    private int onReset(final CommandContext<CommandSourceStack> context)
+    {
+        if (!checkPreCondition(context))
+        {
+            return 0;
+        }
+
+        ViewSyncState.resetStats();
+        Network.getNetwork().resetSentBytes();
+        context.getSource().sendSuccess(() -> Component.literal(RESET_TEXT), false);
+        return 1;
+    }
+
+    /**
+     * Name string of the command.
+     */
+    @Override
+    public String getName()
+    {
+        return "networkstats";
+    }
+
+    @Override
+    public LiteralArgumentBuilder<CommandSourceStack> build()
+    {
+        return IMCCommand.newLiteral(getName())
+          .executes(this::checkPreConditionAndExecute)
+          .then(IMCCommand.newLiteral("reset").executes(this::onReset));
+    }
+}
@@ -0,0 +1,107 @@
+package com.minecolonies.core.commands.generalcommands;
+
+import com.minecolonies.core.commands.commandTypes.IMCCommand;
+import com.minecolonies.core.commands.commandTypes.IMCOPCommand;
+import com.minecolonies.core.entity.pathfinding.ColonyPathCache;
+import com.minecolonies.core.entity.pathfinding.PathJobPriority;
+import com.minecolonies.core.entity.pathfinding.PathJobScheduler;
+import com.minecolonies.core.entity.pathfinding.Pathfinding;
+import com.minecolonies.core.entity.pathfinding.world.RegionSnapshotCache;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.chat.Component;
+
+/**
+ * Prints queue depth and latency metrics of the pathfinding scheduler and chunk snapshot statistics.
+ */
+public class CommandPathfindingStats implements IMCOPCommand
+{
+    private static final String ACTIVE_TEXT   = "Computing: %d";
+    private static final String PRIORITY_TEXT =
+      "%s: queued=%d submitted=%d coalesced=%d superseded=%d cancelled=%d stale=%d completed=%d avgWait=%.2fms maxWait=%.2fms avgCompute=%.2fms";
+    private static final String SNAPSHOT_TEXT = "Chunk snapshots: cached=%d hitRate=%.1f%% avgRebuild=%.2fus invalidations=%d";
+    private static final String PATH_CACHE_TEXT = "Path cache: hitRate=%.1f%% partial=%d invalidations=%d";
+    private static final String RESET_TEXT    = "Pathfinding statistics reset.";
+
+    /**
+     * What happens when the command is executed after preConditions are successful.
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSourceStack> context)
+    {
+        final PathJobScheduler scheduler = Pathfinding.getScheduler();
+        context.getSource().sendSuccess(() -> Component.literal(String.format(ACTIVE_TEXT, scheduler.getActiveCount())), false);
+
+        for (final PathJobPriority priority : PathJobPriority.values())
+        {
+            final PathJobScheduler.PriorityStats stats = scheduler.getStats(priority);
+            final String line = String.format(PRIORITY_TEXT,
+              priority.name(),
+              scheduler.getQueueDepth(priority),
+              stats.submitted.sum(),
+              stats.coalesced.sum(),
+              stats.superseded.sum(),
+              stats.cancelled.sum(),
+              stats.stale.sum(),
+              stats.completed.sum(),
+              stats.getAvgWaitMillis(),
+              stats.maxWaitNanos.get() / 1000000d,
+              stats.getAvgComputeMillis());
+            context.getSource().sendSuccess(() -> Component.literal(line), false);
+        }
+
+        final String snapshots = String.format(SNAPSHOT_TEXT,
+          RegionSnapshotCache.getEntryCount(),
+          RegionSnapshotCache.getHitRate() * 100,
+          RegionSnapshotCache.getAvgRebuildMicros(),
+          RegionSnapshotCache.getInvalidations());
+        context.getSource().sendSuccess(() -> Component.literal(snapshots), false);
+
+        final String pathCache = String.format(PATH_CACHE_TEXT,
+          ColonyPathCache.getHitRate() * 100,
+          ColonyPathCache.getPartialHits(),
+          ColonyPathCache.getInvalidations());
+        context.getSource().sendSuccess(() -> Component.literal(pathCache), false);
+        return 1;
+    }
+
+    /**
+     * Resets the collected statistics.
+     *
+     * @param context the context of the command execution
+     * @return 1 if successful.
+     */
+    private int onReset(final CommandContext<CommandSourceStack> context)
+    {
+        if (!checkPreCondition(context))
+        {
+            return 0;
+        }
+
+        Pathfinding.getScheduler().resetStats();
+        RegionSnapshotCache.resetStats();
+        ColonyPathCache.resetStats();
+        context.getSource().sendSuccess(() -> Component.literal(RESET_TEXT), false);
+        return 1;
+    }
+
+    /**
+     * Name string of the command.
+     */
+    @Override
+    public String getName()
+    {
+        return "pathfinding";
+    }
+
+    @Override
+    public LiteralArgumentBuilder<CommandSourceStack> build()
+    {
+        return IMCCommand.newLiteral(getName())
+          .executes(this::checkPreConditionAndExecute)
+          .then(IMCCommand.newLiteral("reset").executes(this::onReset));
+    }
+}
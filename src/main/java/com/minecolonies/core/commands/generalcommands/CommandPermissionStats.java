@@ -0,0 +1,77 @@
+package com.minecolonies.core.commands.generalcommands;
+
+import com.minecolonies.core.colony.permissions.ColonyPermissionEventDispatcher;
+import com.minecolonies.core.commands.commandTypes.IMCCommand;
+import com.minecolonies.core.commands.commandTypes.IMCOPCommand;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.chat.Component;
+import net.minecraftforge.eventbus.api.Event;
+
+import java.util.Map;
+
+/**
+ * Prints how often and how long the colony permission checks handled each event type.
+ */
+public class CommandPermissionStats implements IMCOPCommand
+{
+    private static final String EVENT_TEXT = "%s: handled=%d avg=%.2fus total=%.2fms";
+    private static final String RESET_TEXT = "Permission statistics reset.";
+
+    /**
+     * What happens when the command is executed after preConditions are successful.
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSourceStack> context)
+    {
+        for (final Map.Entry<Class<? extends Event>, ColonyPermissionEventDispatcher.Stats> entry : ColonyPermissionEventDispatcher.getStats().entrySet())
+        {
+            final ColonyPermissionEventDispatcher.Stats stats = entry.getValue();
+            final String line = String.format(EVENT_TEXT,
+              entry.getKey().getSimpleName(),
+              stats.count.sum(),
+              stats.getAvgMicros(),
+              stats.nanos.sum() / 1000000d);
+            context.getSource().sendSuccess(() -> Component.literal(line), false);
+        }
+        return 1;
+    }
+
+    /**
+     * Resets the collected statistics.
+     *
+     * @param context the context of the command execution
+     * @return 1 if successful.
+     */
+    private int onReset(final CommandContext<CommandSourceStack> context)
+    {
+        if (!checkPreCondition(context))
+        {
+            return 0;
+        }
+
+        ColonyPermissionEventDispatcher.resetStats();
+        context.getSource().sendSuccess(() -> Component.literal(RESET_TEXT), false);
+        return 1;
+    }
+
+    /**
+     * Name string of the command.
+     */
+    @Override
+    public String getName()
+    {
+        return "permissionstats";
+    }
+
+    @Override
+    public LiteralArgumentBuilder<CommandSourceStack> build()
+    {
+        return IMCCommand.newLiteral(getName())
+          .executes(this::checkPreConditionAndExecute)
+          .then(IMCCommand.newLiteral("reset").executes(this::onReset));
+    }
+}
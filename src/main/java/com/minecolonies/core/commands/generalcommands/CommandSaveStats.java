@@ -0,0 +1,78 @@
+package com.minecolonies.core.commands.generalcommands;
+
+import com.minecolonies.core.commands.commandTypes.IMCCommand;
+import com.minecolonies.core.commands.commandTypes.IMCOPCommand;
+import com.minecolonies.core.util.ColonyFileWriter;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.chat.Component;
+
+import java.util.Map;
+
+/**
+ * Prints how long the last save of each colony file took to serialize and to write, and how often unchanged colonies were skipped.
+ */
+public class CommandSaveStats implements IMCOPCommand
+{
+    private static final String FILE_TEXT  = "%s: serialize=%.2fms write=%.2fms size=%dkB writes=%d skipped=%d";
+    private static final String RESET_TEXT = "Save statistics reset.";
+
+    /**
+     * What happens when the command is executed after preConditions are successful.
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSourceStack> context)
+    {
+        for (final Map.Entry<String, ColonyFileWriter.Timing> entry : ColonyFileWriter.getTimings().entrySet())
+        {
+            final ColonyFileWriter.Timing timing = entry.getValue();
+            final String line = String.format(FILE_TEXT,
+              entry.getKey(),
+              timing.serializeNanos / 1000000d,
+              timing.writeNanos / 1000000d,
+              timing.bytes / 1024,
+              timing.writes,
+              timing.skipped);
+            context.getSource().sendSuccess(() -> Component.literal(line), false);
+        }
+        return 1;
+    }
+
+    /**
+     * Resets the collected statistics.
+     *
+     * @param context the context of the command execution
+     * @return 1 if successful.
+     */
+    private int onReset(final CommandContext<CommandSourceStack> context)
+    {
+        if (!checkPreCondition(context))
+        {
+            return 0;
+        }
+
+        ColonyFileWriter.resetTimings();
+        context.getSource().sendSuccess(() -> Component.literal(RESET_TEXT), false);
+        return 1;
+    }
+
+    /**
+     * Name string of the command.
+     */
+    @Override
+    public String getName()
+    {
+        return "savestats";
+    }
+
+    @Override
+    public LiteralArgumentBuilder<CommandSourceStack> build()
+    {
+        return IMCCommand.newLiteral(getName())
+          .executes(this::checkPreConditionAndExecute)
+          .then(IMCCommand.newLiteral("reset").executes(this::onReset));
+    }
+}
@@ -1,6 +1,7 @@
 package com.minecolonies.core.datalistener;
 
 import com.google.gson.*;
+import com.minecolonies.api.crafting.ItemKey;
 import com.minecolonies.api.items.CheckedNbtKey;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.Log;
@@ -40,6 +41,7 @@ public class ItemNbtListener extends SimpleJsonResourceReloadListener
         {
             tryParse(entry);
         }
+        ItemKey.onMatchRulesChanged();
     }
 
     /**
@@ -55,6 +55,7 @@ public abstract class AbstractAISkeleton<J extends IJob<?>> implements ITickingS
         this.worker = this.job.getCitizen().getEntity().get();
         this.world = CompatibilityUtils.getWorldFromCitizen(this.worker);
         stateMachine = new TickRateStateMachine<>(AIWorkerState.INIT, this::onException, ENTITY_AI_TICKRATE);
+        stateMachine.setProfilingName(getClass().getSimpleName());
     }
 
     @Override
@@ -68,6 +68,7 @@ import java.util.function.Predicate;
 import static com.minecolonies.api.colony.requestsystem.requestable.deliveryman.AbstractDeliverymanRequestable.getMaxBuildingPriority;
 import static com.minecolonies.api.colony.requestsystem.requestable.deliveryman.AbstractDeliverymanRequestable.scaledPriority;
 import static com.minecolonies.api.entity.ai.statemachine.states.AIWorkerState.*;
+import static com.minecolonies.api.entity.citizen.AbstractEntityCitizen.ENTITY_AI_TICKRATE;
 import static com.minecolonies.api.util.constant.CitizenConstants.*;
 import static com.minecolonies.api.util.constant.Constants.*;
 import static com.minecolonies.api.util.constant.ToolLevelConstants.TOOL_LEVEL_WOOD_OR_GOLD;
@@ -118,6 +119,11 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob<?, J>, B exten
      */
     private int delay = 0;
 
+    /**
+     * Ticks left of the step in which the last delay ran out, taken off the next delay. Only happens while the AI is ticked slower than its base rate.
+     */
+    private int delayCredit = 0;
+
     /**
      * If we have waited one delay.
      */
@@ -416,7 +422,9 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob<?, J>, B exten
      */
     public final void setDelay(final int timeout)
     {
-        this.delay = timeout;
+        final int credit = Math.min(timeout, delayCredit);
+        delayCredit -= credit;
+        this.delay = timeout - credit;
     }
 
     /**
@@ -529,10 +537,18 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob<?, J>, B exten
             delay -= getTickRate();
             if (delay <= 0)
             {
+                // A stretched step may also cover the step the AI would have acted in, then it acts right away and the rest of the step counts for the next delay
+                final int overshoot = -delay - ENTITY_AI_TICKRATE;
                 clearWorkTarget();
+                if (overshoot >= 0)
+                {
+                    delayCredit = overshoot / ENTITY_AI_TICKRATE * ENTITY_AI_TICKRATE;
+                    return false;
+                }
             }
             return true;
         }
+        delayCredit = 0;
         return false;
     }
 
@@ -35,6 +35,7 @@ import com.minecolonies.core.colony.buildings.utils.BuildingBuilderResource;
 import com.minecolonies.core.colony.jobs.AbstractJobStructure;
 import com.minecolonies.core.entity.ai.workers.util.BuildingStructureHandler;
 import com.minecolonies.core.tileentities.TileEntityDecorationController;
+import com.minecolonies.core.util.WorkerUtil;
 import net.minecraft.core.BlockPos;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.tags.BlockTags;
@@ -708,6 +709,7 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
 
             job.setBlueprint(blueprint);
             job.getBlueprint().rotateWithMirror(BlockPosUtil.getRotationFromRotations(rotateTimes), isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, world);
+            WorkerUtil.prepareToolClassifications(job.getBlueprint());
             setStructurePlacer(structure);
 
             if (getProgressPos() != null)
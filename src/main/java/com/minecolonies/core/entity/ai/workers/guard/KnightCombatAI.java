@@ -288,7 +288,7 @@ public class KnightCombatAI extends AttackMoveAI<EntityCitizen>
     @Override
     protected PathResult moveInAttackPosition(final LivingEntity target)
     {
-        return user.getNavigation().moveToXYZ(target.getX(), target.getY(), target.getZ(), getCombatMovementSpeed());
+        return user.getNavigation().moveToLivingEntity(target, getCombatMovementSpeed());
     }
 
     /**
@@ -174,7 +174,7 @@ public class EntityAIWorkEnchanter extends AbstractEntityAICrafting<JobEnchanter
         boolean ancientTomeCraftingDisabled = false;
         for (final IToken<?> token : craftingModule.getRecipes())
         {
-            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
+            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
             if (storage != null && !storage.getInput().isEmpty() && storage.getInput().get(0).getItem() == ModItems.ancientTome && craftingModule.isDisabled(token))
             {
                 ancientTomeCraftingDisabled = true;
@@ -0,0 +1,69 @@
+package com.minecolonies.core.entity.citizen;
+
+import com.minecolonies.api.colony.ColonyState;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.jobs.IJob;
+import net.minecraft.world.entity.player.Player;
+import org.jetbrains.annotations.NotNull;
+
+import static com.minecolonies.api.entity.citizen.AbstractEntityCitizen.ENTITY_AI_TICKRATE;
+import static com.minecolonies.core.MineColonies.getConfig;
+
+/**
+ * Level of detail for the citizen AI. Citizens no player is close to tick their state machines less often, by distance to the nearest player:
+ * at the base rate within the near distance, at half of it up to the far distance and at a quarter of it beyond, as well as in colonies no player is subscribed
+ * to nearby. The state machines count their transitions and the worker delays down by the stretched rate, so the same work gets done in fewer, larger steps.
+ */
+public final class CitizenAITickPolicy
+{
+    /**
+     * Tick rate multipliers of the distance bands.
+     */
+    private static final int MID_FACTOR = 2;
+    private static final int FAR_FACTOR = 4;
+
+    private CitizenAITickPolicy()
+    {
+        throw new IllegalStateException("Tried to initialize: CitizenAITickPolicy but this is a Utility class.");
+    }
+
+    /**
+     * Get the rate the AI of a citizen should be ticked at.
+     *
+     * @param citizen the citizen.
+     * @return the rate in ticks.
+     */
+    public static int getTickRate(@NotNull final EntityCitizen citizen)
+    {
+        final int near = getConfig().getServer().citizenLodNearDistance.get();
+        if (near <= 0)
+        {
+            return ENTITY_AI_TICKRATE;
+        }
+
+        final IColony colony = citizen.getCitizenColonyHandler().getColony();
+        final IJob<?> job = citizen.getCitizenJobHandler().getColonyJob();
+        // Fights have to be reacted to in time
+        if (colony == null || colony.getRaiderManager().isRaided() || citizen.getLastHurtByMob() != null || (job != null && job.isGuard()))
+        {
+            return ENTITY_AI_TICKRATE;
+        }
+
+        if (colony.getState() != ColonyState.ACTIVE)
+        {
+            return ENTITY_AI_TICKRATE * FAR_FACTOR;
+        }
+
+        final int far = Math.max(near, getConfig().getServer().citizenLodFarDistance.get());
+        final Player player = citizen.level.getNearestPlayer(citizen, far);
+        if (player == null)
+        {
+            return ENTITY_AI_TICKRATE * FAR_FACTOR;
+        }
+        if (player.distanceToSqr(citizen) > (double) near * near)
+        {
+            return ENTITY_AI_TICKRATE * MID_FACTOR;
+        }
+        return ENTITY_AI_TICKRATE;
+    }
+}
@@ -28,6 +28,7 @@ import com.minecolonies.api.entity.citizen.VisibleCitizenStatus;
 import com.minecolonies.api.entity.citizen.citizenhandlers.*;
 import com.minecolonies.api.entity.citizen.happiness.ExpirationBasedHappinessModifier;
 import com.minecolonies.api.entity.citizen.happiness.StaticHappinessSupplier;
+import com.minecolonies.core.entity.ai.workers.AbstractAISkeleton;
 import com.minecolonies.core.entity.pathfinding.pathresults.PathResult;
 import com.minecolonies.api.entity.pathfinding.proxy.IWalkToProxy;
 import com.minecolonies.api.inventory.InventoryCitizen;
@@ -213,6 +214,11 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
      */
     private int callForHelpCooldown = 0;
 
+    /**
+     * Ticks between updates of the AI tick rate.
+     */
+    private static final int AI_TICK_RATE_UPDATE_INTERVAL = 40;
+
     /**
      * Distance walked for consuming food
      */
@@ -293,6 +299,7 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
         entityStateController.addTransition(new TickingTransition<>(EntityState.ACTIVE_SERVER, this::updateVisualData, () -> null, 200));
         entityStateController.addTransition(new TickingTransition<>(EntityState.ACTIVE_SERVER, this::onServerUpdateHandlers, () -> null, TICKS_20));
         entityStateController.addTransition(new TickingTransition<>(EntityState.ACTIVE_SERVER, this::onTickDecrements, () -> null, 1));
+        entityStateController.addTransition(new TickingTransition<>(EntityState.ACTIVE_SERVER, this::updateAITickRate, () -> null, AI_TICK_RATE_UPDATE_INTERVAL));
         entityStateController.addTransition(new TickingTransition<>(EntityState.ACTIVE_SERVER, this::shouldBeInactive, () -> EntityState.INACTIVE, TICKS_20));
         entityStateController.addTransition(new TickingTransition<>(EntityState.ACTIVE_SERVER, () -> {
             citizenAI.tick();
@@ -748,6 +755,25 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
         return false;
     }
 
+    /**
+     * Applies the tick rate of the {@link CitizenAITickPolicy} to the state machines of the citizen.
+     *
+     * @return false
+     */
+    private boolean updateAITickRate()
+    {
+        final int tickRate = CitizenAITickPolicy.getTickRate(this);
+        entityStateController.setTickRate(tickRate);
+        citizenAI.setTickRate(tickRate);
+
+        final IJob<?> job = citizenJobHandler.getColonyJob();
+        if (job != null && job.getWorkerAI() instanceof AbstractAISkeleton<?> workerAI)
+        {
+            workerAI.getStateAI().setTickRate(tickRate);
+        }
+        return false;
+    }
+
     /**
      * Updates handlers on living tick, each 20 ticks.
      */
@@ -843,7 +869,8 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
     {
         if (callForHelpCooldown > 0)
         {
-            callForHelpCooldown--;
+            // Counts steps of the base tick rate, a stretched step covers several of them
+            callForHelpCooldown = Math.max(0, callForHelpCooldown - entityStateController.getTickRate() / ENTITY_AI_TICKRATE);
         }
     }
 
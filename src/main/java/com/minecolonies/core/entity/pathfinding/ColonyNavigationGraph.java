@@ -0,0 +1,677 @@
+package com.minecolonies.core.entity.pathfinding;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.api.util.EntityUtils;
+import com.minecolonies.api.util.WorldUtil;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.util.Tuple;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Coarse navigation graph of a colony, used to split long walks into an abstract route and short local paths.
+ * Anchors are the waypoints of the colony and a standing position outside of each building, as the hut blocks themselves are inside the buildings.
+ * They are bucketed into cells of the size of a chunk section. Each anchor is linked to its closest anchors in the surrounding cells, links crossing cells
+ * act as the portals between them. Groups of anchors too far apart to be linked that way are joined by linking their closest anchors, so the graph stays connected.
+ * Links get confirmed when a citizen walks them and are blocked for a while when a citizen fails to path along them.
+ */
+public class ColonyNavigationGraph
+{
+    /**
+     * Cells around an anchor searched for link candidates.
+     */
+    private static final int LINK_CELL_RANGE = 2;
+
+    /**
+     * Cells around a position searched for the closest anchor.
+     */
+    private static final int ANCHOR_CELL_RANGE = 3;
+
+    /**
+     * Distance of the standing position of a building to its footprint.
+     */
+    private static final int OUTSIDE_DISTANCE = 2;
+
+    /**
+     * Maximum amount of links created for a new anchor.
+     */
+    private static final int MAX_LINKS = 8;
+
+    /**
+     * Ticks after which the anchors are compared with the colony again.
+     */
+    private static final int REFRESH_INTERVAL = 20 * 30;
+
+    /**
+     * Ticks a link stays blocked after a failed walk.
+     */
+    private static final int BLOCKED_TICKS = 20 * 60 * 2;
+
+    /**
+     * Extra cost of links no citizen walked yet.
+     */
+    private static final double UNCONFIRMED_COST_FACTOR = 1.25;
+
+    /**
+     * Maximum amount of anchors expanded per route search.
+     */
+    private static final int MAX_EXPANSIONS = 2000;
+
+    /**
+     * The colony of the graph.
+     */
+    private final IColony colony;
+
+    /**
+     * Anchors by the building or waypoint position they were created for.
+     */
+    private final Map<BlockPos, Anchor> anchors = new HashMap<>();
+
+    /**
+     * Anchors by their standing position.
+     */
+    private final Map<BlockPos, Anchor> byPos = new HashMap<>();
+
+    /**
+     * Anchors by cell.
+     */
+    private final Long2ObjectOpenHashMap<List<Anchor>> cells = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Buildings no free standing position was found for, not searched again until buildings or waypoints change.
+     */
+    private final Set<BlockPos> unplaceable = new HashSet<>();
+
+    /**
+     * Whether buildings or waypoints changed since the last refresh.
+     */
+    private boolean dirty = true;
+
+    /**
+     * Gametime of the last refresh.
+     */
+    private long lastRefresh = 0;
+
+    /**
+     * Create the graph of a colony.
+     *
+     * @param colony the colony.
+     */
+    public ColonyNavigationGraph(final IColony colony)
+    {
+        this.colony = colony;
+    }
+
+    /**
+     * Marks the anchors as outdated, called when buildings or waypoints get added or removed.
+     */
+    public void markDirty()
+    {
+        dirty = true;
+        unplaceable.clear();
+    }
+
+    /**
+     * Compares the anchors with the buildings and waypoints of the colony and applies the differences.
+     *
+     * @param gameTime the current gametime.
+     */
+    private void refreshIfNeeded(final long gameTime)
+    {
+        if (!dirty && gameTime - lastRefresh < REFRESH_INTERVAL)
+        {
+            return;
+        }
+
+        dirty = false;
+        lastRefresh = gameTime;
+
+        final Set<BlockPos> waypoints = colony.getWayPoints().keySet();
+        final Map<BlockPos, IBuilding> buildings = colony.getBuildingManager().getBuildings();
+
+        final List<BlockPos> removed = new ArrayList<>();
+        for (final BlockPos source : anchors.keySet())
+        {
+            if (!waypoints.contains(source) && !buildings.containsKey(source))
+            {
+                removed.add(source);
+            }
+        }
+
+        boolean changed = !removed.isEmpty();
+        for (final BlockPos source : removed)
+        {
+            removeAnchor(source);
+        }
+
+        for (final BlockPos source : waypoints)
+        {
+            if (!anchors.containsKey(source))
+            {
+                changed |= addAnchor(source.immutable(), source.immutable());
+            }
+        }
+
+        final Level world = colony.getWorld();
+        for (final IBuilding building : buildings.values())
+        {
+            // Buildings in unloaded chunks are picked up by a later refresh
+            final BlockPos source = building.getID();
+            if (!anchors.containsKey(source) && !unplaceable.contains(source) && world != null && WorldUtil.isBlockLoaded(world, source))
+            {
+                // Buildings sharing their standing position with another anchor are not searched again either
+                final BlockPos standing = findStandingPosition(world, building);
+                if (standing != null && addAnchor(source.immutable(), standing.immutable()))
+                {
+                    changed = true;
+                }
+                else
+                {
+                    unplaceable.add(source);
+                }
+            }
+        }
+
+        if (changed)
+        {
+            connectComponents();
+        }
+    }
+
+    /**
+     * Finds a position to stand at just outside of a building, trying the sides facing the colony center first.
+     *
+     * @param world    the world.
+     * @param building the building.
+     * @return the position or null if there is none.
+     */
+    @Nullable
+    private BlockPos findStandingPosition(final Level world, final IBuilding building)
+    {
+        final Tuple<BlockPos, BlockPos> corners = building.getCorners();
+        final BlockPos low = corners.getA();
+        final BlockPos high = corners.getB();
+        final int y = building.getPosition().getY();
+        final int midX = (low.getX() + high.getX()) / 2;
+        final int midZ = (low.getZ() + high.getZ()) / 2;
+
+        final List<BlockPos> sides = new ArrayList<>(List.of(
+          new BlockPos(low.getX() - OUTSIDE_DISTANCE, y, midZ),
+          new BlockPos(high.getX() + OUTSIDE_DISTANCE, y, midZ),
+          new BlockPos(midX, y, low.getZ() - OUTSIDE_DISTANCE),
+          new BlockPos(midX, y, high.getZ() + OUTSIDE_DISTANCE)));
+        sides.sort(Comparator.comparingDouble(side -> side.distSqr(colony.getCenter())));
+
+        for (final BlockPos side : sides)
+        {
+            if (WorldUtil.isBlockLoaded(world, side))
+            {
+                final BlockPos standing = EntityUtils.getSpawnPoint(world, side);
+                if (standing != null && !building.isInBuilding(standing))
+                {
+                    return standing;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds an anchor and links it to the closest anchors around it.
+     *
+     * @param source the building or waypoint position.
+     * @param pos    the standing position of the anchor.
+     * @return true if it was added, false if another anchor already stands there.
+     */
+    private boolean addAnchor(final BlockPos source, final BlockPos pos)
+    {
+        if (byPos.containsKey(pos))
+        {
+            return false;
+        }
+
+        final Anchor anchor = new Anchor(pos);
+        final List<Anchor> candidates = new ArrayList<>();
+        forEachCellAround(anchor.cell, LINK_CELL_RANGE, candidates::addAll);
+        candidates.sort(Comparator.comparingDouble(other -> other.pos.distSqr(pos)));
+
+        for (int i = 0; i < candidates.size() && i < MAX_LINKS; i++)
+        {
+            link(anchor, candidates.get(i));
+        }
+
+        anchors.put(source, anchor);
+        byPos.put(pos, anchor);
+        cells.computeIfAbsent(anchor.cell, key -> new ArrayList<>()).add(anchor);
+        return true;
+    }
+
+    /**
+     * Links two anchors.
+     *
+     * @param first  the first anchor.
+     * @param second the second anchor.
+     */
+    private static void link(final Anchor first, final Anchor second)
+    {
+        final Link link = new Link(Math.sqrt(first.pos.distSqr(second.pos)));
+        first.links.put(second, link);
+        second.links.put(first, link);
+    }
+
+    /**
+     * Joins groups of anchors which are not linked to each other, by linking the closest pair of anchors between the smallest group and the rest until
+     * all anchors are reachable from each other. The groups are computed once and merged as they get linked, the smaller one into the larger one.
+     */
+    private void connectComponents()
+    {
+        final List<Set<Anchor>> groups = getComponents();
+        while (groups.size() > 1)
+        {
+            final Set<Anchor> smallest = Collections.min(groups, Comparator.comparingInt(Set::size));
+            Anchor bestInside = null;
+            Anchor bestOutside = null;
+            Set<Anchor> bestGroup = null;
+            double bestDist = Double.MAX_VALUE;
+            for (final Set<Anchor> group : groups)
+            {
+                if (group == smallest)
+                {
+                    continue;
+                }
+
+                for (final Anchor inside : smallest)
+                {
+                    for (final Anchor outside : group)
+                    {
+                        final double dist = inside.pos.distSqr(outside.pos);
+                        if (dist < bestDist)
+                        {
+                            bestDist = dist;
+                            bestInside = inside;
+                            bestOutside = outside;
+                            bestGroup = group;
+                        }
+                    }
+                }
+            }
+
+            link(bestInside, bestOutside);
+            bestGroup.addAll(smallest);
+            groups.removeIf(group -> group == smallest);
+        }
+    }
+
+    /**
+     * Get the groups of anchors linked to each other.
+     *
+     * @return the groups.
+     */
+    private List<Set<Anchor>> getComponents()
+    {
+        final List<Set<Anchor>> components = new ArrayList<>();
+        final Set<Anchor> visited = new HashSet<>();
+        for (final Anchor start : byPos.values())
+        {
+            if (!visited.add(start))
+            {
+                continue;
+            }
+
+            final Set<Anchor> component = new HashSet<>();
+            final Deque<Anchor> open = new ArrayDeque<>();
+            open.add(start);
+            component.add(start);
+            while (!open.isEmpty())
+            {
+                for (final Anchor next : open.poll().links.keySet())
+                {
+                    if (visited.add(next))
+                    {
+                        component.add(next);
+                        open.add(next);
+                    }
+                }
+            }
+            components.add(component);
+        }
+        return components;
+    }
+
+    /**
+     * Removes an anchor and its links.
+     *
+     * @param source the building or waypoint position of the anchor.
+     */
+    private void removeAnchor(final BlockPos source)
+    {
+        final Anchor anchor = anchors.remove(source);
+        if (anchor == null)
+        {
+            return;
+        }
+        byPos.remove(anchor.pos);
+
+        for (final Anchor other : anchor.links.keySet())
+        {
+            other.links.remove(anchor);
+        }
+
+        final List<Anchor> cell = cells.get(anchor.cell);
+        if (cell != null)
+        {
+            cell.remove(anchor);
+            if (cell.isEmpty())
+            {
+                cells.remove(anchor.cell);
+            }
+        }
+    }
+
+    /**
+     * Plans a route between two positions over the graph.
+     *
+     * @param start    the start position.
+     * @param target   the target position.
+     * @param gameTime the current gametime.
+     * @return the anchor positions to walk along in order, empty if there is no useful route.
+     */
+    @NotNull
+    public List<BlockPos> getRoute(final BlockPos start, final BlockPos target, final long gameTime)
+    {
+        refreshIfNeeded(gameTime);
+
+        final Anchor from = getClosestAnchor(start);
+        final Anchor to = getClosestAnchor(target);
+        if (from == null || to == null || from == to)
+        {
+            return Collections.emptyList();
+        }
+
+        final Map<Anchor, Double> costs = new HashMap<>();
+        final Map<Anchor, Anchor> previous = new HashMap<>();
+        final PriorityQueue<RouteNode> open = new PriorityQueue<>();
+        costs.put(from, 0d);
+        open.add(new RouteNode(from, 0, BlockPosUtil.dist(from.pos, to.pos)));
+
+        int expansions = 0;
+        while (!open.isEmpty() && expansions++ < MAX_EXPANSIONS)
+        {
+            final RouteNode node = open.poll();
+            if (node.anchor == to)
+            {
+                return trimRoute(start, target, reconstruct(previous, to));
+            }
+
+            if (node.cost > costs.getOrDefault(node.anchor, Double.MAX_VALUE))
+            {
+                continue;
+            }
+
+            for (final Map.Entry<Anchor, Link> entry : node.anchor.links.entrySet())
+            {
+                final Link link = entry.getValue();
+                if (link.blockedUntil > gameTime)
+                {
+                    continue;
+                }
+
+                final double cost = node.cost + link.distance * (link.confirmed ? 1 : UNCONFIRMED_COST_FACTOR);
+                if (cost < costs.getOrDefault(entry.getKey(), Double.MAX_VALUE))
+                {
+                    costs.put(entry.getKey(), cost);
+                    previous.put(entry.getKey(), node.anchor);
+                    open.add(new RouteNode(entry.getKey(), cost, cost + BlockPosUtil.dist(entry.getKey().pos, to.pos)));
+                }
+            }
+        }
+
+        return Collections.emptyList();
+    }
+
+    /**
+     * Builds the list of positions from the search result.
+     *
+     * @param previous the predecessor of each reached anchor.
+     * @param to       the goal anchor.
+     * @return the positions from start to goal.
+     */
+    private static List<BlockPos> reconstruct(final Map<Anchor, Anchor> previous, final Anchor to)
+    {
+        final List<BlockPos> route = new ArrayList<>();
+        for (Anchor current = to; current != null; current = previous.get(current))
+        {
+            route.add(current.pos);
+        }
+        Collections.reverse(route);
+        return route;
+    }
+
+    /**
+     * Drops the first and last anchor when walking to them would lead away from the next one.
+     *
+     * @param start  the start position.
+     * @param target the target position.
+     * @param route  the route.
+     * @return the trimmed route.
+     */
+    private static List<BlockPos> trimRoute(final BlockPos start, final BlockPos target, final List<BlockPos> route)
+    {
+        if (route.size() > 1 && start.distSqr(route.get(1)) < route.get(0).distSqr(route.get(1)))
+        {
+            route.remove(0);
+        }
+
+        final int last = route.size() - 1;
+        if (last > 0 && target.distSqr(route.get(last - 1)) < route.get(last).distSqr(route.get(last - 1)))
+        {
+            route.remove(last);
+        }
+        return route;
+    }
+
+    /**
+     * Get the anchor closest to a position.
+     *
+     * @param pos the position.
+     * @return the anchor or null if there is none nearby.
+     */
+    @Nullable
+    private Anchor getClosestAnchor(final BlockPos pos)
+    {
+        final Anchor[] closest = new Anchor[1];
+        final double[] closestDist = {Double.MAX_VALUE};
+        forEachCellAround(cellOf(pos), ANCHOR_CELL_RANGE, cell -> {
+            for (final Anchor anchor : cell)
+            {
+                final double dist = anchor.pos.distSqr(pos);
+                if (dist < closestDist[0])
+                {
+                    closestDist[0] = dist;
+                    closest[0] = anchor;
+                }
+            }
+        });
+        return closest[0];
+    }
+
+    /**
+     * Runs an action for the anchors of all non empty cells within range of a cell.
+     *
+     * @param cell   the center cell.
+     * @param range  the range in cells.
+     * @param action the action.
+     */
+    private void forEachCellAround(final long cell, final int range, final Consumer<List<Anchor>> action)
+    {
+        final int cellX = SectionPos.x(cell);
+        final int cellY = SectionPos.y(cell);
+        final int cellZ = SectionPos.z(cell);
+        for (int x = -range; x <= range; x++)
+        {
+            for (int y = -range; y <= range; y++)
+            {
+                for (int z = -range; z <= range; z++)
+                {
+                    final List<Anchor> anchorsInCell = cells.get(SectionPos.asLong(cellX + x, cellY + y, cellZ + z));
+                    if (anchorsInCell != null)
+                    {
+                        action.accept(anchorsInCell);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Called when an entity reached the next anchor of its route, confirming the link.
+     *
+     * @param from the anchor it came from.
+     * @param to   the anchor it reached.
+     */
+    public void onLinkWalked(@Nullable final BlockPos from, final BlockPos to)
+    {
+        final Link link = getLink(from, to);
+        if (link != null)
+        {
+            link.confirmed = true;
+            link.blockedUntil = 0;
+        }
+    }
+
+    /**
+     * Called when an entity could not path to the next anchor of its route, blocking the link for a while.
+     *
+     * @param from     the anchor it came from.
+     * @param to       the anchor it failed to reach.
+     * @param gameTime the current gametime.
+     * @return true if the anchors were linked, so that a new route would avoid it.
+     */
+    public boolean onLinkFailed(@Nullable final BlockPos from, final BlockPos to, final long gameTime)
+    {
+        final Link link = getLink(from, to);
+        if (link == null)
+        {
+            return false;
+        }
+
+        link.confirmed = false;
+        link.blockedUntil = gameTime + BLOCKED_TICKS;
+        return true;
+    }
+
+    /**
+     * Get the link between two anchors.
+     *
+     * @param from the first anchor position.
+     * @param to   the second anchor position.
+     * @return the link or null if they are not linked.
+     */
+    @Nullable
+    private Link getLink(@Nullable final BlockPos from, final BlockPos to)
+    {
+        if (from == null)
+        {
+            return null;
+        }
+
+        final Anchor fromAnchor = byPos.get(from);
+        final Anchor toAnchor = byPos.get(to);
+        return fromAnchor == null || toAnchor == null ? null : fromAnchor.links.get(toAnchor);
+    }
+
+    /**
+     * Checks whether a position is an anchor of this graph.
+     *
+     * @param pos the position.
+     * @return true if so.
+     */
+    public boolean isAnchor(final BlockPos pos)
+    {
+        return byPos.containsKey(pos);
+    }
+
+    /**
+     * Get the cell of a position.
+     *
+     * @param pos the position.
+     * @return the cell key.
+     */
+    private static long cellOf(final BlockPos pos)
+    {
+        return SectionPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getY()), SectionPos.blockToSectionCoord(pos.getZ()));
+    }
+
+    /**
+     * A standing position of the graph, at a waypoint or next to a building.
+     */
+    private static class Anchor
+    {
+        /**
+         * The standing position.
+         */
+        private final BlockPos pos;
+
+        /**
+         * The cell of the position.
+         */
+        private final long cell;
+
+        /**
+         * Links to other anchors, shared with the other anchor.
+         */
+        private final Map<Anchor, Link> links = new HashMap<>();
+
+        private Anchor(final BlockPos pos)
+        {
+            this.pos = pos;
+            this.cell = cellOf(pos);
+        }
+    }
+
+    /**
+     * A link between two anchors.
+     */
+    private static class Link
+    {
+        /**
+         * Straight distance between the anchors.
+         */
+        private final double distance;
+
+        /**
+         * Whether an entity walked this link.
+         */
+        private boolean confirmed = false;
+
+        /**
+         * Gametime until which the link is not used.
+         */
+        private long blockedUntil = 0;
+
+        private Link(final double distance)
+        {
+            this.distance = distance;
+        }
+    }
+
+    /**
+     * Open entry of the route search.
+     */
+    private record RouteNode(Anchor anchor, double cost, double estimate) implements Comparable<RouteNode>
+    {
+        @Override
+        public int compareTo(@NotNull final RouteNode other)
+        {
+            return Double.compare(estimate, other.estimate);
+        }
+    }
+}
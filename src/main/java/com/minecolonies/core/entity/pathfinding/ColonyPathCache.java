@@ -0,0 +1,460 @@
+package com.minecolonies.core.entity.pathfinding;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.util.WorldUtil;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.DoorBlock;
+import net.minecraft.world.level.block.FenceGateBlock;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import net.minecraft.world.level.pathfinder.Node;
+import net.minecraft.world.level.pathfinder.Path;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Colony level cache of computed paths to buildings, so that citizens walking the same route again do not need to compute it again.
+ * Entries are evicted least recently used first, dropped as soon as a block changes on or around one of their nodes,
+ * and can be partially reused when an entity starts next to a node of a cached path to the same destination with the same pathing options.
+ */
+public class ColonyPathCache
+{
+    /**
+     * Maximum amount of cached paths per colony.
+     */
+    private static final int MAX_ENTRIES = 64;
+
+    /**
+     * Minimum node count of paths worth caching.
+     */
+    private static final int MIN_NODES = 16;
+
+    /**
+     * Ticks after which a cached path is no longer used.
+     */
+    private static final int MAX_AGE_TICKS = 20 * 60 * 10;
+
+    /**
+     * Caches holding entries, by dimension.
+     */
+    private static final Map<ResourceKey<Level>, Set<ColonyPathCache>> activeCaches = new ConcurrentHashMap<>();
+
+    /**
+     * Statistics.
+     */
+    private static final LongAdder hits          = new LongAdder();
+    private static final LongAdder partialHits   = new LongAdder();
+    private static final LongAdder misses        = new LongAdder();
+    private static final LongAdder invalidations = new LongAdder();
+
+    /**
+     * The colony of this cache.
+     */
+    private final IColony colony;
+
+    /**
+     * Entries in access order.
+     */
+    private final LinkedHashMap<RouteKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Entries by destination.
+     */
+    private final Map<BlockPos, List<Entry>> byDestination = new HashMap<>();
+
+    /**
+     * Entries by the chunk sections their nodes touch.
+     */
+    private final Long2ObjectOpenHashMap<Set<Entry>> bySection = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Create the cache of a colony.
+     *
+     * @param colony the colony.
+     */
+    public ColonyPathCache(final IColony colony)
+    {
+        this.colony = colony;
+    }
+
+    /**
+     * Get a cached path, or the remaining part of a cached path passing next to the start.
+     *
+     * @param start    the start position.
+     * @param end      the destination.
+     * @param options  the pathing options of the entity.
+     * @param gameTime the current gametime.
+     * @return a copy of the path or null if none is cached.
+     */
+    @Nullable
+    public Path get(final BlockPos start, final BlockPos end, final PathingOptions options, final long gameTime)
+    {
+        final List<Entry> candidates = byDestination.get(end);
+        if (candidates == null)
+        {
+            misses.increment();
+            return null;
+        }
+
+        for (final Entry entry : new ArrayList<>(candidates))
+        {
+            if (gameTime - entry.createdTick > MAX_AGE_TICKS)
+            {
+                remove(entry);
+                continue;
+            }
+
+            // Paths of entities which may use rails, swim or open doors are not walkable for others
+            if (!entry.key.options.equals(options))
+            {
+                continue;
+            }
+
+            if (entry.key.start.equals(start))
+            {
+                entries.get(entry.key);
+                hits.increment();
+                return PathfindingUtils.copyPath(entry.path, 0);
+            }
+
+            final int index = findReuseIndex(entry.path, start);
+            if (index >= 0)
+            {
+                entries.get(entry.key);
+                partialHits.increment();
+                return PathfindingUtils.copyPath(entry.path, index);
+            }
+        }
+
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Find the node of a path an entity at the given position could continue from.
+     *
+     * @param path  the path.
+     * @param start the position of the entity.
+     * @return the node index or -1.
+     */
+    private static int findReuseIndex(final Path path, final BlockPos start)
+    {
+        for (int i = 0; i < path.getNodeCount() - 1; i++)
+        {
+            final Node node = path.getNode(i);
+            if (node.y == start.getY() && Math.abs(node.x - start.getX()) + Math.abs(node.z - start.getZ()) <= 1)
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Caches a computed path if it leads to a building of the colony.
+     *
+     * @param start    the start position.
+     * @param end      the destination.
+     * @param options  the pathing options the path was computed with, get copied.
+     * @param path     the path, gets copied.
+     * @param gameTime the current gametime.
+     */
+    public void put(final BlockPos start, final BlockPos end, final PathingOptions options, final Path path, final long gameTime)
+    {
+        if (path.getNodeCount() < MIN_NODES || !path.canReach() || !leadsToBuilding(end))
+        {
+            return;
+        }
+
+        final PathingOptions keyOptions = new PathingOptions();
+        keyOptions.importFrom(options);
+        final RouteKey key = new RouteKey(start.immutable(), end.immutable(), keyOptions);
+        final Entry previous = entries.get(key);
+        if (previous != null)
+        {
+            remove(previous);
+        }
+
+        if (entries.size() >= MAX_ENTRIES)
+        {
+            remove(entries.values().iterator().next());
+        }
+
+        final Entry entry = new Entry(key, PathfindingUtils.copyPath(path, 0), gameTime);
+        entry.recordToggleables(colony.getWorld());
+        entries.put(key, entry);
+        byDestination.computeIfAbsent(key.end, pos -> new ArrayList<>()).add(entry);
+        for (final long section : entry.sections)
+        {
+            bySection.computeIfAbsent(section, s -> new HashSet<>()).add(entry);
+        }
+
+        activeCaches.computeIfAbsent(colony.getDimension(), dim -> ConcurrentHashMap.newKeySet()).add(this);
+    }
+
+    /**
+     * Checks whether a position lies within a building of the colony.
+     *
+     * @param pos the position.
+     * @return true if so.
+     */
+    private boolean leadsToBuilding(final BlockPos pos)
+    {
+        for (final IBuilding building : colony.getBuildingManager().getBuildingsOverlapping(new BoundingBox(pos)))
+        {
+            if (building.isInBuilding(pos))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Drops all paths with a node on, above or below the changed position, unless a door or gate there was only opened or closed.
+     *
+     * @param pos   the changed position.
+     * @param state the new state.
+     */
+    public void onBlockChanged(final BlockPos pos, final BlockState state)
+    {
+        final Set<Entry> affected = bySection.get(SectionPos.asLong(pos));
+        if (affected == null)
+        {
+            return;
+        }
+
+        final long changed = pos.asLong();
+        for (final Entry entry : new ArrayList<>(affected))
+        {
+            if (entry.positions.contains(changed) && entry.toggleables.get(changed) != state.getBlock())
+            {
+                remove(entry);
+                invalidations.increment();
+            }
+        }
+    }
+
+    /**
+     * Removes an entry from all indices.
+     *
+     * @param entry the entry.
+     */
+    private void remove(final Entry entry)
+    {
+        entries.remove(entry.key);
+
+        final List<Entry> sameDestination = byDestination.get(entry.key.end);
+        if (sameDestination != null)
+        {
+            sameDestination.remove(entry);
+            if (sameDestination.isEmpty())
+            {
+                byDestination.remove(entry.key.end);
+            }
+        }
+
+        for (final long section : entry.sections)
+        {
+            final Set<Entry> inSection = bySection.get(section);
+            if (inSection != null)
+            {
+                inSection.remove(entry);
+                if (inSection.isEmpty())
+                {
+                    bySection.remove(section);
+                }
+            }
+        }
+
+        if (entries.isEmpty())
+        {
+            final Set<ColonyPathCache> caches = activeCaches.get(colony.getDimension());
+            if (caches != null)
+            {
+                caches.remove(this);
+            }
+        }
+    }
+
+    /**
+     * Drops all entries.
+     */
+    public void clear()
+    {
+        for (final Entry entry : new ArrayList<>(entries.values()))
+        {
+            remove(entry);
+        }
+    }
+
+    /**
+     * Called when a block changed, invalidates cached paths of all colonies in the level.
+     *
+     * @param level the level.
+     * @param pos   the changed position.
+     * @param state the new state.
+     */
+    public static void onBlockChanged(final Level level, final BlockPos pos, final BlockState state)
+    {
+        final Set<ColonyPathCache> caches = activeCaches.get(level.dimension());
+        if (caches == null || caches.isEmpty())
+        {
+            return;
+        }
+
+        for (final ColonyPathCache cache : new ArrayList<>(caches))
+        {
+            cache.onBlockChanged(pos, state);
+        }
+    }
+
+    /**
+     * Called when a level unloads.
+     *
+     * @param level the level.
+     */
+    public static void onLevelUnload(final Level level)
+    {
+        activeCaches.remove(level.dimension());
+    }
+
+    /**
+     * Get the share of path requests served from the cache, including partial reuse.
+     *
+     * @return the hit rate, from 0 to 1.
+     */
+    public static double getHitRate()
+    {
+        final long served = hits.sum() + partialHits.sum();
+        final long total = served + misses.sum();
+        return total == 0 ? 0 : served / (double) total;
+    }
+
+    /**
+     * Get the amount of requests served by reusing part of a cached path.
+     *
+     * @return the count.
+     */
+    public static long getPartialHits()
+    {
+        return partialHits.sum();
+    }
+
+    /**
+     * Get the amount of cached paths dropped because of block changes.
+     *
+     * @return the count.
+     */
+    public static long getInvalidations()
+    {
+        return invalidations.sum();
+    }
+
+    /**
+     * Resets the statistics.
+     */
+    public static void resetStats()
+    {
+        hits.reset();
+        partialHits.reset();
+        misses.reset();
+        invalidations.reset();
+    }
+
+    /**
+     * Start, destination and pathing options of a cached path.
+     *
+     * @param start   the start position.
+     * @param end     the destination.
+     * @param options the pathing options the path was computed with.
+     */
+    private record RouteKey(BlockPos start, BlockPos end, PathingOptions options) {}
+
+    /**
+     * A cached path.
+     */
+    private static class Entry
+    {
+        /**
+         * The route of the path.
+         */
+        private final RouteKey key;
+
+        /**
+         * The path, never followed directly.
+         */
+        private final Path path;
+
+        /**
+         * Gametime the path was cached at.
+         */
+        private final long createdTick;
+
+        /**
+         * Positions whose change invalidates the path: the nodes, the blocks below and the blocks above them.
+         */
+        private final LongSet positions = new LongOpenHashSet();
+
+        /**
+         * Chunk sections of the positions.
+         */
+        private final LongSet sections = new LongOpenHashSet();
+
+        /**
+         * Doors and gates on the positions, opening or closing them does not change whether the path can be walked.
+         */
+        private final Long2ObjectMap<Block> toggleables = new Long2ObjectOpenHashMap<>();
+
+        private Entry(final RouteKey key, final Path path, final long createdTick)
+        {
+            this.key = key;
+            this.path = path;
+            this.createdTick = createdTick;
+
+            for (int i = 0; i < path.getNodeCount(); i++)
+            {
+                final Node node = path.getNode(i);
+                for (int y = node.y - 1; y <= node.y + 1; y++)
+                {
+                    positions.add(BlockPos.asLong(node.x, y, node.z));
+                    sections.add(SectionPos.asLong(SectionPos.blockToSectionCoord(node.x), SectionPos.blockToSectionCoord(y), SectionPos.blockToSectionCoord(node.z)));
+                }
+            }
+        }
+
+        /**
+         * Records the doors and gates the path passes through.
+         *
+         * @param level the level of the path.
+         */
+        private void recordToggleables(final Level level)
+        {
+            final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+            for (final long position : positions)
+            {
+                pos.set(position);
+                if (WorldUtil.isBlockLoaded(level, pos))
+                {
+                    final Block block = level.getBlockState(pos).getBlock();
+                    if (block instanceof DoorBlock || block instanceof FenceGateBlock)
+                    {
+                        toggleables.put(position, block);
+                    }
+                }
+            }
+        }
+    }
+}
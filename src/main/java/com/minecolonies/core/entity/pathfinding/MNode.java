@@ -20,12 +20,12 @@ public class MNode implements Comparable<MNode>
     private static final int HASH_C = 24;
 
     /**
-     * The position of the node.
+     * The position of the node, only changed when a pooled node gets reused.
      */
     @NotNull
-    public final int x;
-    public final int y;
-    public final int z;
+    public int x;
+    public int y;
+    public int z;
 
     /**
      * The parent of the node (Node preceding this node).
@@ -78,6 +78,11 @@ public class MNode implements Comparable<MNode>
      */
     private boolean isReachedByWorker = false;
 
+    /**
+     * Position of this node within the open set heap, -1 if not queued.
+     */
+    private int heapIndex = -1;
+
     /**
      * Create a Node that inherits from a parent, and has a Cost and Heuristic estimate.
      *
@@ -95,6 +100,34 @@ public class MNode implements Comparable<MNode>
         this.heuristic = heuristic;
     }
 
+    /**
+     * Resets a pooled node to the state of a newly created one.
+     *
+     * @param parent    parent node arrives from.
+     * @param posX      the x position.
+     * @param posY      the y position.
+     * @param posZ      the z position.
+     * @param cost      node cost.
+     * @param heuristic heuristic estimate.
+     */
+    void reset(@Nullable final MNode parent, final int posX, final int posY, final int posZ, final double cost, final double heuristic)
+    {
+        this.parent = parent;
+        this.x = posX;
+        this.y = posY;
+        this.z = posZ;
+        this.cost = cost;
+        this.heuristic = heuristic;
+        this.counterAdded = 0;
+        this.visited = false;
+        this.ladder = false;
+        this.swimming = false;
+        this.isOnRails = false;
+        this.isCornerNode = false;
+        this.isReachedByWorker = false;
+        this.heapIndex = -1;
+    }
+
     /**
      * Create an MNode from a bytebuf.
      * @param byteBuf the buffer to load it from.
@@ -376,6 +409,26 @@ public class MNode implements Comparable<MNode>
         return counterAdded;
     }
 
+    /**
+     * Get the position of this node within the open set heap.
+     *
+     * @return the index, -1 if not queued.
+     */
+    int getHeapIndex()
+    {
+        return heapIndex;
+    }
+
+    /**
+     * Set the position of this node within the open set heap.
+     *
+     * @param heapIndex the index, -1 if not queued.
+     */
+    void setHeapIndex(final int heapIndex)
+    {
+        this.heapIndex = heapIndex;
+    }
+
     /**
      * Generate a pseudo-unique key for identifying a given node by it's coordinates Encodes the lowest 12 bits of x,z and all useful bits of y. This creates unique keys for all
      * blocks within a 4096x256x4096 cube, which is FAR bigger volume than one should attempt to pathfind within
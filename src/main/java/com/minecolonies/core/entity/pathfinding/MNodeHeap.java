@@ -0,0 +1,237 @@
+package com.minecolonies.core.entity.pathfinding;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Binary min heap of open pathfinding nodes which tracks the position of each node, so that a node whose cost improved can be moved up in place instead of being
+ * searched and removed. A node can only be queued in one heap at a time.
+ */
+public class MNodeHeap
+{
+    /**
+     * Initial capacity of the backing array.
+     */
+    private static final int INITIAL_CAPACITY = 256;
+
+    /**
+     * Queued nodes, in heap order.
+     */
+    private MNode[] heap = new MNode[INITIAL_CAPACITY];
+
+    /**
+     * Amount of queued nodes.
+     */
+    private int size = 0;
+
+    /**
+     * Order of the nodes, smallest first.
+     */
+    private Comparator<MNode> comparator = Comparator.naturalOrder();
+
+    /**
+     * Checks if the heap is empty.
+     *
+     * @return true if so.
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Get the amount of queued nodes.
+     *
+     * @return the amount.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Get a queued node by its heap position, for iterating the queued nodes in no particular order.
+     *
+     * @param index the position, from 0 to size - 1.
+     * @return the node.
+     */
+    public MNode get(final int index)
+    {
+        return heap[index];
+    }
+
+    /**
+     * Checks if a node is queued in this heap.
+     *
+     * @param node the node.
+     * @return true if so.
+     */
+    public boolean contains(final MNode node)
+    {
+        final int index = node.getHeapIndex();
+        return index >= 0 && index < size && heap[index] == node;
+    }
+
+    /**
+     * Queues a node.
+     *
+     * @param node the node.
+     */
+    public void offer(final MNode node)
+    {
+        if (size == heap.length)
+        {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+
+        heap[size] = node;
+        node.setHeapIndex(size);
+        size++;
+        siftUp(size - 1);
+    }
+
+    /**
+     * Removes and returns the smallest node.
+     *
+     * @return the node or null if empty.
+     */
+    @Nullable
+    public MNode poll()
+    {
+        if (size == 0)
+        {
+            return null;
+        }
+
+        final MNode first = heap[0];
+        size--;
+        if (size > 0)
+        {
+            heap[0] = heap[size];
+            heap[0].setHeapIndex(0);
+            siftDown(0);
+        }
+        heap[size] = null;
+        first.setHeapIndex(-1);
+        return first;
+    }
+
+    /**
+     * Restores the order of a node after its cost or heuristic changed, queues the node if it is not queued.
+     *
+     * @param node the node.
+     */
+    public void update(final MNode node)
+    {
+        if (!contains(node))
+        {
+            offer(node);
+            return;
+        }
+
+        final int index = node.getHeapIndex();
+        siftUp(index);
+        if (heap[index] == node)
+        {
+            siftDown(index);
+        }
+    }
+
+    /**
+     * Changes the order of the nodes and rebuilds the heap.
+     *
+     * @param comparator the new order, smallest first.
+     */
+    public void setComparator(final Comparator<MNode> comparator)
+    {
+        this.comparator = comparator;
+        heapify();
+    }
+
+    /**
+     * Rebuilds the heap after the values of many nodes changed.
+     */
+    public void heapify()
+    {
+        for (int i = (size >>> 1) - 1; i >= 0; i--)
+        {
+            siftDown(i);
+        }
+    }
+
+    /**
+     * Removes all nodes and restores the natural order, keeps the backing array for reuse.
+     */
+    public void clear()
+    {
+        for (int i = 0; i < size; i++)
+        {
+            heap[i].setHeapIndex(-1);
+            heap[i] = null;
+        }
+        size = 0;
+        comparator = Comparator.naturalOrder();
+    }
+
+    /**
+     * Moves the node at the given position up until its parent is smaller.
+     *
+     * @param index the position.
+     */
+    private void siftUp(int index)
+    {
+        final MNode node = heap[index];
+        while (index > 0)
+        {
+            final int parentIndex = (index - 1) >>> 1;
+            final MNode parent = heap[parentIndex];
+            if (comparator.compare(node, parent) >= 0)
+            {
+                break;
+            }
+
+            heap[index] = parent;
+            parent.setHeapIndex(index);
+            index = parentIndex;
+        }
+
+        heap[index] = node;
+        node.setHeapIndex(index);
+    }
+
+    /**
+     * Moves the node at the given position down until its children are larger.
+     *
+     * @param index the position.
+     */
+    private void siftDown(int index)
+    {
+        final MNode node = heap[index];
+        final int half = size >>> 1;
+        while (index < half)
+        {
+            int childIndex = (index << 1) + 1;
+            MNode child = heap[childIndex];
+            final int rightIndex = childIndex + 1;
+            if (rightIndex < size && comparator.compare(heap[rightIndex], child) < 0)
+            {
+                childIndex = rightIndex;
+                child = heap[rightIndex];
+            }
+
+            if (comparator.compare(node, child) <= 0)
+            {
+                break;
+            }
+
+            heap[index] = child;
+            child.setHeapIndex(index);
+            index = childIndex;
+        }
+
+        heap[index] = node;
+        node.setHeapIndex(index);
+    }
+}
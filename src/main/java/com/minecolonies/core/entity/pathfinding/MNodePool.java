@@ -0,0 +1,182 @@
+package com.minecolonies.core.entity.pathfinding;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Per thread arena of pathfinding nodes, reused by all path jobs running on that thread so that a search does not allocate nodes, its node lookup or its open set
+ * once the pool is warmed up. Nodes are looked up by their long packed position and belong to the pool, they must not be kept after the job released it.
+ */
+public class MNodePool
+{
+    /**
+     * Nodes kept for reuse at most, larger arenas get trimmed on release.
+     */
+    private static final int MAX_RETAINED_NODES = 32768;
+
+    /**
+     * Initial arena size.
+     */
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * Pool of each pathfinding thread.
+     */
+    private static final ThreadLocal<MNodePool> POOLS = ThreadLocal.withInitial(() -> new MNodePool(true));
+
+    /**
+     * Node arena, the first size nodes are in use.
+     */
+    private MNode[] arena = new MNode[INITIAL_CAPACITY];
+
+    /**
+     * Amount of nodes in use.
+     */
+    private int size = 0;
+
+    /**
+     * Nodes in use by their packed position.
+     */
+    private final Long2ObjectOpenHashMap<MNode> byPosition = new Long2ObjectOpenHashMap<>(INITIAL_CAPACITY);
+
+    /**
+     * Open set of the job using this pool.
+     */
+    private final MNodeHeap openSet = new MNodeHeap();
+
+    /**
+     * Whether this pool belongs to a thread and gets reused.
+     */
+    private final boolean pooled;
+
+    /**
+     * Whether a job currently uses this pool.
+     */
+    private boolean inUse = false;
+
+    private MNodePool(final boolean pooled)
+    {
+        this.pooled = pooled;
+    }
+
+    /**
+     * Get the pool of the current thread, or a throwaway one if it is already in use or the nodes need to outlive the job.
+     *
+     * @param keepNodes whether the nodes are referenced after the job ended, e.g. for debug display.
+     * @return the pool, to be released once the search ended.
+     */
+    public static MNodePool acquire(final boolean keepNodes)
+    {
+        if (keepNodes)
+        {
+            return new MNodePool(false);
+        }
+
+        final MNodePool pool = POOLS.get();
+        if (pool.inUse)
+        {
+            return new MNodePool(false);
+        }
+
+        pool.inUse = true;
+        return pool;
+    }
+
+    /**
+     * Releases the pool for the next job of this thread, invalidating all nodes handed out.
+     */
+    public void release()
+    {
+        if (!pooled || !inUse)
+        {
+            return;
+        }
+
+        openSet.clear();
+        byPosition.clear();
+        if (size > MAX_RETAINED_NODES)
+        {
+            Arrays.fill(arena, MAX_RETAINED_NODES, size, null);
+            arena = Arrays.copyOf(arena, MAX_RETAINED_NODES);
+            byPosition.trim(MAX_RETAINED_NODES);
+        }
+        else
+        {
+            for (int i = 0; i < size; i++)
+            {
+                arena[i].parent = null;
+            }
+        }
+        size = 0;
+        inUse = false;
+    }
+
+    /**
+     * Creates a node at a position which has no node yet.
+     *
+     * @param parent    parent node arrives from.
+     * @param x         the x position.
+     * @param y         the y position.
+     * @param z         the z position.
+     * @param cost      node cost.
+     * @param heuristic heuristic estimate.
+     * @return the node.
+     */
+    public MNode create(@Nullable final MNode parent, final int x, final int y, final int z, final double cost, final double heuristic)
+    {
+        MNode node = null;
+        if (pooled)
+        {
+            if (size == arena.length)
+            {
+                arena = Arrays.copyOf(arena, size * 2);
+            }
+
+            node = arena[size];
+            if (node != null)
+            {
+                node.reset(parent, x, y, z, cost, heuristic);
+            }
+        }
+
+        if (node == null)
+        {
+            node = new MNode(parent, x, y, z, cost, heuristic);
+            if (pooled)
+            {
+                arena[size] = node;
+            }
+        }
+
+        size++;
+        byPosition.put(BlockPos.asLong(x, y, z), node);
+        return node;
+    }
+
+    /**
+     * Get the node at a position.
+     *
+     * @param x the x position.
+     * @param y the y position.
+     * @param z the z position.
+     * @return the node or null if none was created there.
+     */
+    @Nullable
+    public MNode get(final int x, final int y, final int z)
+    {
+        return byPosition.get(BlockPos.asLong(x, y, z));
+    }
+
+    /**
+     * Get the open set belonging to this pool.
+     *
+     * @return the heap of open nodes.
+     */
+    public MNodeHeap getOpenSet()
+    {
+        return openSet;
+    }
+}
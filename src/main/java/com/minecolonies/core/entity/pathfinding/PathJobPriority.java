@@ -0,0 +1,43 @@
+package com.minecolonies.core.entity.pathfinding;
+
+/**
+ * Priority classes of path jobs, jobs of a lower ordinal are always computed first.
+ */
+public enum PathJobPriority
+{
+    /**
+     * Guards, raiders and fleeing entities.
+     */
+    COMBAT(0),
+
+    /**
+     * Regular worker movement.
+     */
+    WORK(30 * 1000),
+
+    /**
+     * Wandering and other idle movement.
+     */
+    IDLE(10 * 1000);
+
+    /**
+     * Time in milliseconds after which a queued job of this priority is considered stale and is dropped, 0 to never drop.
+     */
+    private final long maxWaitMillis;
+
+    PathJobPriority(final long maxWaitMillis)
+    {
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    /**
+     * Checks whether a job waiting for the given time is stale.
+     *
+     * @param waitedNanos the time waited in the queue.
+     * @return true if the job should no longer be computed.
+     */
+    public boolean isStale(final long waitedNanos)
+    {
+        return maxWaitMillis > 0 && waitedNanos / 1000000L > maxWaitMillis;
+    }
+}
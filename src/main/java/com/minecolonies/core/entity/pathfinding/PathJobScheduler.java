@@ -0,0 +1,484 @@
+package com.minecolonies.core.entity.pathfinding;
+
+import com.minecolonies.core.entity.pathfinding.pathjobs.AbstractPathJob;
+import com.minecolonies.core.entity.pathfinding.pathresults.PathResult;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.level.pathfinder.Path;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Schedules path jobs onto the pathfinding threads.
+ * Jobs are computed by priority class and in submission order within a class, identical requests share one computation,
+ * jobs superseded by a newer request of the same entity are cancelled and removed from the queue, and stale jobs are dropped unrun.
+ */
+public class PathJobScheduler
+{
+    /**
+     * The executor running the jobs, backed by the priority queue.
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Queue of waiting jobs.
+     */
+    private final PriorityBlockingQueue<Runnable> queue = new PriorityBlockingQueue<>();
+
+    /**
+     * Queued or running jobs which accept further subscribers, by their coalescing key.
+     */
+    private final Map<PathJobKey, PathJobTask> coalescingTasks = new ConcurrentHashMap<>();
+
+    /**
+     * Latest job ticket per entity.
+     */
+    private final Map<UUID, PathJobTicket> entityTickets = new ConcurrentHashMap<>();
+
+    /**
+     * Submission counter, used for FIFO ordering within a priority.
+     */
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Metrics for each priority class.
+     */
+    private final EnumMap<PathJobPriority, PriorityStats> stats = new EnumMap<>(PathJobPriority.class);
+
+    /**
+     * Creates a new scheduler.
+     *
+     * @param threads the amount of pathfinding threads.
+     */
+    public PathJobScheduler(final int threads)
+    {
+        for (final PathJobPriority priority : PathJobPriority.values())
+        {
+            stats.put(priority, new PriorityStats());
+        }
+
+        // Priority queues are unbounded, so the pool never grows past its core size: use all threads as core threads
+        executor = new ThreadPoolExecutor(threads, threads, 10, TimeUnit.SECONDS, queue, new Pathfinding.MinecoloniesThreadFactory());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Submits a job for computation.
+     *
+     * @param job the job to compute.
+     * @return the future which delivers the path of this job's result.
+     */
+    public Future<Path> submit(@NotNull final AbstractPathJob job)
+    {
+        final PathJobPriority priority = job.getPriority();
+        final PriorityStats priorityStats = stats.get(priority);
+        priorityStats.submitted.increment();
+
+        final PathJobKey key = job.getCoalesceKey();
+        if (key != null)
+        {
+            final PathJobTask existing = coalescingTasks.get(key);
+            if (existing != null)
+            {
+                final PathJobTicket ticket = existing.subscribe(job.getResult(), false);
+                if (ticket != null)
+                {
+                    priorityStats.coalesced.increment();
+                    trackEntity(job.getEntity(), ticket);
+                    return ticket;
+                }
+            }
+        }
+
+        final PathJobTask task = new PathJobTask(job, priority, sequence.getAndIncrement(), key);
+        final PathJobTicket ticket = task.subscribe(job.getResult(), true);
+        if (key != null)
+        {
+            coalescingTasks.put(key, task);
+        }
+
+        trackEntity(job.getEntity(), ticket);
+        executor.execute(task);
+        return ticket;
+    }
+
+    /**
+     * Remembers the latest ticket of an entity, cancelling the ticket it supersedes.
+     *
+     * @param entity the entity of the job, may be null.
+     * @param ticket the new ticket.
+     */
+    private void trackEntity(@Nullable final Mob entity, final PathJobTicket ticket)
+    {
+        if (entity == null)
+        {
+            return;
+        }
+
+        ticket.entityId = entity.getUUID();
+        final PathJobTicket previous = entityTickets.put(ticket.entityId, ticket);
+        if (previous != null && previous != ticket && !previous.isDone())
+        {
+            previous.cancel(true);
+            stats.get(previous.task.priority).superseded.increment();
+        }
+    }
+
+    /**
+     * Drops all queued jobs.
+     */
+    public void clear()
+    {
+        final List<Runnable> pending = new ArrayList<>();
+        queue.drainTo(pending);
+        for (final Runnable runnable : pending)
+        {
+            ((PathJobTask) runnable).cancel(false);
+        }
+        coalescingTasks.clear();
+        entityTickets.clear();
+    }
+
+    /**
+     * Resets all collected metrics.
+     */
+    public void resetStats()
+    {
+        for (final PathJobPriority priority : PathJobPriority.values())
+        {
+            stats.put(priority, new PriorityStats());
+        }
+    }
+
+    /**
+     * Get the amount of queued jobs of a priority.
+     *
+     * @param priority the priority.
+     * @return the queue depth.
+     */
+    public int getQueueDepth(final PathJobPriority priority)
+    {
+        int depth = 0;
+        for (final Runnable runnable : queue)
+        {
+            if (((PathJobTask) runnable).priority == priority)
+            {
+                depth++;
+            }
+        }
+        return depth;
+    }
+
+    /**
+     * Get the amount of jobs currently computing.
+     *
+     * @return the active job count.
+     */
+    public int getActiveCount()
+    {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * Get the metrics of a priority class.
+     *
+     * @param priority the priority.
+     * @return the metrics.
+     */
+    public PriorityStats getStats(final PathJobPriority priority)
+    {
+        return stats.get(priority);
+    }
+
+    /**
+     * Key identifying path requests which compute to the same result.
+     *
+     * @param type    the job class.
+     * @param start   the start position.
+     * @param end     the destination.
+     * @param options           the pathing options the job uses.
+     * @param range             the search range.
+     * @param maxNodes          the node budget of the search.
+     * @param heuristicModifier the modifier the heuristic is scaled with.
+     */
+    public record PathJobKey(Class<?> type, BlockPos start, BlockPos end, PathingOptions options, int range, int maxNodes, double heuristicModifier) {}
+
+    /**
+     * Metrics of a single priority class.
+     */
+    public static class PriorityStats
+    {
+        public final LongAdder submitted    = new LongAdder();
+        public final LongAdder coalesced    = new LongAdder();
+        public final LongAdder superseded   = new LongAdder();
+        public final LongAdder cancelled    = new LongAdder();
+        public final LongAdder stale        = new LongAdder();
+        public final LongAdder completed    = new LongAdder();
+        public final LongAdder waitNanos    = new LongAdder();
+        public final LongAdder computeNanos = new LongAdder();
+        public final AtomicLong maxWaitNanos = new AtomicLong();
+
+        /**
+         * Average time a job waited in the queue.
+         *
+         * @return the average in milliseconds.
+         */
+        public double getAvgWaitMillis()
+        {
+            final long count = completed.sum() + stale.sum();
+            return count == 0 ? 0 : waitNanos.sum() / (double) count / 1000000d;
+        }
+
+        /**
+         * Average time a job took to compute.
+         *
+         * @return the average in milliseconds.
+         */
+        public double getAvgComputeMillis()
+        {
+            final long count = completed.sum();
+            return count == 0 ? 0 : computeNanos.sum() / (double) count / 1000000d;
+        }
+    }
+
+    /**
+     * A queued computation of one path job, shared by all requests coalesced onto it.
+     */
+    private class PathJobTask extends FutureTask<Path> implements Comparable<PathJobTask>
+    {
+        private final AbstractPathJob job;
+        private final PathJobPriority priority;
+        private final long            sequenceNumber;
+        @Nullable
+        private final PathJobKey      key;
+        private final long            enqueueTime = System.nanoTime();
+
+        /**
+         * Tickets of all requests waiting on this computation.
+         */
+        private final List<PathJobTicket> tickets = new ArrayList<>(1);
+
+        /**
+         * Amount of tickets which were not cancelled.
+         */
+        private int liveTickets = 0;
+
+        private volatile long startTime = 0;
+
+        private PathJobTask(final AbstractPathJob job, final PathJobPriority priority, final long sequenceNumber, @Nullable final PathJobKey key)
+        {
+            super(job);
+            this.job = job;
+            this.priority = priority;
+            this.sequenceNumber = sequenceNumber;
+            this.key = key;
+        }
+
+        /**
+         * Adds a request to this computation.
+         *
+         * @param result  the result of the request.
+         * @param primary whether the result belongs to the job of this task.
+         * @return the ticket of the request, or null if the computation was already cancelled.
+         */
+        @Nullable
+        private synchronized PathJobTicket subscribe(final PathResult<?> result, final boolean primary)
+        {
+            if (isCancelled())
+            {
+                return null;
+            }
+
+            final PathJobTicket ticket = new PathJobTicket(this, result, primary);
+            tickets.add(ticket);
+            liveTickets++;
+            return ticket;
+        }
+
+        /**
+         * Removes a request from this computation, cancelling it when no request is left.
+         */
+        private void unsubscribe()
+        {
+            synchronized (this)
+            {
+                if (--liveTickets > 0)
+                {
+                    return;
+                }
+            }
+
+            if (cancel(true))
+            {
+                executor.remove(this);
+            }
+        }
+
+        @Override
+        public void run()
+        {
+            if (isDone())
+            {
+                return;
+            }
+
+            startTime = System.nanoTime();
+            final PriorityStats priorityStats = stats.get(priority);
+            final long waited = startTime - enqueueTime;
+            priorityStats.waitNanos.add(waited);
+            priorityStats.maxWaitNanos.accumulateAndGet(waited, Math::max);
+
+            final Mob entity = job.getEntity();
+            if (priority.isStale(waited) || (entity != null && !entity.isAlive()))
+            {
+                // Completes without a path, the requester treats this as a failed search and retries if still needed
+                priorityStats.stale.increment();
+                set(null);
+                return;
+            }
+
+            super.run();
+        }
+
+        @Override
+        protected void done()
+        {
+            if (key != null)
+            {
+                coalescingTasks.remove(key, this);
+            }
+
+            job.releaseSnapshot();
+            synchronized (this)
+            {
+                for (final PathJobTicket ticket : tickets)
+                {
+                    if (ticket.entityId != null)
+                    {
+                        entityTickets.remove(ticket.entityId, ticket);
+                    }
+                    if (ticket.result.getJob() instanceof AbstractPathJob)
+                    {
+                        ((AbstractPathJob) ticket.result.getJob()).releaseSnapshot();
+                    }
+                }
+            }
+
+            final PriorityStats priorityStats = stats.get(priority);
+            if (isCancelled())
+            {
+                priorityStats.cancelled.increment();
+            }
+            else if (startTime != 0)
+            {
+                priorityStats.completed.increment();
+                priorityStats.computeNanos.add(System.nanoTime() - startTime);
+            }
+        }
+
+        @Override
+        public int compareTo(@NotNull final PathJobTask other)
+        {
+            if (priority != other.priority)
+            {
+                return priority.compareTo(other.priority);
+            }
+            return Long.compare(sequenceNumber, other.sequenceNumber);
+        }
+    }
+
+    /**
+     * The future handed to a single request, cancelling it only detaches this request from the shared computation.
+     */
+    private static class PathJobTicket implements Future<Path>
+    {
+        private final PathJobTask   task;
+        private final PathResult<?> result;
+        private final boolean       primary;
+        private volatile boolean    cancelled = false;
+        @Nullable
+        private UUID entityId;
+
+        private PathJobTicket(final PathJobTask task, final PathResult<?> result, final boolean primary)
+        {
+            this.task = task;
+            this.result = result;
+            this.primary = primary;
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning)
+        {
+            synchronized (this)
+            {
+                if (cancelled || task.isDone())
+                {
+                    return false;
+                }
+                cancelled = true;
+            }
+
+            task.unsubscribe();
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled()
+        {
+            return cancelled;
+        }
+
+        @Override
+        public boolean isDone()
+        {
+            return cancelled || task.isDone();
+        }
+
+        @Override
+        public Path get() throws InterruptedException, ExecutionException
+        {
+            checkCancelled();
+            return deliver(task.get());
+        }
+
+        @Override
+        public Path get(final long timeout, @NotNull final TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException
+        {
+            checkCancelled();
+            return deliver(task.get(timeout, unit));
+        }
+
+        /**
+         * Superseded or coalesced tickets may be cancelled while the shared job still runs, they must neither wait for it nor receive its path.
+         */
+        private void checkCancelled()
+        {
+            if (cancelled)
+            {
+                throw new CancellationException();
+            }
+        }
+
+        /**
+         * Hands the computed path to this ticket's result.
+         *
+         * @param path the computed path.
+         * @return the path for this ticket.
+         */
+        private Path deliver(final Path path)
+        {
+            if (primary)
+            {
+                return path;
+            }
+
+            result.copyCalculationResultsFrom(task.job.getResult());
+            return PathfindingUtils.copyPath(path, 0);
+        }
+    }
+}
@@ -5,18 +5,14 @@ import com.minecolonies.core.MineColonies;
 import com.minecolonies.core.entity.pathfinding.pathjobs.AbstractPathJob;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 
 /**
  * Static class the handles all the Pathfinding.
  */
 public final class Pathfinding
 {
-    private static final ArrayBlockingQueue<Runnable> jobQueue = new ArrayBlockingQueue<>(10000, false);
-    private static       ThreadPoolExecutor           executor;
+    private static PathJobScheduler scheduler;
 
     /**
      * Minecolonies specific thread factory.
@@ -40,17 +36,17 @@ public final class Pathfinding
     }
 
     /**
-     * Creates a new thread pool for pathfinding jobs
+     * Creates the scheduler which runs all pathfinding jobs
      *
-     * @return the threadpool executor.
+     * @return the scheduler.
      */
-    public static ThreadPoolExecutor getExecutor()
+    public static PathJobScheduler getScheduler()
     {
-        if (executor == null)
+        if (scheduler == null)
         {
-            executor = new ThreadPoolExecutor(1, MineColonies.getConfig().getServer().pathfindingMaxThreadCount.get(), 10, TimeUnit.SECONDS, jobQueue, new MinecoloniesThreadFactory());
+            scheduler = new PathJobScheduler(MineColonies.getConfig().getServer().pathfindingMaxThreadCount.get());
         }
-        return executor;
+        return scheduler;
     }
 
     /**
@@ -58,7 +54,10 @@ public final class Pathfinding
      */
     public static void shutdown()
     {
-        jobQueue.clear();
+        if (scheduler != null)
+        {
+            scheduler.clear();
+        }
     }
 
     private Pathfinding()
@@ -73,6 +72,6 @@ public final class Pathfinding
      */
     public static void enqueue(@NotNull final AbstractPathJob job)
     {
-        job.getResult().startJob(getExecutor());
+        job.getResult().startJob(getScheduler());
     }
 }
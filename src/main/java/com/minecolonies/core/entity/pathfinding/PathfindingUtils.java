@@ -22,13 +22,17 @@ import net.minecraft.world.level.block.state.properties.Half;
 import net.minecraft.world.level.material.Fluid;
 import net.minecraft.world.level.material.FluidState;
 import net.minecraft.world.level.material.Fluids;
+import net.minecraft.world.level.pathfinder.Node;
+import net.minecraft.world.level.pathfinder.Path;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import net.minecraft.world.phys.shapes.VoxelShape;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -346,4 +350,27 @@ public class PathfindingUtils
                  block instanceof SweetBerryBushBlock ||
                  block instanceof PowderSnowBlock;
     }
+
+    /**
+     * Copies a path from the given node on, so that entities each follow their own path instance. Nodes are shared.
+     *
+     * @param path      the path to copy.
+     * @param fromIndex the first node to keep.
+     * @return the copy.
+     */
+    @Nullable
+    public static Path copyPath(@Nullable final Path path, final int fromIndex)
+    {
+        if (path == null)
+        {
+            return null;
+        }
+
+        final List<Node> nodes = new ArrayList<>(path.getNodeCount() - fromIndex);
+        for (int i = fromIndex; i < path.getNodeCount(); i++)
+        {
+            nodes.add(path.getNode(i));
+        }
+        return new Path(nodes, path.getTarget(), path.canReach());
+    }
 }
@@ -1,5 +1,7 @@
 package com.minecolonies.core.entity.pathfinding;
 
+import java.util.Objects;
+
 /**
  * Configuration values for pathing, used by pathjobs and normally set through the navigator
  */
@@ -259,6 +261,7 @@ public class PathingOptions
         swimCostEnter = pathingOptions.swimCostEnter;
         traverseToggleAbleCost = pathingOptions.traverseToggleAbleCost;
         nonLadderClimbableCost = pathingOptions.nonLadderClimbableCost;
+        walkInShapesCost = pathingOptions.walkInShapesCost;
         canUseRails = pathingOptions.canUseRails;
         canSwim = pathingOptions.canSwim;
         enterDoors = pathingOptions.enterDoors;
@@ -269,4 +272,43 @@ public class PathingOptions
         canDrop = pathingOptions.canDrop;
     }
 
+    @Override
+    public boolean equals(final Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (!(o instanceof PathingOptions))
+        {
+            return false;
+        }
+
+        final PathingOptions other = (PathingOptions) o;
+        return Double.compare(jumpCost, other.jumpCost) == 0
+                 && Double.compare(dropCost, other.dropCost) == 0
+                 && Double.compare(onPathCost, other.onPathCost) == 0
+                 && Double.compare(onRailCost, other.onRailCost) == 0
+                 && Double.compare(railsExitCost, other.railsExitCost) == 0
+                 && Double.compare(swimCost, other.swimCost) == 0
+                 && Double.compare(caveAirCost, other.caveAirCost) == 0
+                 && Double.compare(swimCostEnter, other.swimCostEnter) == 0
+                 && Double.compare(traverseToggleAbleCost, other.traverseToggleAbleCost) == 0
+                 && Double.compare(nonLadderClimbableCost, other.nonLadderClimbableCost) == 0
+                 && Double.compare(walkInShapesCost, other.walkInShapesCost) == 0
+                 && Double.compare(randomnessFactor, other.randomnessFactor) == 0
+                 && canUseRails == other.canUseRails
+                 && canSwim == other.canSwim
+                 && enterDoors == other.enterDoors
+                 && canOpenDoors == other.canOpenDoors
+                 && canClimbAdvanced == other.canClimbAdvanced
+                 && canPassDanger == other.canPassDanger
+                 && canDrop == other.canDrop;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(jumpCost, dropCost, onPathCost, onRailCost, swimCost, swimCostEnter, canUseRails, canSwim, enterDoors, canOpenDoors, canPassDanger, canDrop);
+    }
 }
@@ -8,6 +8,7 @@ import com.minecolonies.api.entity.other.MinecoloniesMinecart;
 import com.minecolonies.api.entity.pathfinding.*;
 import com.minecolonies.api.util.*;
 import com.minecolonies.api.util.constant.ColonyConstants;
+import com.minecolonies.core.colony.Colony;
 import com.minecolonies.core.entity.pathfinding.*;
 import com.minecolonies.core.entity.pathfinding.pathjobs.*;
 import com.minecolonies.core.entity.pathfinding.pathresults.PathResult;
@@ -101,6 +102,12 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
      */
     private int pauseTicks = 0;
 
+    /**
+     * Result of the last walk to a static destination, only its path is stored in the colony path cache.
+     */
+    @Nullable
+    private PathResult<AbstractPathJob> cacheableResult;
+
     /**
      * Instantiates the navigation of an ourEntity.
      *
@@ -238,11 +245,53 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
       final BlockPos dest,
       final double speedFactor, final boolean safeDestination)
     {
-        if (pauseTicks > 0)
+        if (!prepareNewPath(dest, speedFactor, safeDestination))
+        {
+            return null;
+        }
+
+        job.setPathingOptions(getPathingOptions());
+        pathResult = job.getResult();
+        pathResult.startJob(Pathfinding.getScheduler());
+        return pathResult;
+    }
+
+    /**
+     * Follows a path taken from the colony path cache, bypassing the path job.
+     *
+     * @param path        the cached path.
+     * @param dest        the destination.
+     * @param speedFactor the speed to walk with.
+     * @return the completed result.
+     */
+    @Nullable
+    private PathResult<AbstractPathJob> setCachedPath(final Path path, final BlockPos dest, final double speedFactor)
+    {
+        if (!prepareNewPath(dest, speedFactor, true))
         {
             return null;
         }
 
+        pathResult = new PathResult<>();
+        pathResult.startWithCachedPath(path);
+        return pathResult;
+    }
+
+    /**
+     * Stops the current path and sets up the destination and speed of a new one.
+     *
+     * @param dest            the destination.
+     * @param speedFactor     the speed to walk with.
+     * @param safeDestination whether the destination is kept as desired position.
+     * @return false if no new path may be started.
+     */
+    private boolean prepareNewPath(final BlockPos dest, final double speedFactor, final boolean safeDestination)
+    {
+        if (pauseTicks > 0)
+        {
+            return false;
+        }
+
         stop();
 
         this.destination = dest;
@@ -261,13 +310,28 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
         if (speedFactor > MAX_SPEED_ALLOWED || speedFactor < MIN_SPEED_ALLOWED)
         {
             Log.getLogger().error("Tried to set a bad speed:" + speedFactor + " for entity:" + ourEntity, new Exception());
-            return null;
+            return false;
         }
+        return true;
+    }
 
-        job.setPathingOptions(getPathingOptions());
-        pathResult = job.getResult();
-        pathResult.startJob(Pathfinding.getExecutor());
-        return pathResult;
+    /**
+     * Get the path cache of the colony of the entity, if it is a citizen.
+     *
+     * @return the cache or null.
+     */
+    @Nullable
+    private ColonyPathCache getColonyPathCache()
+    {
+        if (ourEntity instanceof AbstractEntityCitizen)
+        {
+            final IColony colony = ((AbstractEntityCitizen) ourEntity).getCitizenColonyHandler().getColony();
+            if (colony instanceof Colony)
+            {
+                return ((Colony) colony).getPathCache();
+            }
+        }
+        return null;
     }
 
     @Override
@@ -399,12 +463,28 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
 
     @Nullable
     public PathResult<AbstractPathJob> moveToXYZ(final double x, final double y, final double z, final double speedFactor)
+    {
+        return moveToXYZ(x, y, z, speedFactor, true);
+    }
+
+    /**
+     * Walks to a position.
+     *
+     * @param x                 the x coordinate.
+     * @param y                 the y coordinate.
+     * @param z                 the z coordinate.
+     * @param speedFactor       the speed to walk with.
+     * @param staticDestination false when following a moving target, those paths are neither taken from nor stored in the colony path cache.
+     * @return the path result.
+     */
+    @Nullable
+    private PathResult<AbstractPathJob> moveToXYZ(final double x, final double y, final double z, final double speedFactor, final boolean staticDestination)
     {
         final int newX = Mth.floor(x);
         final int newY = (int) y;
         final int newZ = Mth.floor(z);
 
-        if (pathResult != null && pathResult.getJob() instanceof PathJobMoveToLocation)
+        if (pathResult != null && (pathResult.getJob() instanceof PathJobMoveToLocation || pathResult.isCached()))
         {
             if (pathResult.isComputing())
             {
@@ -435,13 +515,25 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
             return null;
         }
 
-        return setPathJob(
+        final ColonyPathCache pathCache = staticDestination ? getColonyPathCache() : null;
+        if (pathCache != null)
+        {
+            final Path cachedPath = pathCache.get(start, desiredPos, getPathingOptions(), level.getGameTime());
+            if (cachedPath != null)
+            {
+                return setCachedPath(cachedPath, desiredPos, speedFactor);
+            }
+        }
+
+        final PathResult<AbstractPathJob> result = setPathJob(
           new PathJobMoveToLocation(CompatibilityUtils.getWorldFromEntity(ourEntity),
             start,
             desiredPos,
             (int) ourEntity.getAttribute(Attributes.FOLLOW_RANGE).getValue(),
             ourEntity),
           desiredPos, speedFactor, true);
+        cacheableResult = staticDestination ? result : null;
+        return result;
     }
 
     @Override
@@ -559,7 +651,9 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
     @Override
     public boolean moveTo(final Entity entityIn, final double speedFactor)
     {
-        return tryMoveToBlockPos(entityIn.blockPosition(), speedFactor);
+        final BlockPos pos = entityIn.blockPosition();
+        moveToXYZ(pos.getX(), pos.getY(), pos.getZ(), speedFactor, false);
+        return true;
     }
 
     // Removes stupid vanilla stuff, causing our pathpoints to occasionally be replaced by vanilla ones.
@@ -625,7 +719,23 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
             return;
         }
 
-        pathResult.getJob().syncDebug();
+        if (pathResult.getJob() != null)
+        {
+            pathResult.getJob().syncDebug();
+        }
+
+        // Only plain walks to static destinations, chasing a moving target gives a different path each time
+        if (pathResult == cacheableResult && pathResult.getJob() != null && pathResult.getJob().getClass() == PathJobMoveToLocation.class
+              && pathResult.isPathReachingDestination())
+        {
+            final ColonyPathCache pathCache = getColonyPathCache();
+            if (pathCache != null)
+            {
+                final PathJobMoveToLocation job = (PathJobMoveToLocation) pathResult.getJob();
+                pathCache.put(job.getStart(), job.getDestination(), job.getPathingOptions(), pathResult.getPath(), level.getGameTime());
+            }
+        }
+
         moveTo(pathResult.getPath(), getSpeedFactor());
         if (pathResult != null)
         {
@@ -1111,7 +1221,7 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
     @Override
     public PathResult<AbstractPathJob> moveToLivingEntity(@NotNull final Entity e, final double speed)
     {
-        return moveToXYZ(e.getX(), e.getY(), e.getZ(), speed);
+        return moveToXYZ(e.getX(), e.getY(), e.getZ(), speed, false);
     }
 
     @Nullable
@@ -1133,6 +1243,17 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
         return desiredPos;
     }
 
+    /**
+     * Get the result of the current or last path calculation.
+     *
+     * @return the result or null if there is none.
+     */
+    @Nullable
+    public PathResult<AbstractPathJob> getPathResult()
+    {
+        return pathResult;
+    }
+
     /**
      * Sets the stuck handler
      *
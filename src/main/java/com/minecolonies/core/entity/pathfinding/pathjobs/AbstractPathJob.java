@@ -5,6 +5,9 @@ import com.ldtteam.domumornamentum.block.decorative.PanelBlock;
 import com.ldtteam.domumornamentum.block.decorative.ShingleBlock;
 import com.ldtteam.domumornamentum.block.decorative.ShingleSlabBlock;
 import com.minecolonies.api.blocks.decorative.AbstractBlockMinecoloniesConstructionTape;
+import com.minecolonies.api.colony.jobs.IJob;
+import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.api.entity.mobs.AbstractEntityRaiderMob;
 import com.minecolonies.api.entity.pathfinding.IPathJob;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.Log;
@@ -14,12 +17,14 @@ import com.minecolonies.core.MineColonies;
 import com.minecolonies.core.Network;
 import com.minecolonies.core.blocks.BlockDecorationController;
 import com.minecolonies.core.entity.pathfinding.*;
+import com.minecolonies.core.entity.pathfinding.MNodeHeap;
+import com.minecolonies.core.entity.pathfinding.MNodePool;
 import com.minecolonies.core.entity.pathfinding.pathresults.PathResult;
 import com.minecolonies.core.entity.pathfinding.world.CachingBlockLookup;
 import com.minecolonies.core.entity.pathfinding.world.ChunkCache;
+import com.minecolonies.core.entity.pathfinding.world.SectionClassification;
 import com.minecolonies.core.network.messages.client.SyncPathMessage;
 import com.minecolonies.core.util.WorkerUtil;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.server.level.ServerPlayer;
@@ -43,6 +48,7 @@ import java.util.concurrent.Callable;
 
 import static com.minecolonies.api.util.constant.PathingConstants.*;
 import static com.minecolonies.core.entity.pathfinding.PathingOptions.MAX_COST;
+import static com.minecolonies.core.entity.pathfinding.world.SectionClassification.*;
 
 /**
  * Abstract class for Jobs that run in the multithreaded path finder.
@@ -54,6 +60,11 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
      */
     public static final int MAX_NODES = 5000;
 
+    /**
+     * Surface types by ordinal.
+     */
+    private static final SurfaceType[] SURFACE_TYPES = SurfaceType.values();
+
     /**
      * Start position to path from.
      */
@@ -66,6 +77,12 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
     @NotNull
     protected final LevelReader world;
 
+    /**
+     * The pathing cache, holding the shared block classification.
+     */
+    @NotNull
+    private final ChunkCache chunkCache;
+
     /**
      * The entity this job belongs to, can be none
      */
@@ -95,12 +112,12 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
     /**
      * Queue of all open nodes.
      */
-    private Queue<MNode> nodesToVisit;
+    private MNodeHeap nodesToVisit;
 
     /**
-     * Queue of all the visited nodes.
+     * Pool holding all nodes of the running search.
      */
-    private final Int2ObjectOpenHashMap<MNode> nodes = new Int2ObjectOpenHashMap<>();
+    private MNodePool nodePool;
 
     /**
      * Counts of nodes
@@ -171,10 +188,10 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
         final int minZ = (int) (start.getZ() - range * 1.3);
         final int maxX = (int) (start.getX() + range * 1.3);
         final int maxZ = (int) (start.getZ() + range * 1.3);
-        this.world = new ChunkCache(world, new BlockPos(minX, 0, minZ), new BlockPos(maxX, 0, maxZ));
+        this.chunkCache = new ChunkCache(world, new BlockPos(minX, 0, minZ), new BlockPos(maxX, 0, maxZ));
+        this.world = chunkCache;
 
         this.maxNodes = Math.min(MAX_NODES, range * range);
-        nodesToVisit = new PriorityQueue<>(range * 2);
         this.start = new BlockPos(start);
 
         cachedBlockLookup = new CachingBlockLookup(start, this.world);
@@ -207,7 +224,8 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
         final int minZ = Math.min(start.getZ(), end.getZ()) - expandedRange;
         final int maxX = Math.max(start.getX(), end.getX()) + expandedRange;
         final int maxZ = Math.max(start.getZ(), end.getZ()) + expandedRange;
-        this.world = new ChunkCache(world, new BlockPos(minX, 0, minZ), new BlockPos(maxX, 0, maxZ));
+        this.chunkCache = new ChunkCache(world, new BlockPos(minX, 0, minZ), new BlockPos(maxX, 0, maxZ));
+        this.world = chunkCache;
 
         // Max nodes in relation to the box area
         final int xDiff = Math.max(1, Math.abs(start.getX() - end.getX()));
@@ -217,7 +235,6 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
 
         this.maxNodes =
           Math.min(MAX_NODES, 300 + Math.max(Math.max(Math.max(2, xDiff / 10) * yDiff * zDiff, xDiff * Math.max(2, yDiff / 10) * zDiff), xDiff * yDiff * Math.max(2, zDiff / 10)));
-        nodesToVisit = new PriorityQueue<>(maxNodes / 4);
         this.start = new BlockPos(start);
 
         cachedBlockLookup = new CachingBlockLookup(start, this.world);
@@ -240,6 +257,9 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
     @Override
     public final Path call()
     {
+        // Debug display keeps the nodes after the search, those may not be reused
+        nodePool = MNodePool.acquire(debugDrawEnabled);
+        nodesToVisit = nodePool.getOpenSet();
         try
         {
             return search();
@@ -248,10 +268,34 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
         {
             Log.getLogger().warn("Pathfinding Exception from: " + start + " range: " + Math.sqrt(maxNodes) + " entity: " + entity + " type: " + getClass().getSimpleName(), e);
         }
+        finally
+        {
+            releaseSnapshot();
+            nodePool.release();
+            startNode = null;
+        }
 
         return null;
     }
 
+    /**
+     * Get the position this job paths from.
+     *
+     * @return the start position.
+     */
+    public BlockPos getStart()
+    {
+        return start;
+    }
+
+    /**
+     * Releases the shared chunk snapshot this job reads from, called once the job finished or got dropped.
+     */
+    public void releaseSnapshot()
+    {
+        chunkCache.release();
+    }
+
     /**
      * Sets the initial first node up
      *
@@ -259,7 +303,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
      */
     private MNode getAndSetupStartNode()
     {
-        final MNode startNode = new MNode(null, start.getX(), start.getY(), start.getZ(), 0, computeHeuristic(start.getX(), start.getY(), start.getZ()));
+        final MNode startNode = nodePool.create(null, start.getX(), start.getY(), start.getZ(), 0, computeHeuristic(start.getX(), start.getY(), start.getZ()));
 
         if (PathfindingUtils.isLadder(cachedBlockLookup.getBlockState(start.getX(), start.getY(), start.getZ()), pathingOptions))
         {
@@ -273,7 +317,6 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
         startNode.setOnRails(pathingOptions.canUseRails() && cachedBlockLookup.getBlockState(start).getBlock() instanceof BaseRailBlock);
 
         nodesToVisit.offer(startNode);
-        nodes.put(MNode.computeNodeKey(start.getX(), start.getY(), start.getZ()), startNode);
 
         ++totalNodesAdded;
 
@@ -386,8 +429,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
             if (!nodesToVisit.isEmpty())
             {
                 // Search only closest nodes to the goal
-                final Queue<MNode> original = nodesToVisit;
-                nodesToVisit = new PriorityQueue<>(nodesToVisit.size(), (a, b) -> {
+                nodesToVisit.setComparator((a, b) -> {
                     if ((a.getHeuristic()) < (b.getHeuristic()))
                     {
                         return -1;
@@ -401,7 +443,6 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
                         return a.getCounterAdded() - b.getCounterAdded();
                     }
                 });
-                nodesToVisit.addAll(original);
 
                 while (!nodesToVisit.isEmpty())
                 {
@@ -486,8 +527,9 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
                 return false;
             }
 
-            for (final MNode cur : nodesToVisit)
+            for (int i = 0; i < nodesToVisit.size(); i++)
             {
+                final MNode cur = nodesToVisit.get(i);
                 if (cur.getHeuristic() >= startNode.getHeuristic() || cur.isVisited())
                 {
                     continue;
@@ -522,13 +564,12 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
             costPerEstimation *= costPerEstimation < 1 ? 0.9 : 1.1;
 
             // Fix up existing heuristic values
-            final List<MNode> nodes = new ArrayList<>(nodesToVisit);
-            nodesToVisit.clear();
-            for (final MNode recalc : nodes)
+            for (int i = 0; i < nodesToVisit.size(); i++)
             {
+                final MNode recalc = nodesToVisit.get(i);
                 recalc.setHeuristic(recalc.getHeuristic() * costPerEstimation);
-                nodesToVisit.offer(recalc);
             }
+            nodesToVisit.heapify();
 
             // Set a future heuristic modification
             heuristicMod *= costPerEstimation;
@@ -681,8 +722,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
             }
         }
 
-        final int nodeKey = MNode.computeNodeKey(nextX, nextY, nextZ);
-        MNode nextNode = nodes.get(nodeKey);
+        MNode nextNode = nodePool.get(nextX, nextY, nextZ);
 
         // Current node is already visited, only update nearby costs do not create new nodes
         if (node.isVisited())
@@ -733,7 +773,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
 
         if (nextNode == null)
         {
-            nextNode = createNode(node, nextX, nextY, nextZ, nodeKey, heuristic, cost);
+            nextNode = createNode(node, nextX, nextY, nextZ, heuristic, cost);
             nextNode.setOnRails(onRails);
             nextNode.setCornerNode(corner);
             if (isSwimming)
@@ -756,11 +796,9 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
 
     @NotNull
     private MNode createNode(
-      final MNode parent, final int x, final int y, final int z, final int nodeKey, final double heuristic, final double cost)
+      final MNode parent, final int x, final int y, final int z, final double heuristic, final double cost)
     {
-        final MNode node;
-        node = new MNode(parent, x, y, z, cost, heuristic);
-        nodes.put(nodeKey, node);
+        final MNode node = nodePool.create(parent, x, y, z, cost, heuristic);
         if (debugDrawEnabled)
         {
             debugNodesNotVisited.add(node);
@@ -787,12 +825,12 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
             return;
         }
 
-        nodesToVisit.remove(nextNode);
         nextNode.parent = node;
         nextNode.setCost(cost);
         nextNode.setHeuristic(heuristic);
 
-        nodesToVisit.offer(nextNode);
+        // Moves queued nodes up in place, visited nodes get queued again to propagate the lower cost
+        nodesToVisit.update(nextNode);
     }
 
     /**
@@ -1077,7 +1115,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
 
         //  Do we have something to stand on in the target space?
         final BlockState below = cachedBlockLookup.getBlockState(x, y - 1, z);
-        final SurfaceType walkability = SurfaceType.getSurfaceType(world, below, tempWorldPos.set(x, y - 1, z), pathingOptions);
+        final SurfaceType walkability = getSurfaceType(x, y - 1, z);
         if (walkability == SurfaceType.WALKABLE)
         {
             //  Level path
@@ -1266,8 +1304,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
     protected boolean isPassable(final int x, final int y, final int z, final boolean head, final MNode parent)
     {
         final BlockState state = cachedBlockLookup.getBlockState(x, y, z);
-        final VoxelShape shape = state.getCollisionShape(world, tempWorldPos.set(x, y, z));
-        if (ShapeUtil.isEmpty(shape) || ShapeUtil.max(shape, Direction.Axis.Y) <= 0.1)
+        if (hasLowCollision(x, y, z, state))
         {
             return !head
                      || !(state.getBlock() instanceof WoolCarpetBlock || state.getBlock() instanceof FloatingCarpetBlock)
@@ -1276,6 +1313,51 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
         return isPassable(state, x, y, z, parent, head);
     }
 
+    /**
+     * Get the surface type of a block, served from the classification shared through the chunk cache when it was computed before.
+     *
+     * @param x the x position.
+     * @param y the y position.
+     * @param z the z position.
+     * @return the surface type for the pathing options of this job.
+     */
+    protected SurfaceType getSurfaceType(final int x, final int y, final int z)
+    {
+        final int shift = pathingOptions.canPassDanger() ? SURFACE_DANGER_SHIFT : SURFACE_SHIFT;
+        final int cached = SectionClassification.getField(chunkCache.getClassification(x, y, z), shift);
+        if (cached != 0)
+        {
+            return SURFACE_TYPES[cached - 1];
+        }
+
+        final SurfaceType surfaceType = SurfaceType.getSurfaceType(world, cachedBlockLookup.getBlockState(x, y, z), tempWorldPos.set(x, y, z), pathingOptions);
+        chunkCache.addClassification(x, y, z, (surfaceType.ordinal() + 1) << shift);
+        return surfaceType;
+    }
+
+    /**
+     * Checks whether the collision shape of a block is empty or at most 0.1 high, served from the shared classification when possible.
+     *
+     * @param x     the x position.
+     * @param y     the y position.
+     * @param z     the z position.
+     * @param state the state at the position.
+     * @return true if the shape does not block movement.
+     */
+    protected boolean hasLowCollision(final int x, final int y, final int z, final BlockState state)
+    {
+        final int cached = SectionClassification.getField(chunkCache.getClassification(x, y, z), SHAPE_SHIFT);
+        if (cached != 0)
+        {
+            return cached == SHAPE_LOW;
+        }
+
+        final VoxelShape shape = state.getCollisionShape(world, tempWorldPos.set(x, y, z));
+        final boolean low = ShapeUtil.isEmpty(shape) || ShapeUtil.max(shape, Direction.Axis.Y) <= 0.1;
+        chunkCache.addClassification(x, y, z, (low ? SHAPE_LOW : SHAPE_BLOCKING) << SHAPE_SHIFT);
+        return low;
+    }
+
     /**
      * Handles not passable positions
      *
@@ -1290,7 +1372,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
     {
         final boolean canJump = parent != null && !parent.isLadder() && !parent.isSwimming();
         //  Need to try jumping up one, if we can
-        if (!canJump || SurfaceType.getSurfaceType(world, target, tempWorldPos.set(x, y, z), getPathingOptions()) != SurfaceType.WALKABLE)
+        if (!canJump || getSurfaceType(x, y, z) != SurfaceType.WALKABLE)
         {
             return -100;
         }
@@ -1386,11 +1468,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
         //  Nothing to stand on
         if (!canDrop || ((parent.x != x || parent.z != z) && isPassable(parent.x, parent.y - 1, parent.z, false, parent)
                            &&
-                           SurfaceType.getSurfaceType(world,
-                             cachedBlockLookup.getBlockState(parent.x, parent.y - 1, parent.z),
-                             tempWorldPos.set(parent.x, parent.y - 1, parent.z),
-                             getPathingOptions())
-                             == SurfaceType.DROPABLE))
+                           getSurfaceType(parent.x, parent.y - 1, parent.z) == SurfaceType.DROPABLE))
         {
             return -100;
         }
@@ -1398,7 +1476,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
         for (int i = 2; i <= (pathingOptions.canDrop ? 10 : 2); i++)
         {
             final BlockState below = cachedBlockLookup.getBlockState(x, y - i, z);
-            if (SurfaceType.getSurfaceType(world, below, tempWorldPos.set(x, y - i, z), getPathingOptions()) == SurfaceType.WALKABLE)
+            if (getSurfaceType(x, y - i, z) == SurfaceType.WALKABLE)
             {
                 //  Level path
                 return y - i + 1;
@@ -1653,6 +1731,52 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
         return result;
     }
 
+    /**
+     * Get the entity this job paths for
+     *
+     * @return the entity, or null.
+     */
+    @Nullable
+    public Mob getEntity()
+    {
+        return entity;
+    }
+
+    /**
+     * Get the priority class this job is scheduled with, combat entities go first.
+     *
+     * @return the priority.
+     */
+    public PathJobPriority getPriority()
+    {
+        if (entity instanceof AbstractEntityRaiderMob)
+        {
+            return PathJobPriority.COMBAT;
+        }
+
+        if (entity instanceof AbstractEntityCitizen && ((AbstractEntityCitizen) entity).getCitizenData() != null)
+        {
+            final IJob<?> job = ((AbstractEntityCitizen) entity).getCitizenData().getJob();
+            if (job != null && job.isGuard())
+            {
+                return PathJobPriority.COMBAT;
+            }
+        }
+
+        return PathJobPriority.WORK;
+    }
+
+    /**
+     * Get the key identifying identical requests, jobs with equal keys share a single calculation.
+     *
+     * @return the key, or null if this job may not be shared.
+     */
+    @Nullable
+    public PathJobScheduler.PathJobKey getCoalesceKey()
+    {
+        return null;
+    }
+
     /**
      * Sets the pathing options
      *
@@ -56,7 +56,7 @@ public class PathJobCanSee extends AbstractPathJob
         }
 
         return canSeeTargetFromPos(tempWorldPos.set(n.x, n.y, n.z))
-                 && SurfaceType.getSurfaceType(world, cachedBlockLookup.getBlockState(n.x, n.y - 1, n.z), tempWorldPos.set(n.x, n.y - 1, n.z), getPathingOptions())
+                 && getSurfaceType(n.x, n.y - 1, n.z)
                       == SurfaceType.WALKABLE;
     }
 
@@ -143,7 +143,7 @@ public class PathJobFindTree extends AbstractPathJob
         }
 
         return n.parent != null && isNearTree(n)
-                 && SurfaceType.getSurfaceType(world, cachedBlockLookup.getBlockState(n.x, n.y - 1, n.z), tempWorldPos.set(n.x, n.y - 1, n.z), getPathingOptions())
+                 && getSurfaceType(n.x, n.y - 1, n.z)
                       == SurfaceType.WALKABLE;
     }
 
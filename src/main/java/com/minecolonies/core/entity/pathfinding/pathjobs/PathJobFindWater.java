@@ -78,7 +78,7 @@ public class PathJobFindWater extends AbstractPathJob
             getResult().parent = new BlockPos(n.x, n.y, n.z);
             getResult().isEmpty = ponds.isEmpty();
 
-            return SurfaceType.getSurfaceType(world, cachedBlockLookup.getBlockState(n.x, n.y - 1, n.z), tempWorldPos.set(n.x, n.y - 1, n.z), getPathingOptions())
+            return getSurfaceType(n.x, n.y - 1, n.z)
                      == SurfaceType.WALKABLE;
         }
 
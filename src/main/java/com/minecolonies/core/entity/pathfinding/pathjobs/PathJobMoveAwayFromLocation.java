@@ -2,6 +2,7 @@ package com.minecolonies.core.entity.pathfinding.pathjobs;
 
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.core.entity.pathfinding.PathJobPriority;
 import com.minecolonies.core.entity.pathfinding.SurfaceType;
 import com.minecolonies.core.entity.pathfinding.pathresults.PathResult;
 import com.minecolonies.api.util.BlockPosUtil;
@@ -129,7 +130,7 @@ public class PathJobMoveAwayFromLocation extends AbstractPathJob
     protected boolean isAtDestination(@NotNull final MNode n)
     {
         return BlockPosUtil.dist(avoid, n.x, n.y, n.z) > avoidDistance
-                 && SurfaceType.getSurfaceType(world, cachedBlockLookup.getBlockState(n.x, n.y - 1, n.z), tempWorldPos.set(n.x, n.y - 1, n.z), getPathingOptions())
+                 && getSurfaceType(n.x, n.y - 1, n.z)
                       == SurfaceType.WALKABLE;
     }
 
@@ -144,4 +145,10 @@ public class PathJobMoveAwayFromLocation extends AbstractPathJob
     {
         return -BlockPosUtil.dist(avoid, n.x, n.y, n.z);
     }
+
+    @Override
+    public PathJobPriority getPriority()
+    {
+        return PathJobPriority.COMBAT;
+    }
 }
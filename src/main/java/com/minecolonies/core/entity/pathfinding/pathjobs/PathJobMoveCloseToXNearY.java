@@ -57,7 +57,7 @@ public class PathJobMoveCloseToXNearY extends AbstractPathJob
     protected boolean isAtDestination(@NotNull final MNode n)
     {
         return BlockPosUtil.distManhattan(desiredPosition, n.x, n.y, n.z) < distToDesired
-                 && SurfaceType.getSurfaceType(world, cachedBlockLookup.getBlockState(n.x, n.y - 1, n.z), tempWorldPos.set(n.x, n.y - 1, n.z), getPathingOptions())
+                 && getSurfaceType(n.x, n.y - 1, n.z)
                       == SurfaceType.WALKABLE;
     }
 
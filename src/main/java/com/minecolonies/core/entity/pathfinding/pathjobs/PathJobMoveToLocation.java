@@ -6,6 +6,7 @@ import com.minecolonies.api.util.ShapeUtil;
 import com.minecolonies.api.util.constant.ColonyConstants;
 import com.minecolonies.core.MineColonies;
 import com.minecolonies.core.entity.pathfinding.MNode;
+import com.minecolonies.core.entity.pathfinding.PathJobScheduler;
 import com.minecolonies.core.entity.pathfinding.PathfindingUtils;
 import com.minecolonies.core.entity.pathfinding.SurfaceType;
 import com.minecolonies.core.entity.pathfinding.navigation.IDynamicHeuristicNavigator;
@@ -37,6 +38,11 @@ public class PathJobMoveToLocation extends AbstractPathJob
      */
     private double heuristicModifier = 1;
 
+    /**
+     * The max search range requested.
+     */
+    private final int range;
+
     /**
      * Prepares the PathJob for the path finding system.
      *
@@ -51,6 +57,7 @@ public class PathJobMoveToLocation extends AbstractPathJob
         super(world, start, end, new PathResult<PathJobMoveToLocation>(), entity);
 
         maxNodes += range;
+        this.range = range;
         this.destination = new BlockPos(end);
 
         if (entity != null && entity.getNavigation() instanceof IDynamicHeuristicNavigator)
@@ -87,6 +94,28 @@ public class PathJobMoveToLocation extends AbstractPathJob
         return super.search();
     }
 
+    /**
+     * Get the destination of this job.
+     *
+     * @return the destination.
+     */
+    @NotNull
+    public BlockPos getDestination()
+    {
+        return destination;
+    }
+
+    @Override
+    public PathJobScheduler.PathJobKey getCoalesceKey()
+    {
+        if (debugDrawEnabled)
+        {
+            return null;
+        }
+        // Jobs searching with a different budget or heuristic may find different paths, or none
+        return new PathJobScheduler.PathJobKey(getClass(), start, destination, getPathingOptions(), range, maxNodes, heuristicModifier);
+    }
+
     @Override
     protected double computeHeuristic(final int x, final int y, final int z)
     {
@@ -120,7 +149,7 @@ public class PathJobMoveToLocation extends AbstractPathJob
 
         if (atDest)
         {
-            atDest = SurfaceType.getSurfaceType(world, cachedBlockLookup.getBlockState(n.x, n.y - 1, n.z), tempWorldPos.set(n.x, n.y - 1, n.z), getPathingOptions())
+            atDest = getSurfaceType(n.x, n.y - 1, n.z)
                        == SurfaceType.WALKABLE;
         }
 
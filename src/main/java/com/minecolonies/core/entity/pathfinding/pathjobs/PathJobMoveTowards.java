@@ -67,7 +67,7 @@ public class PathJobMoveTowards extends AbstractPathJob
     protected boolean isAtDestination(@NotNull final MNode n)
     {
         return BlockPosUtil.distManhattan(start, n.x, n.y, n.z) > minDistance
-                 && SurfaceType.getSurfaceType(world, cachedBlockLookup.getBlockState(n.x, n.y - 1, n.z), tempWorldPos.set(n.x, n.y - 1, n.z), getPathingOptions())
+                 && getSurfaceType(n.x, n.y - 1, n.z)
                       == SurfaceType.WALKABLE;
     }
 }
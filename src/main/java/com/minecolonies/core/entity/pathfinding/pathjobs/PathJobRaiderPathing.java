@@ -5,6 +5,7 @@ import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.core.colony.managers.RaidManager;
 import com.minecolonies.core.entity.pathfinding.MNode;
+import com.minecolonies.core.entity.pathfinding.PathJobPriority;
 import com.minecolonies.core.entity.pathfinding.PathingOptions;
 import com.minecolonies.core.entity.pathfinding.SurfaceType;
 import com.minecolonies.core.entity.pathfinding.pathresults.PathResult;
@@ -72,7 +73,7 @@ public class PathJobRaiderPathing extends AbstractPathJob
         }
 
         return (BlockPosUtil.distSqr(direction, n.x, n.y, n.z) < 50 * 50) && RaidManager.isValidSpawnPoint(buildings, tempWorldPos.set(n.x, n.y, n.z))
-                 && SurfaceType.getSurfaceType(world, cachedBlockLookup.getBlockState(n.x, n.y - 1, n.z), tempWorldPos.set(n.x, n.y - 1, n.z), getPathingOptions())
+                 && getSurfaceType(n.x, n.y - 1, n.z)
                       == SurfaceType.WALKABLE;
     }
 
@@ -137,7 +138,7 @@ public class PathJobRaiderPathing extends AbstractPathJob
 
         if ((parent.x - x == 0 && parent.z - z == 0)
               || (Math.abs(height - y) > 1)
-                   && SurfaceType.getSurfaceType(cachedBlockLookup, cachedBlockLookup.getBlockState(x, y - 1, z), tempWorldPos.set(x, y - 1, z), getPathingOptions())
+                   && getSurfaceType(x, y - 1, z)
                         == SurfaceType.WALKABLE)
         {
             addCost = 3.5;
@@ -165,11 +166,17 @@ public class PathJobRaiderPathing extends AbstractPathJob
             modifier *= THROUGH_BLOCK_COST;
         }
 
-        if (SurfaceType.getSurfaceType(cachedBlockLookup, cachedBlockLookup.getBlockState(x, y - 1, z), tempWorldPos.set(x, y - 1, z), getPathingOptions()) != SurfaceType.WALKABLE)
+        if (getSurfaceType(x, y - 1, z) != SurfaceType.WALKABLE)
         {
             modifier *= THROUGH_BLOCK_COST;
         }
 
         return cost * modifier;
     }
+
+    @Override
+    public PathJobPriority getPriority()
+    {
+        return PathJobPriority.COMBAT;
+    }
 }
@@ -1,6 +1,7 @@
 package com.minecolonies.core.entity.pathfinding.pathjobs;
 
 import com.minecolonies.api.util.Log;
+import com.minecolonies.core.entity.pathfinding.PathJobPriority;
 import com.minecolonies.core.entity.pathfinding.PathfindingUtils;
 import com.minecolonies.core.entity.pathfinding.PathingOptions;
 import com.minecolonies.core.entity.pathfinding.navigation.IDynamicHeuristicNavigator;
@@ -143,7 +144,7 @@ public class PathJobRandomPos extends AbstractPathJob
               && BlockPosUtil.distSqr(start, n.x, n.y, n.z) > minDistFromStart * minDistFromStart
               && (maxDistToDest == -1 || BlockPosUtil.distSqr(destination, n.x, n.y, n.z) < this.maxDistToDest * this.maxDistToDest)
               && !PathfindingUtils.isWater(cachedBlockLookup, tempWorldPos.set(n.x, n.y - 1, n.z))
-              && SurfaceType.getSurfaceType(cachedBlockLookup, cachedBlockLookup.getBlockState(n.x, n.y - 1, n.z), tempWorldPos.set(n.x, n.y - 1, n.z), getPathingOptions())
+              && getSurfaceType(n.x, n.y - 1, n.z)
                    == SurfaceType.WALKABLE)
         {
             return true;
@@ -175,4 +176,10 @@ public class PathJobRandomPos extends AbstractPathJob
     {
         return destination != null && pos != null && range == maxDistToDest && destination.equals(pos);
     }
+
+    @Override
+    public PathJobPriority getPriority()
+    {
+        return super.getPriority() == PathJobPriority.COMBAT ? PathJobPriority.COMBAT : PathJobPriority.IDLE;
+    }
 }
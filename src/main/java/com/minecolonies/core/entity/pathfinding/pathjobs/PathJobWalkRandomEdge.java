@@ -1,5 +1,6 @@
 package com.minecolonies.core.entity.pathfinding.pathjobs;
 
+import com.minecolonies.core.entity.pathfinding.PathJobPriority;
 import com.minecolonies.core.entity.pathfinding.PathfindingUtils;
 import com.minecolonies.core.entity.pathfinding.pathresults.PathResult;
 import com.minecolonies.api.util.BlockPosUtil;
@@ -67,4 +68,10 @@ public class PathJobWalkRandomEdge extends AbstractPathJob
     {
         return BlockPosUtil.distManhattan(start, n.x, n.y, n.z);
     }
+
+    @Override
+    public PathJobPriority getPriority()
+    {
+        return super.getPriority() == PathJobPriority.COMBAT ? PathJobPriority.COMBAT : PathJobPriority.IDLE;
+    }
 }
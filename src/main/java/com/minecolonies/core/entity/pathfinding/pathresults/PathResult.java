@@ -2,12 +2,15 @@ package com.minecolonies.core.entity.pathfinding.pathresults;
 
 import com.minecolonies.api.util.Log;
 import com.minecolonies.core.entity.pathfinding.PathFindingStatus;
+import com.minecolonies.core.entity.pathfinding.PathJobScheduler;
+import com.minecolonies.core.entity.pathfinding.pathjobs.AbstractPathJob;
 import net.minecraft.world.level.pathfinder.Path;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 
 /**
@@ -55,6 +58,11 @@ public class PathResult<T extends Callable<Path>>
      */
     public int searchedNodes = 0;
 
+    /**
+     * Whether the path was taken from a cache instead of being calculated
+     */
+    private boolean cached = false;
+
     /**
      * Get Status of the Path.
      *
@@ -170,18 +178,52 @@ public class PathResult<T extends Callable<Path>>
     }
 
     /**
-     * Starts the job by queing it to an executor
+     * Starts the job by queing it to the scheduler
      *
-     * @param executorService executor
+     * @param scheduler the pathfinding scheduler
      */
-    public void startJob(final ExecutorService executorService)
+    public void startJob(final PathJobScheduler scheduler)
     {
-        if (job != null)
+        if (job instanceof AbstractPathJob)
         {
-            pathCalculation = executorService.submit(job);
+            pathCalculation = scheduler.submit((AbstractPathJob) job);
         }
     }
 
+    /**
+     * Completes this result with a previously calculated path instead of starting a job
+     *
+     * @param cachedPath the path to follow
+     */
+    public void startWithCachedPath(final Path cachedPath)
+    {
+        cached = true;
+        pathReachesDestination = true;
+        pathCalculation = CompletableFuture.completedFuture(cachedPath);
+    }
+
+    /**
+     * Whether the path was taken from a cache
+     *
+     * @return true if no calculation was done for this result
+     */
+    public boolean isCached()
+    {
+        return cached;
+    }
+
+    /**
+     * Takes over the calculation details of another result, used when this result shares the other's calculation.
+     *
+     * @param other the result whose job did the calculation
+     */
+    public void copyCalculationResultsFrom(final PathResult<?> other)
+    {
+        pathReachesDestination = other.pathReachesDestination;
+        costPerDist = other.costPerDist;
+        searchedNodes = other.searchedNodes;
+    }
+
     /**
      * Processes the completed calculation results
      */
@@ -202,6 +244,11 @@ public class PathResult<T extends Callable<Path>>
         {
             Log.getLogger().catching(e);
         }
+        catch (CancellationException e)
+        {
+            pathCalculation = null;
+            setStatus(PathFindingStatus.CANCELLED);
+        }
     }
 
     /**
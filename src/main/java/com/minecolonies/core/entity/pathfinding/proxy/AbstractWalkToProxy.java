@@ -46,6 +46,12 @@ public abstract class AbstractWalkToProxy implements IWalkToProxy
      */
     private BlockPos currentProxy;
 
+    /**
+     * The proxy the entity reached last.
+     */
+    @Nullable
+    private BlockPos previousProxy;
+
     /**
      * Current target the entity has.
      */
@@ -121,6 +127,9 @@ public abstract class AbstractWalkToProxy implements IWalkToProxy
 
         if (distanceToProxy < MIN_DISTANCE || distanceToNextProxy < distanceProxyNextProxy)
         {
+            onProxyReached(previousProxy, currentProxy);
+            previousProxy = currentProxy;
+
             if (proxyList.isEmpty())
             {
                 currentProxy = target;
@@ -130,6 +139,11 @@ public abstract class AbstractWalkToProxy implements IWalkToProxy
             currentProxy = proxyList.get(0);
             proxyList.remove(0);
         }
+        else if (shouldReplan(previousProxy, currentProxy))
+        {
+            resetProxyList();
+            return !onMove;
+        }
 
         if (currentProxy != null && !isLivingAtSiteWithMove(entity, currentProxy.getX(), currentProxy.getY(), currentProxy.getZ(), PROXY_RANGE))
         {
@@ -253,9 +267,32 @@ public abstract class AbstractWalkToProxy implements IWalkToProxy
     private void resetProxyList()
     {
         currentProxy = null;
+        previousProxy = null;
         proxyList.clear();
     }
 
+    /**
+     * Called when the entity reached a proxy.
+     *
+     * @param from    the proxy reached before, null if it came from its start position.
+     * @param reached the reached proxy.
+     */
+    protected void onProxyReached(@Nullable final BlockPos from, final BlockPos reached)
+    {
+    }
+
+    /**
+     * Checks whether the current proxy turned out to be unreachable and the proxies should be computed again.
+     *
+     * @param from  the proxy reached before, null if it came from its start position.
+     * @param proxy the current proxy.
+     * @return true if the proxies should be computed again.
+     */
+    protected boolean shouldReplan(@Nullable final BlockPos from, final BlockPos proxy)
+    {
+        return false;
+    }
+
     /**
      * Returns a proxy point to the goal.
      *
@@ -1,10 +1,12 @@
 package com.minecolonies.core.entity.pathfinding.proxy;
 
+import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.EntityUtils;
 import com.minecolonies.api.util.Vec2i;
+import com.minecolonies.core.colony.Colony;
 import com.minecolonies.core.colony.buildings.AbstractBuildingGuards;
 import com.minecolonies.core.colony.buildings.modules.MinerLevelManagementModule;
 import com.minecolonies.core.colony.buildings.modules.settings.GuardTaskSetting;
@@ -13,11 +15,15 @@ import com.minecolonies.core.colony.jobs.AbstractJobGuard;
 import com.minecolonies.core.colony.jobs.JobMiner;
 import com.minecolonies.core.entity.ai.workers.util.MinerLevel;
 import com.minecolonies.core.entity.ai.workers.util.MineNode;
+import com.minecolonies.core.entity.pathfinding.ColonyNavigationGraph;
+import com.minecolonies.core.entity.pathfinding.navigation.MinecoloniesAdvancedPathNavigate;
+import com.minecolonies.core.entity.pathfinding.pathresults.PathResult;
 import com.minecolonies.core.util.WorkerUtil;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.core.Direction;
 import net.minecraft.core.BlockPos;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 
@@ -55,6 +61,67 @@ public class EntityCitizenWalkToProxy extends AbstractWalkToProxy
         return citizen.getCitizenColonyHandler().getColony().getWayPoints().keySet();
     }
 
+    @NotNull
+    @Override
+    protected BlockPos getProxy(@NotNull final BlockPos target, @NotNull final BlockPos position, final double distanceToPath)
+    {
+        final ColonyNavigationGraph graph = getNavigationGraph();
+        if (graph != null)
+        {
+            final List<BlockPos> route = graph.getRoute(position, target, citizen.level().getGameTime());
+            if (!route.isEmpty())
+            {
+                for (final BlockPos anchor : route)
+                {
+                    addToProxyList(anchor);
+                }
+                return getProxyList().get(0);
+            }
+        }
+
+        return super.getProxy(target, position, distanceToPath);
+    }
+
+    @Override
+    protected void onProxyReached(@Nullable final BlockPos from, final BlockPos reached)
+    {
+        final ColonyNavigationGraph graph = getNavigationGraph();
+        if (graph != null)
+        {
+            graph.onLinkWalked(from, reached);
+        }
+    }
+
+    @Override
+    protected boolean shouldReplan(@Nullable final BlockPos from, final BlockPos proxy)
+    {
+        final ColonyNavigationGraph graph = getNavigationGraph();
+        if (graph == null || from == null || !(citizen.getNavigation() instanceof MinecoloniesAdvancedPathNavigate navigator))
+        {
+            return false;
+        }
+
+        final PathResult<?> result = navigator.getPathResult();
+        if (result == null || !result.failedToReachDestination() || !proxy.equals(navigator.getDesiredPos()))
+        {
+            return false;
+        }
+
+        return graph.onLinkFailed(from, proxy, citizen.level().getGameTime());
+    }
+
+    /**
+     * Get the navigation graph of the colony of the citizen.
+     *
+     * @return the graph or null if the citizen has no colony.
+     */
+    @Nullable
+    private ColonyNavigationGraph getNavigationGraph()
+    {
+        final IColony colony = citizen.getCitizenColonyHandler().getColony();
+        return colony instanceof Colony ? ((Colony) colony).getNavigationGraph() : null;
+    }
+
     @Override
     public boolean careAboutY()
     {
@@ -1,15 +1,11 @@
 package com.minecolonies.core.entity.pathfinding.world;
 
-import com.minecolonies.api.util.WorldUtil;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.Holder;
 import net.minecraft.core.RegistryAccess;
-import net.minecraft.server.level.ChunkHolder;
-import net.minecraft.server.level.ServerChunkCache;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.flag.FeatureFlagSet;
-import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelReader;
 import net.minecraft.world.level.biome.Biome;
@@ -59,6 +55,13 @@ public class ChunkCache implements LevelReader
     private final int minBuildHeight;
     private final int maxBuildHeight;
 
+    /**
+     * Shared snapshot entries backing the chunk array.
+     */
+    private final RegionSnapshotCache                snapshotCache;
+    private final RegionSnapshotCache.ChunkEntry[][] entries;
+    private       boolean                            released = false;
+
     public ChunkCache(Level worldIn, BlockPos posFromIn, BlockPos posToIn)
     {
         this.world = worldIn;
@@ -67,20 +70,17 @@ public class ChunkCache implements LevelReader
         int i = posToIn.getX() >> 4;
         int j = posToIn.getZ() >> 4;
         this.chunkArray = new LevelChunk[i - this.chunkX + 1][j - this.chunkZ + 1];
+        this.entries = new RegionSnapshotCache.ChunkEntry[i - this.chunkX + 1][j - this.chunkZ + 1];
         this.empty = true;
+        this.snapshotCache = RegionSnapshotCache.get(worldIn);
 
         for (int k = this.chunkX; k <= i; ++k)
         {
             for (int l = this.chunkZ; l <= j; ++l)
             {
-                if (WorldUtil.isEntityChunkLoaded(world, new ChunkPos(k, l)) && worldIn.getChunkSource() instanceof ServerChunkCache serverChunkCache)
-                {
-                    final ChunkHolder holder = serverChunkCache.chunkMap.visibleChunkMap.get(ChunkPos.asLong(k, l));
-                    if (holder != null)
-                    {
-                        this.chunkArray[k - this.chunkX][l - this.chunkZ] = holder.getFullChunkFuture().getNow(ChunkHolder.UNLOADED_LEVEL_CHUNK).left().orElse(null);
-                    }
-                }
+                final RegionSnapshotCache.ChunkEntry entry = snapshotCache.acquire(k, l);
+                this.entries[k - this.chunkX][l - this.chunkZ] = entry;
+                this.chunkArray[k - this.chunkX][l - this.chunkZ] = entry.getChunk();
             }
         }
         this.dimType = worldIn.dimensionType();
@@ -89,6 +89,93 @@ public class ChunkCache implements LevelReader
         maxBuildHeight = worldIn.getMaxBuildHeight();
     }
 
+    /**
+     * Releases the shared chunk entries, lookups keep working but the entries may get evicted from the shared cache.
+     */
+    public void release()
+    {
+        synchronized (this)
+        {
+            if (released)
+            {
+                return;
+            }
+            released = true;
+        }
+        snapshotCache.release(entries);
+    }
+
+    /**
+     * Get the version of the chunk section at the given position, which changes whenever a block in it changes.
+     *
+     * @param x the x position.
+     * @param y the y position.
+     * @param z the z position.
+     * @return the version, 0 if the chunk is not available.
+     */
+    public int getSectionVersion(final int x, final int y, final int z)
+    {
+        final int i = (x >> 4) - this.chunkX;
+        final int j = (z >> 4) - this.chunkZ;
+        if (i < 0 || i >= entries.length || j < 0 || j >= entries[i].length)
+        {
+            return 0;
+        }
+        return entries[i][j].getSectionVersion(world.getSectionIndex(y));
+    }
+
+    /**
+     * Get the cached pathing classification of a block.
+     *
+     * @param x the x position.
+     * @param y the y position.
+     * @param z the z position.
+     * @return the packed {@link SectionClassification} fields, 0 if nothing is cached.
+     */
+    public int getClassification(final int x, final int y, final int z)
+    {
+        final SectionClassification classification = getSectionClassification(x, y, z, false);
+        return classification == null ? 0 : classification.get(x, y, z);
+    }
+
+    /**
+     * Adds computed fields to the cached pathing classification of a block.
+     *
+     * @param x      the x position.
+     * @param y      the y position.
+     * @param z      the z position.
+     * @param fields the packed {@link SectionClassification} fields.
+     */
+    public void addClassification(final int x, final int y, final int z, final int fields)
+    {
+        final SectionClassification classification = getSectionClassification(x, y, z, true);
+        if (classification != null)
+        {
+            classification.add(x, y, z, fields);
+        }
+    }
+
+    /**
+     * Get the classification of the section at the given position.
+     *
+     * @param x      the x position.
+     * @param y      the y position.
+     * @param z      the z position.
+     * @param create whether to create it if missing or outdated.
+     * @return the classification or null.
+     */
+    @Nullable
+    private SectionClassification getSectionClassification(final int x, final int y, final int z, final boolean create)
+    {
+        final int i = (x >> 4) - this.chunkX;
+        final int j = (z >> 4) - this.chunkZ;
+        if (y < minBuildHeight || y >= maxBuildHeight || i < 0 || i >= entries.length || j < 0 || j >= entries[i].length)
+        {
+            return null;
+        }
+        return entries[i][j].getClassification(world.getSectionIndex(y), world.getGameTime(), create);
+    }
+
     /**
      * set by !chunk.getAreLevelsEmpty
      *
@@ -0,0 +1,445 @@
+package com.minecolonies.core.entity.pathfinding.world;
+
+import com.minecolonies.api.util.WorldUtil;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ChunkHolder;
+import net.minecraft.server.level.ServerChunkCache;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per dimension cache of the chunks path jobs read from, shared by all path jobs of that dimension.
+ * Chunk lookups are resolved once and reference counted by the jobs using them, entries are invalidated when their chunk loads or unloads,
+ * and block changes bump a version per chunk section so that derived data can be invalidated section by section.
+ */
+public class RegionSnapshotCache
+{
+    /**
+     * Ticks after which a chunk which was not available is looked up again.
+     */
+    private static final int MISSING_CHUNK_RECHECK_TICKS = 20;
+
+    /**
+     * Amount of entries after which unreferenced entries get evicted.
+     */
+    private static final int MAX_ENTRIES = 4096;
+
+    /**
+     * Caches per dimension.
+     */
+    private static final Map<ResourceKey<Level>, RegionSnapshotCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * Source of section versions, shared so that versions never repeat even after an entry got replaced.
+     */
+    private static final AtomicInteger versionCounter = new AtomicInteger();
+
+    /**
+     * Statistics.
+     */
+    private static final LongAdder hits          = new LongAdder();
+    private static final LongAdder misses        = new LongAdder();
+    private static final LongAdder rebuildNanos  = new LongAdder();
+    private static final LongAdder invalidations = new LongAdder();
+
+    /**
+     * The level of this cache.
+     */
+    private final Level level;
+
+    /**
+     * Entries by chunk position.
+     */
+    private final Long2ObjectOpenHashMap<ChunkEntry> entries = new Long2ObjectOpenHashMap<>();
+
+    private RegionSnapshotCache(final Level level)
+    {
+        this.level = level;
+    }
+
+    /**
+     * Get the cache of the given level.
+     *
+     * @param level the level.
+     * @return the cache.
+     */
+    public static RegionSnapshotCache get(final Level level)
+    {
+        RegionSnapshotCache cache = caches.get(level.dimension());
+        if (cache == null || cache.level != level)
+        {
+            cache = new RegionSnapshotCache(level);
+            caches.put(level.dimension(), cache);
+        }
+        return cache;
+    }
+
+    /**
+     * Acquires the entry of a chunk, resolving it if needed. Must be called on the server thread.
+     *
+     * @param chunkX the chunk x.
+     * @param chunkZ the chunk z.
+     * @return the entry, which needs to be released once no longer used.
+     */
+    public synchronized ChunkEntry acquire(final int chunkX, final int chunkZ)
+    {
+        final long key = ChunkPos.asLong(chunkX, chunkZ);
+        ChunkEntry entry = entries.get(key);
+        if (entry == null || (entry.chunk == null && level.getGameTime() - entry.resolvedTick > MISSING_CHUNK_RECHECK_TICKS))
+        {
+            final long start = System.nanoTime();
+            entry = new ChunkEntry(resolveChunk(chunkX, chunkZ), level.getGameTime(), level.getSectionsCount());
+            rebuildNanos.add(System.nanoTime() - start);
+            misses.increment();
+
+            if (entries.size() >= MAX_ENTRIES)
+            {
+                evictUnreferenced();
+            }
+            entries.put(key, entry);
+        }
+        else
+        {
+            hits.increment();
+        }
+
+        entry.refCount++;
+        return entry;
+    }
+
+    /**
+     * Releases previously acquired entries.
+     *
+     * @param released the entries to release, may contain nulls.
+     */
+    public synchronized void release(final ChunkEntry[][] released)
+    {
+        for (final ChunkEntry[] row : released)
+        {
+            for (final ChunkEntry entry : row)
+            {
+                if (entry != null)
+                {
+                    entry.refCount--;
+                }
+            }
+        }
+    }
+
+    /**
+     * Looks up a chunk which is loaded and entity ticking.
+     *
+     * @param chunkX the chunk x.
+     * @param chunkZ the chunk z.
+     * @return the chunk or null.
+     */
+    @Nullable
+    private LevelChunk resolveChunk(final int chunkX, final int chunkZ)
+    {
+        if (WorldUtil.isEntityChunkLoaded(level, new ChunkPos(chunkX, chunkZ)) && level.getChunkSource() instanceof ServerChunkCache serverChunkCache)
+        {
+            final ChunkHolder holder = serverChunkCache.chunkMap.visibleChunkMap.get(ChunkPos.asLong(chunkX, chunkZ));
+            if (holder != null)
+            {
+                return holder.getFullChunkFuture().getNow(ChunkHolder.UNLOADED_LEVEL_CHUNK).left().orElse(null);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes all entries not used by any job.
+     */
+    private void evictUnreferenced()
+    {
+        entries.values().removeIf(entry -> entry.refCount <= 0);
+    }
+
+    /**
+     * Drops the entry of a chunk which got loaded or unloaded.
+     *
+     * @param pos the chunk position.
+     */
+    public synchronized void invalidateChunk(final ChunkPos pos)
+    {
+        if (entries.remove(pos.toLong()) != null)
+        {
+            invalidations.increment();
+        }
+    }
+
+    /**
+     * Bumps the version of the section containing a changed block.
+     *
+     * @param pos the changed position.
+     */
+    public void onBlockChanged(final BlockPos pos)
+    {
+        final ChunkEntry entry;
+        synchronized (this)
+        {
+            entry = entries.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+        }
+
+        if (entry != null && entry.sectionVersions != null)
+        {
+            final int index = level.getSectionIndex(pos.getY());
+            entry.bumpVersion(index);
+
+            // The surface classification of a block depends on the block below it
+            if ((pos.getY() & 15) == 15)
+            {
+                entry.bumpVersion(index + 1);
+            }
+        }
+    }
+
+    /**
+     * Called when a chunk loads.
+     *
+     * @param level the level.
+     * @param pos   the chunk position.
+     */
+    public static void onChunkLoad(final Level level, final ChunkPos pos)
+    {
+        final RegionSnapshotCache cache = caches.get(level.dimension());
+        if (cache != null)
+        {
+            cache.invalidateChunk(pos);
+        }
+    }
+
+    /**
+     * Called when a chunk unloads.
+     *
+     * @param level the level.
+     * @param pos   the chunk position.
+     */
+    public static void onChunkUnload(final Level level, final ChunkPos pos)
+    {
+        onChunkLoad(level, pos);
+    }
+
+    /**
+     * Called when a block changed.
+     *
+     * @param level the level.
+     * @param pos   the position.
+     */
+    public static void onBlockChanged(final Level level, final BlockPos pos)
+    {
+        final RegionSnapshotCache cache = caches.get(level.dimension());
+        if (cache != null)
+        {
+            cache.onBlockChanged(pos);
+        }
+    }
+
+    /**
+     * Called when a level unloads.
+     *
+     * @param level the level.
+     */
+    public static void onLevelUnload(final Level level)
+    {
+        caches.remove(level.dimension());
+    }
+
+    /**
+     * Get the share of chunk lookups served from the cache.
+     *
+     * @return the hit rate, from 0 to 1.
+     */
+    public static double getHitRate()
+    {
+        final long total = hits.sum() + misses.sum();
+        return total == 0 ? 0 : hits.sum() / (double) total;
+    }
+
+    /**
+     * Get the average time spent resolving a chunk which was not cached.
+     *
+     * @return the time in microseconds.
+     */
+    public static double getAvgRebuildMicros()
+    {
+        final long count = misses.sum();
+        return count == 0 ? 0 : rebuildNanos.sum() / (double) count / 1000d;
+    }
+
+    /**
+     * Get the amount of entries dropped because of chunk loads or unloads.
+     *
+     * @return the invalidation count.
+     */
+    public static long getInvalidations()
+    {
+        return invalidations.sum();
+    }
+
+    /**
+     * Get the amount of cached chunks over all dimensions.
+     *
+     * @return the entry count.
+     */
+    public static int getEntryCount()
+    {
+        int count = 0;
+        for (final RegionSnapshotCache cache : caches.values())
+        {
+            synchronized (cache)
+            {
+                count += cache.entries.size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Resets the statistics.
+     */
+    public static void resetStats()
+    {
+        hits.reset();
+        misses.reset();
+        rebuildNanos.reset();
+        invalidations.reset();
+    }
+
+    /**
+     * A cached chunk lookup.
+     */
+    public static class ChunkEntry
+    {
+        /**
+         * The chunk, null if it was not available.
+         */
+        @Nullable
+        private final LevelChunk chunk;
+
+        /**
+         * Gametime the chunk was looked up at.
+         */
+        private final long resolvedTick;
+
+        /**
+         * Version of each section, changes whenever a block in the section changes.
+         */
+        @Nullable
+        private final AtomicIntegerArray sectionVersions;
+
+        /**
+         * Pathing classification of each section, created lazily.
+         */
+        @Nullable
+        private final AtomicReferenceArray<SectionClassification> classifications;
+
+        /**
+         * Amount of path jobs using this entry, guarded by the owning cache.
+         */
+        private int refCount = 0;
+
+        private ChunkEntry(@Nullable final LevelChunk chunk, final long resolvedTick, final int sectionCount)
+        {
+            this.chunk = chunk;
+            this.resolvedTick = resolvedTick;
+            if (chunk != null)
+            {
+                sectionVersions = new AtomicIntegerArray(sectionCount);
+                final int initialVersion = versionCounter.incrementAndGet();
+                for (int i = 0; i < sectionCount; i++)
+                {
+                    sectionVersions.set(i, initialVersion);
+                }
+                classifications = new AtomicReferenceArray<>(sectionCount);
+            }
+            else
+            {
+                sectionVersions = null;
+                classifications = null;
+            }
+        }
+
+        /**
+         * Get the chunk
+         *
+         * @return the chunk or null if not loaded.
+         */
+        @Nullable
+        public LevelChunk getChunk()
+        {
+            return chunk;
+        }
+
+        /**
+         * Get the current version of a section.
+         *
+         * @param sectionIndex the section index within the chunk.
+         * @return the version, 0 if the chunk is not loaded.
+         */
+        public int getSectionVersion(final int sectionIndex)
+        {
+            if (sectionVersions == null || sectionIndex < 0 || sectionIndex >= sectionVersions.length())
+            {
+                return 0;
+            }
+            return sectionVersions.get(sectionIndex);
+        }
+
+        /**
+         * Assigns a new version to a section.
+         *
+         * @param sectionIndex the section index within the chunk.
+         */
+        private void bumpVersion(final int sectionIndex)
+        {
+            if (sectionIndex >= 0 && sectionIndex < sectionVersions.length())
+            {
+                sectionVersions.set(sectionIndex, versionCounter.incrementAndGet());
+            }
+        }
+
+        /**
+         * Get the pathing classification of a section.
+         *
+         * @param sectionIndex the section index within the chunk.
+         * @param gameTime     the current game time.
+         * @param create       whether to create new data if there is no valid one.
+         * @return the classification, or null if there is none or the chunk is not loaded.
+         */
+        @Nullable
+        public SectionClassification getClassification(final int sectionIndex, final long gameTime, final boolean create)
+        {
+            if (classifications == null || sectionIndex < 0 || sectionIndex >= classifications.length())
+            {
+                return null;
+            }
+
+            final int version = sectionVersions.get(sectionIndex);
+            final SectionClassification current = classifications.get(sectionIndex);
+            if (current != null && current.isValid(version, gameTime))
+            {
+                return current;
+            }
+
+            if (!create)
+            {
+                return null;
+            }
+
+            final SectionClassification created = new SectionClassification(version, gameTime);
+            return classifications.compareAndSet(sectionIndex, current, created) ? created : classifications.get(sectionIndex);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.minecolonies.core.entity.pathfinding.world;
+
+/**
+ * Packed pathing classification of the blocks of one chunk section, a byte per block.
+ * Each field of a block is computed lazily by the path jobs reading it, 0 meaning not computed yet. The data belongs to a single section version,
+ * a changed section gets a new instance instead of being cleared, so that concurrent readers never see data of different versions mixed.
+ * Concurrent writes to the same block may drop each other's fields, which only causes them to be computed again.
+ */
+public class SectionClassification
+{
+    /**
+     * Game ticks after which the data is recomputed even without a known block change, covers block changes which do not notify neighbors.
+     */
+    public static final int MAX_AGE_TICKS = 200;
+
+    /**
+     * Mask of a single field after shifting.
+     */
+    public static final int FIELD_MASK = 0b11;
+
+    /**
+     * Surface type without passing danger, stored as ordinal + 1.
+     */
+    public static final int SURFACE_SHIFT = 0;
+
+    /**
+     * Surface type when passing danger, stored as ordinal + 1.
+     */
+    public static final int SURFACE_DANGER_SHIFT = 2;
+
+    /**
+     * Collision shape class, see {@link #SHAPE_LOW} and {@link #SHAPE_BLOCKING}.
+     */
+    public static final int SHAPE_SHIFT = 4;
+
+    /**
+     * The collision shape is empty or at most 0.1 high.
+     */
+    public static final int SHAPE_LOW = 1;
+
+    /**
+     * The collision shape needs a closer check.
+     */
+    public static final int SHAPE_BLOCKING = 2;
+
+    /**
+     * Section version this data belongs to.
+     */
+    private final int version;
+
+    /**
+     * Game time this data was created at.
+     */
+    private final long createdTick;
+
+    /**
+     * Classification per block, indexed by y << 8 | z << 4 | x within the section.
+     */
+    private final byte[] data = new byte[16 * 16 * 16];
+
+    SectionClassification(final int version, final long createdTick)
+    {
+        this.version = version;
+        this.createdTick = createdTick;
+    }
+
+    /**
+     * Checks whether this data is still valid.
+     *
+     * @param currentVersion the current section version.
+     * @param gameTime       the current game time.
+     * @return true if it can be used.
+     */
+    boolean isValid(final int currentVersion, final long gameTime)
+    {
+        return version == currentVersion && gameTime - createdTick <= MAX_AGE_TICKS;
+    }
+
+    /**
+     * Get the classification of a block.
+     *
+     * @param x the world x.
+     * @param y the world y.
+     * @param z the world z.
+     * @return the packed fields.
+     */
+    int get(final int x, final int y, final int z)
+    {
+        return data[index(x, y, z)];
+    }
+
+    /**
+     * Adds fields to the classification of a block.
+     *
+     * @param x      the world x.
+     * @param y      the world y.
+     * @param z      the world z.
+     * @param fields the packed fields to add.
+     */
+    void add(final int x, final int y, final int z, final int fields)
+    {
+        final int index = index(x, y, z);
+        data[index] = (byte) (data[index] | fields);
+    }
+
+    /**
+     * Index of a block within the section.
+     */
+    private static int index(final int x, final int y, final int z)
+    {
+        return (y & 15) << 8 | (z & 15) << 4 | (x & 15);
+    }
+
+    /**
+     * Reads a field from packed fields.
+     *
+     * @param fields the packed fields.
+     * @param shift  the field shift.
+     * @return the field value, 0 if not computed.
+     */
+    public static int getField(final int fields, final int shift)
+    {
+        return (fields >> shift) & FIELD_MASK;
+    }
+}
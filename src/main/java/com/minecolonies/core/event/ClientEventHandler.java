@@ -20,6 +20,7 @@ import com.minecolonies.core.client.render.worldevent.ColonyBorderRenderer;
 import com.minecolonies.core.client.render.worldevent.WorldEventContext;
 import com.minecolonies.core.colony.crafting.CustomRecipe;
 import com.minecolonies.core.colony.crafting.CustomRecipeManager;
+import com.minecolonies.core.network.ViewDelta;
 import com.minecolonies.core.util.DomumOrnamentumUtils;
 import com.minecolonies.core.util.SchemAnalyzerUtil;
 import net.minecraft.ChatFormatting;
@@ -82,6 +83,7 @@ public class ClientEventHandler
     {
         ColonyBorderRenderer.cleanup();
         WindowBuildingBrowser.clearCache();
+        ViewDelta.clearBaselines();
     }
 
     @SubscribeEvent(priority = EventPriority.HIGH)
@@ -18,6 +18,7 @@ import com.minecolonies.core.Network;
 import com.minecolonies.core.blocks.BlockScarecrow;
 import com.minecolonies.core.blocks.huts.BlockHutTownHall;
 import com.minecolonies.core.client.render.RenderBipedCitizen;
+import com.minecolonies.core.colony.ColonyClaimIndex;
 import com.minecolonies.core.colony.ColonyManager;
 import com.minecolonies.core.colony.buildings.modules.TavernBuildingModule;
 import com.minecolonies.core.colony.colonyEvents.citizenEvents.VisitorSpawnedEvent;
@@ -28,14 +29,15 @@ import com.minecolonies.core.colony.requestsystem.locations.EntityLocation;
 import com.minecolonies.core.commands.EntryPoint;
 import com.minecolonies.core.entity.citizen.EntityCitizen;
 import com.minecolonies.core.entity.mobs.EntityMercenary;
+import com.minecolonies.core.entity.pathfinding.ColonyPathCache;
+import com.minecolonies.core.entity.pathfinding.world.RegionSnapshotCache;
 import com.minecolonies.core.event.capabilityproviders.MinecoloniesChunkCapabilityProvider;
 import com.minecolonies.core.event.capabilityproviders.MinecoloniesWorldCapabilityProvider;
 import com.minecolonies.core.event.capabilityproviders.MinecoloniesWorldColonyManagerCapabilityProvider;
 import com.minecolonies.core.items.ItemBannerRallyGuards;
 import com.minecolonies.core.network.messages.client.OpenSuggestionWindowMessage;
-import com.minecolonies.core.network.messages.client.UpdateChunkCapabilityMessage;
-import com.minecolonies.core.network.messages.client.UpdateChunkRangeCapabilityMessage;
 import com.minecolonies.api.util.ChunkCapData;
+import com.minecolonies.core.util.ChunkClaimSync;
 import com.minecolonies.core.util.ChunkClientDataHelper;
 import com.minecolonies.core.util.ChunkDataHelper;
 import net.minecraft.client.multiplayer.ClientLevel;
@@ -163,6 +165,7 @@ public class EventHandler
         if (event.getLevel() instanceof ServerLevel)
         {
             ChunkDataHelper.loadChunk((LevelChunk) event.getChunk(), (ServerLevel) event.getLevel());
+            RegionSnapshotCache.onChunkLoad((ServerLevel) event.getLevel(), event.getChunk().getPos());
         }
         else if (event.getLevel() instanceof ClientLevel)
         {
@@ -184,6 +187,22 @@ public class EventHandler
         if (event.getLevel() instanceof ServerLevel)
         {
             ChunkDataHelper.unloadChunk((LevelChunk) event.getChunk(), (ServerLevel) event.getLevel());
+            RegionSnapshotCache.onChunkUnload((ServerLevel) event.getLevel(), event.getChunk().getPos());
+        }
+    }
+
+    /**
+     * Called when a block changed and notifies its neighbours.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void onNeighborNotify(final BlockEvent.NeighborNotifyEvent event)
+    {
+        if (event.getLevel() instanceof ServerLevel)
+        {
+            RegionSnapshotCache.onBlockChanged((ServerLevel) event.getLevel(), event.getPos());
+            ColonyPathCache.onBlockChanged((ServerLevel) event.getLevel(), event.getPos(), event.getState());
         }
     }
 
@@ -225,6 +244,8 @@ public class EventHandler
         if (event.getEntity() instanceof ServerPlayer)
         {
             final ServerPlayer player = (ServerPlayer) event.getEntity();
+            playerPositions.remove(player.getUUID());
+            ChunkClaimSync.onPlayerReset(player.getUUID());
 
             final LevelChunk newChunk = player.level.getChunk(player.chunkPosition().x, player.chunkPosition().z);
 
@@ -269,14 +290,9 @@ public class EventHandler
 
         ChunkDataHelper.loadChunk(chunk, world);
 
-        Network.getNetwork()
-          .sendToPlayer(new UpdateChunkRangeCapabilityMessage(world,
-            chunkPos.x,
-            chunkPos.z,
-            8, true), (ServerPlayer) event.player);
+        ChunkClaimSync.syncAround((ServerPlayer) event.player, chunkPos);
 
         final ChunkCapData chunkCapData = ColonyUtils.getChunkCapData(chunk);
-        Network.getNetwork().sendToPlayer(new UpdateChunkCapabilityMessage(chunkCapData), (ServerPlayer) event.player);
 
         // Check if we get into a differently claimed chunk
         if (chunkCapData.getOwningColony() != -1)
@@ -330,8 +346,7 @@ public class EventHandler
             return;
         }
 
-        final LevelChunk chunk = ((Level) event.getLevel()).getChunkAt(pos);
-        final int owningColony = ColonyUtils.getOwningColony(chunk);
+        final int owningColony = ColonyClaimIndex.getOwningColony((Level) event.getLevel(), pos);
         if (owningColony == NO_COLONY_ID)
         {
             return;
@@ -342,6 +357,7 @@ public class EventHandler
             return;
         }
 
+        final LevelChunk chunk = ((Level) event.getLevel()).getChunkAt(pos);
         for (final BlockPos buildingPos : ColonyUtils.getAllClaimingBuildings(chunk).getOrDefault(owningColony, Collections.emptySet()))
         {
             final IBuilding building = newColony.getBuildingManager().getBuilding(buildingPos);
@@ -404,9 +420,22 @@ public class EventHandler
                 colony.getPackageManager().removeImportantColonyPlayer(player);
                 playerPositions.remove(player.getUUID());
             }
+            ChunkClaimSync.onPlayerReset(player.getUUID());
         }
     }
 
+    /**
+     * Event called when a player respawns, the client recreates its level and drops the received claims.
+     *
+     * @param event the respawn event.
+     */
+    @SubscribeEvent
+    public static void onPlayerRespawn(final PlayerEvent.PlayerRespawnEvent event)
+    {
+        playerPositions.remove(event.getEntity().getUUID());
+        ChunkClaimSync.onPlayerReset(event.getEntity().getUUID());
+    }
+
     /**
      * Event called when a citizen enters a new chunk.
      */
@@ -677,10 +706,13 @@ public class EventHandler
         if (!event.getLevel().isClientSide() && event.getLevel() instanceof Level)
         {
             IColonyManager.getInstance().onWorldUnload((Level) event.getLevel());
+            RegionSnapshotCache.onLevelUnload((Level) event.getLevel());
+            ColonyPathCache.onLevelUnload((Level) event.getLevel());
         }
         if (event.getLevel().isClientSide())
         {
             IColonyManager.getInstance().resetColonyViews();
+            ChunkClientDataHelper.clearCache();
             Log.getLogger().info("Removed all colony views");
         }
     }
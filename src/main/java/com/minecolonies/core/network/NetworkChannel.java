@@ -46,9 +46,11 @@ import net.minecraftforge.network.simple.SimpleChannel;
 
 import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -85,6 +87,11 @@ public class NetworkChannel
      */
     private final AtomicInteger messageCounter = new AtomicInteger();
 
+    /**
+     * Bytes sent from this network node by message type.
+     */
+    private final Map<Class<? extends IMessage>, LongAdder> sentBytes = new ConcurrentHashMap<>();
+
     /**
      * Creates a new instance of network channel.
      *
@@ -255,6 +262,9 @@ public class NetworkChannel
 
         // Resource scroll NBT share message
         registerMessage(++idx, ResourceScrollSaveWarehouseSnapshotMessage.class, ResourceScrollSaveWarehouseSnapshotMessage::new);
+
+        // View delta resync request
+        registerMessage(++idx, ViewResyncRequestMessage.class, ViewResyncRequestMessage::new);
     }
 
     private void setupInternalMessages()
@@ -422,8 +432,9 @@ public class NetworkChannel
         final ByteBuf buffer = Unpooled.buffer();
         final FriendlyByteBuf innerFriendlyByteBuf = new FriendlyByteBuf(buffer);
         msg.toBytes(innerFriendlyByteBuf);
-        final byte[] data = buffer.array();
+        final byte[] data = Arrays.copyOf(buffer.array(), buffer.writerIndex());
         buffer.release();
+        sentBytes.computeIfAbsent(msg.getClass(), type -> new LongAdder()).add(data.length);
 
         //Some tracking variables.
         //Max packet size: 90% of maximum.
@@ -435,8 +446,8 @@ public class NetworkChannel
         //The communication id.
         final int comId = messageCounter.getAndIncrement();
 
-        //Loop while data is available.
-        while (currentIndex < data.length)
+        //Loop while data is available, messages without data still need one packet.
+        do
         {
             //Tell the network message entry that we are splitting a packet.
             this.getMessagesTypes().get(messageId).onSplitting(packetIndex);
@@ -454,6 +465,7 @@ public class NetworkChannel
             //Move our working index.
             currentIndex += extra;
         }
+        while (currentIndex < data.length);
     }
 
     /**
@@ -466,6 +478,24 @@ public class NetworkChannel
         return messageCache;
     }
 
+    /**
+     * Get the bytes sent from this network node by message type.
+     *
+     * @return the byte counts.
+     */
+    public Map<Class<? extends IMessage>, LongAdder> getSentBytes()
+    {
+        return sentBytes;
+    }
+
+    /**
+     * Resets the sent byte counts.
+     */
+    public void resetSentBytes()
+    {
+        sentBytes.clear();
+    }
+
     /**
      * Gives access to the internal index codec.
      *
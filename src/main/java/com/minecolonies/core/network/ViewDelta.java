@@ -0,0 +1,269 @@
+package com.minecolonies.core.network;
+
+import com.minecolonies.api.util.Log;
+import com.minecolonies.core.Network;
+import com.minecolonies.core.network.messages.server.colony.ViewResyncRequestMessage;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Byte level delta encoding of serialized views. The server keeps the last payload it sent for a view, the client keeps the last payload it received with
+ * {@link #KEYFRAME} or {@link #DELTA}, and a delta describes the byte ranges of the new payload that differ from that baseline. This way views are still
+ * serialized and deserialized in full, only the transfer shrinks.
+ */
+public final class ViewDelta
+{
+    /**
+     * Complete payload which does not replace the baseline, for views sent outside of the regular updates.
+     */
+    public static final byte FULL = 0;
+
+    /**
+     * Complete payload which becomes the new baseline.
+     */
+    public static final byte KEYFRAME = 1;
+
+    /**
+     * Changes relative to the baseline, the result becomes the new baseline.
+     */
+    public static final byte DELTA = 2;
+
+    /**
+     * Equal bytes between two changed ranges up to which both ranges get merged into one.
+     */
+    private static final int MERGE_GAP = 8;
+
+    /**
+     * Baselines received by the client.
+     */
+    private static final Map<ViewKey, byte[]> baselines = new HashMap<>();
+
+    private ViewDelta()
+    {
+        throw new IllegalStateException("Tried to initialize: ViewDelta but this is a Utility class.");
+    }
+
+    /**
+     * Encodes the changes from a baseline to a new payload.
+     *
+     * @param baseline the payload the receiver has.
+     * @param payload  the new payload.
+     * @return the delta or null if it is not smaller than the payload.
+     */
+    @Nullable
+    public static byte[] encode(@NotNull final byte[] baseline, @NotNull final byte[] payload)
+    {
+        final int minLength = Math.min(baseline.length, payload.length);
+        int prefix = 0;
+        while (prefix < minLength && baseline[prefix] == payload[prefix])
+        {
+            prefix++;
+        }
+
+        int suffix = 0;
+        while (suffix < minLength - prefix && baseline[baseline.length - 1 - suffix] == payload[payload.length - 1 - suffix])
+        {
+            suffix++;
+        }
+
+        final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        if (baseline.length == payload.length)
+        {
+            // Same layout, send every changed range on its own
+            final int end = payload.length - suffix;
+            final FriendlyByteBuf segments = new FriendlyByteBuf(Unpooled.buffer());
+            int count = 0;
+            int copied = 0;
+            int index = prefix;
+            while (index < end)
+            {
+                final int start = index;
+                int lastChanged = index;
+                while (index < end && index - lastChanged <= MERGE_GAP)
+                {
+                    if (baseline[index] != payload[index])
+                    {
+                        lastChanged = index;
+                    }
+                    index++;
+                }
+
+                final int length = lastChanged + 1 - start;
+                segments.writeVarInt(start - copied);
+                segments.writeVarInt(length);
+                segments.writeVarInt(length);
+                segments.writeBytes(payload, start, length);
+                copied = start + length;
+                count++;
+
+                while (index < end && baseline[index] == payload[index])
+                {
+                    index++;
+                }
+            }
+
+            buf.writeVarInt(count);
+            buf.writeBytes(segments);
+            segments.release();
+        }
+        else
+        {
+            // Shifted layout, replace everything between the common prefix and suffix
+            final int inserted = payload.length - prefix - suffix;
+            buf.writeVarInt(1);
+            buf.writeVarInt(prefix);
+            buf.writeVarInt(baseline.length - prefix - suffix);
+            buf.writeVarInt(inserted);
+            buf.writeBytes(payload, prefix, inserted);
+        }
+
+        final byte[] delta = buf.readableBytes() < payload.length ? toArray(buf) : null;
+        buf.release();
+        return delta;
+    }
+
+    /**
+     * Applies a delta to a baseline.
+     *
+     * @param baseline the baseline.
+     * @param delta    the delta.
+     * @return the new payload.
+     */
+    public static byte[] apply(@NotNull final byte[] baseline, @NotNull final FriendlyByteBuf delta)
+    {
+        final FriendlyByteBuf result = new FriendlyByteBuf(Unpooled.buffer(baseline.length));
+        int cursor = 0;
+        final int count = delta.readVarInt();
+        for (int i = 0; i < count; i++)
+        {
+            final int copy = delta.readVarInt();
+            final int removed = delta.readVarInt();
+            final int inserted = delta.readVarInt();
+            if (cursor + copy + removed > baseline.length)
+            {
+                result.release();
+                throw new IllegalStateException("View delta does not match its baseline");
+            }
+
+            result.writeBytes(baseline, cursor, copy);
+            result.writeBytes(delta, inserted);
+            cursor += copy + removed;
+        }
+        result.writeBytes(baseline, cursor, baseline.length - cursor);
+
+        final byte[] payload = toArray(result);
+        result.release();
+        return payload;
+    }
+
+    /**
+     * Resolves the payload of a received view message on the client and updates the baseline of the view.
+     *
+     * @param key  the view.
+     * @param mode {@link #FULL}, {@link #KEYFRAME} or {@link #DELTA}.
+     * @param data the received data.
+     * @return the payload to deserialize or null if a delta arrived without baseline, in which case a keyframe is requested.
+     */
+    @Nullable
+    public static FriendlyByteBuf receive(@NotNull final ViewKey key, final byte mode, @NotNull final byte[] data)
+    {
+        byte[] payload = data;
+        if (mode == DELTA)
+        {
+            final byte[] baseline = baselines.get(key);
+            if (baseline == null)
+            {
+                Log.getLogger().warn("Received view delta without baseline for: " + key + ", requesting a keyframe");
+                Network.getNetwork().sendToServer(new ViewResyncRequestMessage(key));
+                return null;
+            }
+
+            try
+            {
+                payload = apply(baseline, new FriendlyByteBuf(Unpooled.wrappedBuffer(data)));
+            }
+            catch (final RuntimeException e)
+            {
+                Log.getLogger().warn("Failed to apply view delta for: " + key + ", requesting a keyframe", e);
+                baselines.remove(key);
+                Network.getNetwork().sendToServer(new ViewResyncRequestMessage(key));
+                return null;
+            }
+        }
+
+        if (mode != FULL)
+        {
+            baselines.put(key, payload);
+        }
+        return new FriendlyByteBuf(Unpooled.wrappedBuffer(payload));
+    }
+
+    /**
+     * Drops the baseline of a view removed on the client.
+     *
+     * @param key the view.
+     */
+    public static void removeBaseline(@NotNull final ViewKey key)
+    {
+        baselines.remove(key);
+    }
+
+    /**
+     * Drops the baselines of a colony and all its buildings and citizens, when the colony view is removed on the client.
+     *
+     * @param dimension the dimension of the colony.
+     * @param colonyId  the colony id.
+     */
+    public static void removeColonyBaselines(@NotNull final ResourceKey<Level> dimension, final int colonyId)
+    {
+        baselines.keySet().removeIf(key -> key.colonyId() == colonyId && key.dimension().equals(dimension));
+    }
+
+    /**
+     * Drops all baselines received by the client, e.g. on logout.
+     */
+    public static void clearBaselines()
+    {
+        baselines.clear();
+    }
+
+    /**
+     * Copies the readable bytes of a buffer without consuming them.
+     *
+     * @param buf the buffer.
+     * @return the bytes.
+     */
+    public static byte[] toArray(@NotNull final FriendlyByteBuf buf)
+    {
+        final byte[] data = new byte[buf.readableBytes()];
+        buf.getBytes(buf.readerIndex(), data);
+        return data;
+    }
+
+    /**
+     * The kinds of synchronized views.
+     */
+    public enum ViewType
+    {
+        COLONY,
+        BUILDING,
+        CITIZEN
+    }
+
+    /**
+     * Identifies a view on the client.
+     *
+     * @param type      the kind of view.
+     * @param dimension the dimension of the colony.
+     * @param colonyId  the colony id.
+     * @param id        the building position or citizen id, 0 for the colony itself.
+     */
+    public record ViewKey(ViewType type, ResourceKey<Level> dimension, int colonyId, long id) {}
+}
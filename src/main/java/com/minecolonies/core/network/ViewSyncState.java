@@ -0,0 +1,198 @@
+package com.minecolonies.core.network;
+
+import com.minecolonies.api.network.IMessage;
+import com.minecolonies.core.Network;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.minecolonies.api.util.constant.Constants.TICKS_FIVE_MIN;
+
+/**
+ * Server side synchronization state of one view. Remembers the payload last sent and the players which received it, sends a delta to those players when the
+ * payload changed, nothing when it did not, and a keyframe to everybody else and to all players once per keyframe interval.
+ */
+public class ViewSyncState
+{
+    /**
+     * Game ticks after which all players receive the complete view again.
+     */
+    private static final int KEYFRAME_INTERVAL = TICKS_FIVE_MIN;
+
+    /**
+     * Statistics by view type.
+     */
+    private static final Map<ViewDelta.ViewType, Stats> stats = new EnumMap<>(ViewDelta.ViewType.class);
+
+    static
+    {
+        for (final ViewDelta.ViewType type : ViewDelta.ViewType.values())
+        {
+            stats.put(type, new Stats());
+        }
+    }
+
+    /**
+     * The kind of view.
+     */
+    private final ViewDelta.ViewType type;
+
+    /**
+     * The payload sent last.
+     */
+    private byte[] baseline = null;
+
+    /**
+     * Players which received the baseline.
+     */
+    private Set<ServerPlayer> holders = new HashSet<>();
+
+    /**
+     * Game time of the last keyframe.
+     */
+    private long lastKeyframe = 0;
+
+    /**
+     * Create the state of a view.
+     *
+     * @param type the kind of view.
+     */
+    public ViewSyncState(@NotNull final ViewDelta.ViewType type)
+    {
+        this.type = type;
+    }
+
+    /**
+     * Sends a freshly serialized view to the given players.
+     *
+     * @param payload        the serialized view.
+     * @param players        the players to update.
+     * @param newSubscribers players which have to receive the complete view.
+     * @param gameTime       the current game time.
+     * @param factory        creates the message for a player.
+     */
+    public void send(
+      @NotNull final FriendlyByteBuf payload,
+      @NotNull final Set<ServerPlayer> players,
+      @NotNull final Set<ServerPlayer> newSubscribers,
+      final long gameTime,
+      @NotNull final MessageFactory factory)
+    {
+        final byte[] data = ViewDelta.toArray(payload);
+        final boolean keyframe = baseline == null || gameTime - lastKeyframe >= KEYFRAME_INTERVAL;
+        final boolean unchanged = !keyframe && Arrays.equals(baseline, data);
+        final Stats typeStats = stats.get(type);
+
+        byte[] delta = null;
+        boolean deltaEncoded = false;
+        final Set<ServerPlayer> receivers = new HashSet<>();
+        for (final ServerPlayer player : players)
+        {
+            receivers.add(player);
+            if (!keyframe && holders.contains(player) && !newSubscribers.contains(player))
+            {
+                if (unchanged)
+                {
+                    typeStats.skipped.increment();
+                    continue;
+                }
+
+                if (!deltaEncoded)
+                {
+                    delta = ViewDelta.encode(baseline, data);
+                    deltaEncoded = true;
+                }
+
+                if (delta != null)
+                {
+                    Network.getNetwork().sendToPlayer(factory.create(ViewDelta.DELTA, delta, player), player);
+                    typeStats.deltas.increment();
+                    typeStats.deltaBytes.add(delta.length);
+                    continue;
+                }
+            }
+
+            Network.getNetwork().sendToPlayer(factory.create(ViewDelta.KEYFRAME, data, player), player);
+            typeStats.keyframes.increment();
+            typeStats.keyframeBytes.add(data.length);
+        }
+
+        // Players which missed this update no longer hold the baseline and get a keyframe next time
+        baseline = data;
+        holders = receivers;
+        if (keyframe)
+        {
+            lastKeyframe = gameTime;
+        }
+    }
+
+    /**
+     * Forgets that a player holds the baseline, e.g. because the player could not apply a delta. The next send is a keyframe for this player.
+     *
+     * @param player the player.
+     */
+    public void requestKeyframe(@NotNull final ServerPlayer player)
+    {
+        holders.remove(player);
+    }
+
+    /**
+     * Get the statistics of a view type.
+     *
+     * @param type the view type.
+     * @return the statistics.
+     */
+    public static Stats getStats(@NotNull final ViewDelta.ViewType type)
+    {
+        return stats.get(type);
+    }
+
+    /**
+     * Resets the statistics.
+     */
+    public static void resetStats()
+    {
+        stats.values().forEach(Stats::reset);
+    }
+
+    /**
+     * Creates the view message for a player.
+     */
+    @FunctionalInterface
+    public interface MessageFactory
+    {
+        /**
+         * Create the message.
+         *
+         * @param mode   {@link ViewDelta#KEYFRAME} or {@link ViewDelta#DELTA}.
+         * @param data   the payload or delta.
+         * @param player the receiving player.
+         * @return the message.
+         */
+        IMessage create(byte mode, byte[] data, ServerPlayer player);
+    }
+
+    /**
+     * Transfer statistics of one view type.
+     */
+    public static class Stats
+    {
+        public final LongAdder keyframes     = new LongAdder();
+        public final LongAdder keyframeBytes = new LongAdder();
+        public final LongAdder deltas        = new LongAdder();
+        public final LongAdder deltaBytes    = new LongAdder();
+        public final LongAdder skipped       = new LongAdder();
+
+        private void reset()
+        {
+            keyframes.reset();
+            keyframeBytes.reset();
+            deltas.reset();
+            deltaBytes.reset();
+            skipped.reset();
+        }
+    }
+}
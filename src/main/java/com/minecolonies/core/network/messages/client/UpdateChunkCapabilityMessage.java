@@ -74,9 +74,9 @@ public class UpdateChunkCapabilityMessage implements IMessage
     {
         final ClientLevel world = Minecraft.getInstance().level;
 
+        ChunkClientDataHelper.addCapData(chunkCapData);
         if (!WorldUtil.isChunkLoaded(world, new ChunkPos(chunkCapData.x, chunkCapData.z)))
         {
-            ChunkClientDataHelper.addCapData(chunkCapData);
             return;
         }
 
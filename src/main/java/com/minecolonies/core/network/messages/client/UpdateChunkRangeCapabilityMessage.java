@@ -1,6 +1,5 @@
 package com.minecolonies.core.network.messages.client;
 
-import com.minecolonies.api.colony.IColonyTagCapability;
 import com.minecolonies.api.network.IMessage;
 import com.minecolonies.api.util.WorldUtil;
 import com.minecolonies.api.util.ChunkCapData;
@@ -9,8 +8,6 @@ import net.minecraft.client.Minecraft;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.level.ChunkPos;
-import net.minecraft.world.level.Level;
-import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraftforge.fml.LogicalSide;
 import net.minecraftforge.network.NetworkEvent;
 import org.jetbrains.annotations.NotNull;
@@ -19,8 +16,6 @@ import org.jetbrains.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 
-import static com.minecolonies.api.colony.IColony.CLOSE_COLONY_CAP;
-
 /**
  * Update the ChunkCapability with a colony.
  */
@@ -40,33 +35,13 @@ public class UpdateChunkRangeCapabilityMessage implements IMessage
     }
 
     /**
-     * Create a message to update the chunk cap on the client side.
+     * Create a message to update the chunk caps on the client side.
      *
-     * @param world       the world.
-     * @param xC          the x pos.
-     * @param zC          the z pos.
-     * @param range       the range.
-     * @param checkLoaded are we checking for loaded?
+     * @param caps the claim data of the chunks.
      */
-    public UpdateChunkRangeCapabilityMessage(@NotNull final Level world, final int xC, final int zC, final int range, boolean checkLoaded)
+    public UpdateChunkRangeCapabilityMessage(@NotNull final List<ChunkCapData> caps)
     {
-        for (int x = -range; x <= range; x++)
-        {
-            for (int z = -range; z <= range; z++)
-            {
-                final int chunkX = xC + x;
-                final int chunkZ = zC + z;
-                if (!checkLoaded || WorldUtil.isEntityChunkLoaded(world, chunkX, chunkZ))
-                {
-                    final LevelChunk chunk = world.getChunk(chunkX, chunkZ);
-                    final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null).orElseGet(null);
-                    if (cap != null)
-                    {
-                        caps.add(new ChunkCapData(chunkX, chunkZ, cap.getOwningColony(), cap.getStaticClaimColonies(), cap.getAllClaimingBuildings()));
-                    }
-                }
-            }
-        }
+        this.caps.addAll(caps);
     }
 
     @Override
@@ -102,14 +77,11 @@ public class UpdateChunkRangeCapabilityMessage implements IMessage
         final ClientLevel world = Minecraft.getInstance().level;
         for (final ChunkCapData data : caps)
         {
-            if (!WorldUtil.isChunkLoaded(world, new ChunkPos(data.x, data.z)))
+            ChunkClientDataHelper.addCapData(data);
+            if (WorldUtil.isChunkLoaded(world, new ChunkPos(data.x, data.z)))
             {
-                ChunkClientDataHelper.addCapData(data);
-                continue;
+                ChunkClientDataHelper.applyCap(data, world.getChunk(data.x, data.z));
             }
-
-            final LevelChunk chunk = world.getChunk(data.x, data.z);
-            ChunkClientDataHelper.applyCap(data, chunk);
         }
     }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.minecolonies.core.network.messages.client.colony;
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.network.IMessage;
+import com.minecolonies.core.network.ViewDelta;
 import io.netty.buffer.Unpooled;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.registries.Registries;
@@ -22,7 +23,16 @@ public class ColonyViewBuildingViewMessage implements IMessage
 {
     private int          colonyId;
     private BlockPos     buildingId;
-    private FriendlyByteBuf buildingData;
+
+    /**
+     * How the data is encoded, see {@link ViewDelta}.
+     */
+    private byte mode = ViewDelta.FULL;
+
+    /**
+     * The serialized view or its delta.
+     */
+    private byte[] buildingData;
 
     /**
      * Dimension of the colony.
@@ -57,8 +67,27 @@ public class ColonyViewBuildingViewMessage implements IMessage
         super();
         this.colonyId = building.getColony().getID();
         this.buildingId = building.getID();
-        this.buildingData = new FriendlyByteBuf(Unpooled.buffer());
-        building.serializeToView(this.buildingData, fullSync);
+        final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        building.serializeToView(buf, fullSync);
+        this.buildingData = ViewDelta.toArray(buf);
+        buf.release();
+        this.dimension = building.getColony().getDimension();
+    }
+
+    /**
+     * Creates a message to handle colony views from an already serialized view.
+     *
+     * @param building AbstractBuilding to add or update a view.
+     * @param mode     how the data is encoded, see {@link ViewDelta}.
+     * @param data     the serialized view or its delta.
+     */
+    public ColonyViewBuildingViewMessage(@NotNull final IBuilding building, final byte mode, final byte[] data)
+    {
+        super();
+        this.colonyId = building.getColony().getID();
+        this.buildingId = building.getID();
+        this.mode = mode;
+        this.buildingData = data;
         this.dimension = building.getColony().getDimension();
     }
 
@@ -68,18 +97,18 @@ public class ColonyViewBuildingViewMessage implements IMessage
         colonyId = buf.readInt();
         buildingId = buf.readBlockPos();
         dimension = ResourceKey.create(Registries.DIMENSION, new ResourceLocation(buf.readUtf(32767)));
-        buildingData = new FriendlyByteBuf(Unpooled.buffer(buf.readableBytes()));
-        buf.readBytes(buildingData, buf.readableBytes());
+        mode = buf.readByte();
+        buildingData = buf.readByteArray();
     }
 
     @Override
     public void toBytes(@NotNull final FriendlyByteBuf buf)
     {
-        buildingData.resetReaderIndex();
         buf.writeInt(colonyId);
         buf.writeBlockPos(buildingId);
         buf.writeUtf(dimension.location().toString());
-        buf.writeBytes(buildingData);
+        buf.writeByte(mode);
+        buf.writeByteArray(buildingData);
     }
 
     @Nullable
@@ -92,6 +121,10 @@ public class ColonyViewBuildingViewMessage implements IMessage
     @Override
     public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
     {
-        IColonyManager.getInstance().handleColonyBuildingViewMessage(colonyId, buildingId, buildingData, dimension);
+        final FriendlyByteBuf data = ViewDelta.receive(new ViewDelta.ViewKey(ViewDelta.ViewType.BUILDING, dimension, colonyId, buildingId.asLong()), mode, buildingData);
+        if (data != null)
+        {
+            IColonyManager.getInstance().handleColonyBuildingViewMessage(colonyId, buildingId, data, dimension);
+        }
     }
 }
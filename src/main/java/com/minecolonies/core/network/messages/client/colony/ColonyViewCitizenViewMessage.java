@@ -4,6 +4,7 @@ import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.network.IMessage;
 import com.minecolonies.core.colony.Colony;
+import com.minecolonies.core.network.ViewDelta;
 import io.netty.buffer.Unpooled;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.network.FriendlyByteBuf;
@@ -22,7 +23,16 @@ public class ColonyViewCitizenViewMessage implements IMessage
 {
     private int          colonyId;
     private int          citizenId;
-    private FriendlyByteBuf citizenBuffer;
+
+    /**
+     * How the data is encoded, see {@link ViewDelta}.
+     */
+    private byte mode = ViewDelta.FULL;
+
+    /**
+     * The serialized view or its delta.
+     */
+    private byte[] citizenData;
 
     /**
      * The dimension the citizen is in.
@@ -48,9 +58,29 @@ public class ColonyViewCitizenViewMessage implements IMessage
         super();
         this.colonyId = colony.getID();
         this.citizenId = citizen.getId();
-        this.citizenBuffer = new FriendlyByteBuf(Unpooled.buffer());
         this.dimension = citizen.getColony().getDimension();
-        citizen.serializeViewNetworkData(citizenBuffer);
+        final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        citizen.serializeViewNetworkData(buf);
+        this.citizenData = ViewDelta.toArray(buf);
+        buf.release();
+    }
+
+    /**
+     * Updates a {@link com.minecolonies.core.colony.CitizenDataView} of the citizens from an already serialized view.
+     *
+     * @param colony  Colony of the citizen
+     * @param citizen Citizen data of the citizen to update view
+     * @param mode    how the data is encoded, see {@link ViewDelta}.
+     * @param data    the serialized view or its delta.
+     */
+    public ColonyViewCitizenViewMessage(@NotNull final Colony colony, @NotNull final ICitizenData citizen, final byte mode, final byte[] data)
+    {
+        super();
+        this.colonyId = colony.getID();
+        this.citizenId = citizen.getId();
+        this.dimension = citizen.getColony().getDimension();
+        this.mode = mode;
+        this.citizenData = data;
     }
 
     @Override
@@ -59,17 +89,18 @@ public class ColonyViewCitizenViewMessage implements IMessage
         colonyId = buf.readInt();
         citizenId = buf.readInt();
         dimension = ResourceKey.create(Registries.DIMENSION, new ResourceLocation(buf.readUtf(32767)));
-        this.citizenBuffer = new FriendlyByteBuf(buf.retain());
+        mode = buf.readByte();
+        citizenData = buf.readByteArray();
     }
 
     @Override
     public void toBytes(@NotNull final FriendlyByteBuf buf)
     {
-        citizenBuffer.resetReaderIndex();
         buf.writeInt(colonyId);
         buf.writeInt(citizenId);
         buf.writeUtf(dimension.location().toString());
-        buf.writeBytes(citizenBuffer);
+        buf.writeByte(mode);
+        buf.writeByteArray(citizenData);
     }
 
     @Nullable
@@ -82,7 +113,10 @@ public class ColonyViewCitizenViewMessage implements IMessage
     @Override
     public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
     {
-        IColonyManager.getInstance().handleColonyViewCitizensMessage(colonyId, citizenId, citizenBuffer, dimension);
-        citizenBuffer.release();
+        final FriendlyByteBuf data = ViewDelta.receive(new ViewDelta.ViewKey(ViewDelta.ViewType.CITIZEN, dimension, colonyId, citizenId), mode, citizenData);
+        if (data != null)
+        {
+            IColonyManager.getInstance().handleColonyViewCitizensMessage(colonyId, citizenId, data, dimension);
+        }
     }
 }
@@ -3,6 +3,7 @@ package com.minecolonies.core.network.messages.client.colony;
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.network.IMessage;
 import com.minecolonies.core.colony.Colony;
+import com.minecolonies.core.network.ViewDelta;
 import net.minecraft.client.Minecraft;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.network.FriendlyByteBuf;
@@ -32,9 +33,14 @@ public class ColonyViewMessage implements IMessage
     private boolean isNewSubscription;
 
     /**
-     * The buffer with the data.
+     * How the data is encoded, see {@link ViewDelta}.
      */
-    private FriendlyByteBuf colonyBuffer;
+    private byte mode;
+
+    /**
+     * The serialized view or its delta.
+     */
+    private byte[] data;
 
     /**
      * The dimension of the colony.
@@ -53,13 +59,15 @@ public class ColonyViewMessage implements IMessage
      * Add or Update a ColonyView on the client.
      *
      * @param colony Colony of the view to update.
-     * @param buf    the bytebuffer.
+     * @param mode   how the data is encoded, see {@link ViewDelta}.
+     * @param data   the serialized view or its delta.
      */
-    public ColonyViewMessage(@NotNull final Colony colony, final FriendlyByteBuf buf)
+    public ColonyViewMessage(@NotNull final Colony colony, final byte mode, final byte[] data)
     {
         this.colonyId = colony.getID();
         this.dim = colony.getDimension();
-        this.colonyBuffer = new FriendlyByteBuf(buf.copy());
+        this.mode = mode;
+        this.data = data;
     }
 
     /**
@@ -75,21 +83,21 @@ public class ColonyViewMessage implements IMessage
     @Override
     public void fromBytes(@NotNull final FriendlyByteBuf buf)
     {
-        final FriendlyByteBuf newBuf = new FriendlyByteBuf(buf.retain());
-        colonyId = newBuf.readInt();
-        isNewSubscription = newBuf.readBoolean();
-        dim = ResourceKey.create(Registries.DIMENSION, new ResourceLocation(newBuf.readUtf(32767)));
-        colonyBuffer = newBuf;
+        colonyId = buf.readInt();
+        isNewSubscription = buf.readBoolean();
+        dim = ResourceKey.create(Registries.DIMENSION, new ResourceLocation(buf.readUtf(32767)));
+        mode = buf.readByte();
+        data = buf.readByteArray();
     }
 
     @Override
     public void toBytes(@NotNull final FriendlyByteBuf buf)
     {
-        colonyBuffer.resetReaderIndex();
         buf.writeInt(colonyId);
         buf.writeBoolean(isNewSubscription);
         buf.writeUtf(dim.location().toString());
-        buf.writeBytes(colonyBuffer);
+        buf.writeByte(mode);
+        buf.writeByteArray(data);
     }
 
     @Nullable
@@ -103,10 +111,10 @@ public class ColonyViewMessage implements IMessage
     @Override
     public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
     {
-        if (Minecraft.getInstance().level != null)
+        final FriendlyByteBuf colonyBuffer = ViewDelta.receive(new ViewDelta.ViewKey(ViewDelta.ViewType.COLONY, dim, colonyId, 0), mode, data);
+        if (colonyBuffer != null && Minecraft.getInstance().level != null)
         {
             IColonyManager.getInstance().handleColonyViewMessage(colonyId, colonyBuffer, Minecraft.getInstance().level, isNewSubscription, dim);
         }
-        colonyBuffer.release();
     }
 }
@@ -3,9 +3,12 @@ package com.minecolonies.core.network.messages.client.colony;
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.network.IMessage;
 import com.minecolonies.core.colony.Colony;
+import com.minecolonies.core.network.ViewDelta;
 import net.minecraft.client.Minecraft;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
 import net.minecraftforge.fml.LogicalSide;
 import net.minecraftforge.network.NetworkEvent;
 import org.jetbrains.annotations.NotNull;
@@ -65,7 +68,9 @@ public class ColonyViewRemoveBuildingMessage implements IMessage
     {
         if (Minecraft.getInstance().level != null)
         {
-            IColonyManager.getInstance().handleColonyViewRemoveBuildingMessage(colonyId, buildingId, Minecraft.getInstance().level.dimension());
+            final ResourceKey<Level> dimension = Minecraft.getInstance().level.dimension();
+            IColonyManager.getInstance().handleColonyViewRemoveBuildingMessage(colonyId, buildingId, dimension);
+            ViewDelta.removeBaseline(new ViewDelta.ViewKey(ViewDelta.ViewType.BUILDING, dimension, colonyId, buildingId.asLong()));
         }
     }
 }
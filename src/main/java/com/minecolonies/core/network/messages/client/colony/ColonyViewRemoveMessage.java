@@ -2,6 +2,7 @@ package com.minecolonies.core.network.messages.client.colony;
 
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.network.IMessage;
+import com.minecolonies.core.network.ViewDelta;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceKey;
@@ -55,5 +56,6 @@ public class ColonyViewRemoveMessage implements IMessage
     public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
     {
         IColonyManager.getInstance().removeColonyView(id, dimension);
+        ViewDelta.removeColonyBaselines(dimension, id);
     }
 }
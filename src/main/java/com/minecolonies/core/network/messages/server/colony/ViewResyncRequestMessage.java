@@ -0,0 +1,86 @@
+package com.minecolonies.core.network.messages.server.colony;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.permissions.Action;
+import com.minecolonies.core.network.ViewDelta;
+import com.minecolonies.core.network.messages.server.AbstractColonyServerMessage;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.network.NetworkEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Asks the server to send the complete view again, after the client received a delta it could not apply.
+ */
+public class ViewResyncRequestMessage extends AbstractColonyServerMessage
+{
+    /**
+     * The kind of view.
+     */
+    private ViewDelta.ViewType type;
+
+    /**
+     * The building position or citizen id, 0 for the colony itself.
+     */
+    private long id;
+
+    /**
+     * Empty constructor used when registering the message.
+     */
+    public ViewResyncRequestMessage()
+    {
+        super();
+    }
+
+    /**
+     * Creates a resync request for a view.
+     *
+     * @param key the view.
+     */
+    public ViewResyncRequestMessage(@NotNull final ViewDelta.ViewKey key)
+    {
+        super(key.dimension(), key.colonyId());
+        this.type = key.type();
+        this.id = key.id();
+    }
+
+    @Nullable
+    @Override
+    public Action permissionNeeded()
+    {
+        return null;
+    }
+
+    @Override
+    protected void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer, final IColony colony)
+    {
+        final ServerPlayer player = ctxIn.getSender();
+        if (player == null)
+        {
+            return;
+        }
+
+        switch (type)
+        {
+            case COLONY -> colony.getPackageManager().requestColonyViewKeyframe(player);
+            case BUILDING -> colony.getBuildingManager().requestBuildingViewKeyframe(BlockPos.of(id), player);
+            case CITIZEN -> colony.getCitizenManager().requestCitizenViewKeyframe((int) id, player);
+        }
+    }
+
+    @Override
+    protected void toBytesOverride(final FriendlyByteBuf buf)
+    {
+        buf.writeEnum(type);
+        buf.writeLong(id);
+    }
+
+    @Override
+    protected void fromBytesOverride(final FriendlyByteBuf buf)
+    {
+        type = buf.readEnum(ViewDelta.ViewType.class);
+        id = buf.readLong();
+    }
+}
@@ -0,0 +1,359 @@
+package com.minecolonies.core.tileentities;
+
+import com.minecolonies.api.colony.buildings.IBuildingContainer;
+import com.minecolonies.api.crafting.ItemKey;
+import com.minecolonies.api.crafting.ItemKeyIndex;
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.util.WorldUtil;
+import com.minecolonies.core.colony.crafting.RecipeOutputPredicate;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraftforge.common.capabilities.ForgeCapabilities;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static com.minecolonies.api.util.constant.Constants.TICKS_FIVE_MIN;
+
+/**
+ * Aggregated content of all racks of a building, kept up to date by the racks whenever their content changes.
+ * Answers how many of an item the building holds and which racks hold it without visiting every container.
+ */
+public class BuildingItemLedger
+{
+    /**
+     * Game ticks after which the ledger is rebuilt from the racks, covers changes that bypassed the rack inventories.
+     */
+    private static final int REBUILD_INTERVAL = TICKS_FIVE_MIN;
+
+    /**
+     * Total count per exact item.
+     */
+    private final Map<ItemStorage, Integer> totals = new HashMap<>();
+
+    /**
+     * Exact items by variant, for counts that ignore damage or nbt.
+     */
+    private final ItemKeyIndex<ItemStorage> byVariant = new ItemKeyIndex<>();
+
+    /**
+     * Racks holding each exact item.
+     */
+    private final Map<ItemStorage, Set<BlockPos>> holders = new HashMap<>();
+
+    /**
+     * Last known content of each rack.
+     */
+    private final Map<BlockPos, Map<ItemStorage, Integer>> rackContents = new HashMap<>();
+
+    /**
+     * Containers which are not racks, those are not tracked and have to be checked directly.
+     */
+    private final Set<BlockPos> otherContainers = new HashSet<>();
+
+    /**
+     * Whether the ledger has to be rebuilt.
+     */
+    private boolean dirty = true;
+
+    /**
+     * Game time of the last rebuild.
+     */
+    private long lastRebuild = 0;
+
+    /**
+     * Marks the ledger for a rebuild, e.g. after containers got added.
+     */
+    public void markDirty()
+    {
+        dirty = true;
+    }
+
+    /**
+     * Rebuilds the ledger from the containers of the building if needed.
+     *
+     * @param building the building.
+     * @param level    the level.
+     */
+    public void refreshIfNeeded(@NotNull final IBuildingContainer building, @NotNull final Level level)
+    {
+        final long gameTime = level.getGameTime();
+        if (!dirty && gameTime - lastRebuild < REBUILD_INTERVAL)
+        {
+            return;
+        }
+
+        dirty = false;
+        lastRebuild = gameTime;
+
+        final Set<BlockPos> containers = new HashSet<>(building.getContainers());
+        for (final BlockPos pos : new ArrayList<>(rackContents.keySet()))
+        {
+            if (!containers.contains(pos))
+            {
+                onRackRemoved(pos);
+            }
+        }
+        otherContainers.clear();
+
+        for (final BlockPos pos : containers)
+        {
+            // Unloaded racks keep their last known content
+            if (!WorldUtil.isBlockLoaded(level, pos))
+            {
+                continue;
+            }
+
+            final BlockEntity entity = level.getBlockEntity(pos);
+            if (entity instanceof TileEntityRack rack)
+            {
+                rack.setItemLedger(this);
+                onRackChanged(pos, rack.getAllContent());
+            }
+            else
+            {
+                onRackRemoved(pos);
+                if (entity != null && entity.getCapability(ForgeCapabilities.ITEM_HANDLER, null).isPresent())
+                {
+                    otherContainers.add(pos);
+                }
+            }
+        }
+
+        onRefresh(gameTime);
+    }
+
+    /**
+     * Called after the ledger got rebuilt.
+     *
+     * @param gameTime the current game time.
+     */
+    protected void onRefresh(final long gameTime)
+    {
+        // Nothing to do by default
+    }
+
+    /**
+     * Applies the new content of a rack.
+     *
+     * @param pos     the rack position.
+     * @param content the content of the rack, gets copied.
+     */
+    public void onRackChanged(@NotNull final BlockPos pos, @NotNull final Map<ItemStorage, Integer> content)
+    {
+        final Map<ItemStorage, Integer> previous = rackContents.remove(pos);
+        if (previous != null)
+        {
+            for (final Map.Entry<ItemStorage, Integer> entry : previous.entrySet())
+            {
+                if (!entry.getValue().equals(content.get(entry.getKey())))
+                {
+                    addTotal(pos, entry.getKey(), -entry.getValue(), false);
+                }
+            }
+        }
+
+        for (final Map.Entry<ItemStorage, Integer> entry : content.entrySet())
+        {
+            final Integer before = previous == null ? null : previous.get(entry.getKey());
+            if (!entry.getValue().equals(before))
+            {
+                addTotal(pos, entry.getKey(), entry.getValue(), true);
+            }
+        }
+
+        if (!content.isEmpty())
+        {
+            rackContents.put(pos.immutable(), new HashMap<>(content));
+        }
+    }
+
+    /**
+     * Drops the content of a rack which is no longer part of the building.
+     *
+     * @param pos the rack position.
+     */
+    public void onRackRemoved(@NotNull final BlockPos pos)
+    {
+        final Map<ItemStorage, Integer> previous = rackContents.remove(pos);
+        if (previous != null)
+        {
+            previous.forEach((storage, amount) -> addTotal(pos, storage, -amount, false));
+        }
+        otherContainers.remove(pos);
+    }
+
+    /**
+     * Changes the total of an item.
+     *
+     * @param pos     the rack the change happened in.
+     * @param storage the exact item.
+     * @param delta   the amount change.
+     * @param holds   whether the rack holds the item afterwards.
+     */
+    private void addTotal(final BlockPos pos, final ItemStorage storage, final int delta, final boolean holds)
+    {
+        final int total = totals.getOrDefault(storage, 0) + delta;
+        if (total > 0)
+        {
+            if (totals.put(storage, total) == null)
+            {
+                byVariant.add(ItemKey.of(storage), storage);
+            }
+        }
+        else if (totals.remove(storage) != null)
+        {
+            byVariant.remove(ItemKey.of(storage), storage);
+        }
+
+        if (holds)
+        {
+            holders.computeIfAbsent(storage, s -> new HashSet<>()).add(pos.immutable());
+        }
+        else
+        {
+            final Set<BlockPos> racks = holders.get(storage);
+            if (racks != null)
+            {
+                racks.remove(pos);
+                if (racks.isEmpty())
+                {
+                    holders.remove(storage);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the amount of an item in the racks, honouring the damage and nbt settings of the given storage.
+     *
+     * @param storage the item to count.
+     * @return the amount.
+     */
+    public int getCount(@NotNull final ItemStorage storage)
+    {
+        int count = 0;
+        for (final ItemStorage candidate : getVariants(storage))
+        {
+            count += getTotal(candidate);
+        }
+        return count;
+    }
+
+    /**
+     * Get the amount of all items in the racks matching a predicate.
+     *
+     * @param predicate the predicate.
+     * @return the amount.
+     */
+    public int getCount(@NotNull final Predicate<ItemStack> predicate)
+    {
+        int count = 0;
+        for (final ItemStorage storage : getCandidates(predicate))
+        {
+            if (predicate.test(storage.getItemStack()))
+            {
+                count += getTotal(storage);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the amount of all items in the racks matching a predicate, counting at most a limit of each exact item.
+     *
+     * @param predicate the predicate.
+     * @param limit     the limit per item.
+     * @return the amount.
+     */
+    public int getCountWithLimit(@NotNull final Predicate<ItemStack> predicate, @NotNull final Function<ItemStack, Integer> limit)
+    {
+        int count = 0;
+        for (final ItemStorage storage : getCandidates(predicate))
+        {
+            if (predicate.test(storage.getItemStack()))
+            {
+                count += Math.min(limit.apply(storage.getItemStack()), getTotal(storage));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the total amount of an exact item.
+     *
+     * @param storage the exact item.
+     * @return the amount.
+     */
+    protected int getTotal(@NotNull final ItemStorage storage)
+    {
+        return totals.getOrDefault(storage, 0);
+    }
+
+    /**
+     * Get the exact items matching a storage, honouring its damage and nbt settings.
+     *
+     * @param storage the storage.
+     * @return the exact items.
+     */
+    protected List<ItemStorage> getVariants(@NotNull final ItemStorage storage)
+    {
+        return byVariant.get(storage);
+    }
+
+    /**
+     * Get the exact items a predicate has to be tested against, only the variants of the items a {@link RecipeOutputPredicate} names if it is one.
+     *
+     * @param predicate the predicate.
+     * @return the exact items.
+     */
+    protected Collection<ItemStorage> getCandidates(@NotNull final Predicate<ItemStack> predicate)
+    {
+        if (!(predicate instanceof RecipeOutputPredicate narrowed))
+        {
+            return totals.keySet();
+        }
+
+        final List<ItemStorage> candidates = new ArrayList<>();
+        for (final Item item : narrowed.items())
+        {
+            candidates.addAll(byVariant.get(ItemKey.of(new ItemStack(item)), ItemKey.Match.ITEM));
+        }
+        return candidates;
+    }
+
+    /**
+     * Get the racks holding items matching a predicate.
+     *
+     * @param predicate the predicate.
+     * @return the rack positions.
+     */
+    public Set<BlockPos> getHolders(@NotNull final Predicate<ItemStack> predicate)
+    {
+        final Set<BlockPos> result = new HashSet<>();
+        for (final ItemStorage storage : getCandidates(predicate))
+        {
+            final Set<BlockPos> racks = holders.get(storage);
+            if (racks != null && predicate.test(storage.getItemStack()))
+            {
+                result.addAll(racks);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the containers which are not racks and are therefore not tracked.
+     *
+     * @return the positions.
+     */
+    public Set<BlockPos> getOtherContainers()
+    {
+        return otherContainers;
+    }
+}
@@ -7,7 +7,11 @@ import com.ldtteam.domumornamentum.entity.block.IMateriallyTexturedBlockEntity;
 import com.minecolonies.api.blocks.AbstractBlockMinecoloniesRack;
 import com.minecolonies.api.blocks.ModBlocks;
 import com.minecolonies.api.blocks.types.RackType;
+import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.crafting.ItemKey;
+import com.minecolonies.api.crafting.ItemKeyIndex;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.inventory.api.CombinedItemHandler;
 import com.minecolonies.api.inventory.container.ContainerRack;
@@ -17,6 +21,8 @@ import com.minecolonies.api.tileentities.MinecoloniesTileEntities;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.WorldUtil;
+import com.minecolonies.core.colony.buildings.AbstractBuildingContainer;
+import com.minecolonies.core.colony.buildings.workerbuildings.BuildingWareHouse;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
@@ -73,6 +79,11 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
      */
     private final Map<ItemStorage, Integer> content = new HashMap<>();
 
+    /**
+     * The keys of the content by item variant, the amount of each key is its total count.
+     */
+    private final ItemKeyIndex<ItemStorage> contentIndex = new ItemKeyIndex<>();
+
     /**
      * Size multiplier of the inventory. 0 = default value. 1 = 1*9 additional slots, and so on.
      */
@@ -122,6 +133,17 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
      */
     private boolean checkedAfterStartup = false;
 
+    /**
+     * Ledger of the building this rack belongs to, if known.
+     */
+    @Nullable
+    private BuildingItemLedger itemLedger = null;
+
+    /**
+     * Whether the building of this rack was looked up already.
+     */
+    private boolean ledgerLookedUp = false;
+
     /**
      * Create a new rack.
      * @param type the specific block entity type.
@@ -164,6 +186,51 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
         this.inWarehouse = isInWarehouse;
     }
 
+    /**
+     * Set the ledger of the building this rack belongs to, which gets notified of content changes.
+     *
+     * @param itemLedger the ledger.
+     */
+    public void setItemLedger(@Nullable final BuildingItemLedger itemLedger)
+    {
+        this.itemLedger = itemLedger;
+        this.ledgerLookedUp = true;
+    }
+
+    /**
+     * Notifies the ledger of the building about changed content, looks the building up once if this rack was not linked yet.
+     */
+    private void updateItemLedger()
+    {
+        if (itemLedger == null && !ledgerLookedUp)
+        {
+            ledgerLookedUp = true;
+            final IColony colony = IColonyManager.getInstance().getClosestColony(level, worldPosition);
+            final BlockPos ownerPos = buildingPos == null || buildingPos.equals(BlockPos.ZERO) ? worldPosition : buildingPos;
+            final IBuilding owner = colony == null ? null : colony.getBuildingManager().getBuilding(ownerPos);
+            if (owner instanceof AbstractBuildingContainer container && owner.getContainers().contains(worldPosition))
+            {
+                itemLedger = container.getItemLedger();
+            }
+            else if (colony != null && inWarehouse)
+            {
+                for (final IBuilding building : colony.getBuildingManager().getBuildings().values())
+                {
+                    if (building instanceof BuildingWareHouse wareHouse && wareHouse.hasContainerPosition(worldPosition))
+                    {
+                        itemLedger = wareHouse.getItemLedger();
+                        break;
+                    }
+                }
+            }
+        }
+
+        if (itemLedger != null)
+        {
+            itemLedger.onRackChanged(worldPosition, content);
+        }
+    }
+
     @Override
     public int getFreeSlots()
     {
@@ -173,9 +240,7 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
     @Override
     public boolean hasItemStack(final ItemStack stack, final int count, final boolean ignoreDamageValue)
     {
-        final ItemStorage checkItem = new ItemStorage(stack, ignoreDamageValue);
-
-        return content.getOrDefault(checkItem, 0) >= count;
+        return getCount(new ItemStorage(stack, ignoreDamageValue)) >= count;
     }
 
     @Override
@@ -194,25 +259,12 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
     @Override
     public int getCount(final ItemStorage storage)
     {
-        if (storage.ignoreDamageValue() || storage.ignoreNBT())
+        int count = 0;
+        for (final ItemStorage contentStorage : contentIndex.get(storage))
         {
-            if (!content.containsKey(storage))
-            {
-                return 0;
-            }
-
-            int count = 0;
-            for (final Map.Entry<ItemStorage, Integer> contentStorage : content.entrySet())
-            {
-                if (contentStorage.getKey().equals(storage))
-                {
-                    count += contentStorage.getValue();
-                }
-            }
-            return count;
+            count += contentStorage.getAmount();
         }
-
-        return content.getOrDefault(storage, 0);
+        return count;
     }
 
     @Override
@@ -231,12 +283,12 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
     @Override
     public boolean hasSimilarStack(@NotNull final ItemStack stack)
     {
-        final ItemStorage checkItem = new ItemStorage(stack, true, true);
-        if (content.containsKey(checkItem))
+        if (!contentIndex.get(ItemKey.of(stack), ItemKey.Match.ITEM).isEmpty())
         {
             return true;
         }
 
+        final ItemStorage checkItem = new ItemStorage(stack, true, true);
         for (final ItemStorage storage : content.keySet())
         {
             if (IColonyManager.getInstance().getCompatibilityManager().getCreativeTab(checkItem) == IColonyManager.getInstance().getCompatibilityManager().getCreativeTab(storage))
@@ -295,6 +347,7 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
         {
             final boolean beforeEmpty = content.isEmpty();
             updateContent();
+            updateItemLedger();
             if (getBlockState().getBlock() == ModBlocks.blockRack)
             {
                 boolean afterEmpty = content.isEmpty();
@@ -330,7 +383,9 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
     private void updateContent()
     {
         content.clear();
+        contentIndex.clear();
         freeSlots = 0;
+        final List<ItemStorage> storages = new ArrayList<>();
         for (int slot = 0; slot < inventory.getSlots(); slot++)
         {
             final ItemStack stack = inventory.getStackInSlot(slot);
@@ -341,13 +396,23 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
                 continue;
             }
 
-            final ItemStorage storage = new ItemStorage(stack.copy());
-            int amount = ItemStackUtils.getSize(stack);
-            if (content.containsKey(storage))
+            final ItemKey key = ItemKey.of(stack);
+            final List<ItemStorage> sameItem = contentIndex.get(key, ItemKey.Match.EXACT);
+            if (sameItem.isEmpty())
             {
-                amount += content.remove(storage);
+                final ItemStorage storage = new ItemStorage(stack.copy());
+                contentIndex.add(key, storage);
+                storages.add(storage);
             }
-            content.put(storage, amount);
+            else
+            {
+                sameItem.get(0).setAmount(sameItem.get(0).getAmount() + ItemStackUtils.getSize(stack));
+            }
+        }
+
+        for (final ItemStorage storage : storages)
+        {
+            content.put(storage, storage.getAmount());
         }
     }
 
@@ -1,11 +1,14 @@
 package com.minecolonies.core.tileentities;
 
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.inventory.InventoryCitizen;
 import com.minecolonies.api.tileentities.AbstractTileEntityRack;
 import com.minecolonies.api.tileentities.AbstractTileEntityWareHouse;
 import com.minecolonies.api.tileentities.MinecoloniesTileEntities;
 import com.minecolonies.api.util.*;
 import com.minecolonies.core.colony.buildings.modules.BuildingModules;
+import com.minecolonies.core.colony.buildings.workerbuildings.BuildingWareHouse;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.ChestBlockEntity;
 import net.minecraft.world.level.block.entity.BlockEntity;
@@ -16,6 +19,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import static com.minecolonies.api.util.constant.Constants.TICKS_FIVE_MIN;
@@ -39,11 +43,80 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
         inWarehouse = true;
     }
 
+    /**
+     * Get the up to date item ledger of the warehouse.
+     *
+     * @return the ledger or null if the building is not available.
+     */
+    @Nullable
+    private WarehouseItemLedger getItemLedger()
+    {
+        if (level != null && getBuilding() instanceof BuildingWareHouse wareHouse)
+        {
+            final WarehouseItemLedger ledger = wareHouse.getItemLedger();
+            ledger.refreshIfNeeded(wareHouse, level);
+            return ledger;
+        }
+        return null;
+    }
+
+    /**
+     * Get the amount of items matching a predicate which are not reserved for other requests.
+     *
+     * @param itemStackSelectionPredicate the predicate.
+     * @return the amount.
+     */
+    public int getAvailableCount(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
+    {
+        final WarehouseItemLedger ledger = getItemLedger();
+        if (ledger == null)
+        {
+            return 0;
+        }
+
+        int count = ledger.getAvailableCount(itemStackSelectionPredicate);
+        for (final BlockPos pos : ledger.getOtherContainers())
+        {
+            final BlockEntity entity = WorldUtil.isBlockLoaded(level, pos) ? getLevel().getBlockEntity(pos) : null;
+            if (entity != null)
+            {
+                count += InventoryUtils.getItemCountInItemHandler(entity.getCapability(ForgeCapabilities.ITEM_HANDLER, null).orElse(null), itemStackSelectionPredicate);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Reserves stock for a request, so that other requests do not count it as available.
+     *
+     * @param requestId                   the request.
+     * @param itemStackSelectionPredicate the items the request accepts.
+     * @param count                       the amount to reserve at most.
+     * @return the amount reserved.
+     */
+    public int reserveStock(@NotNull final IToken<?> requestId, @NotNull final Predicate<ItemStack> itemStackSelectionPredicate, final int count)
+    {
+        final WarehouseItemLedger ledger = getItemLedger();
+        return ledger == null ? 0 : ledger.reserve(requestId, itemStackSelectionPredicate, count, level.getGameTime());
+    }
+
+    /**
+     * Releases the stock reserved for a request.
+     *
+     * @param requestId the request.
+     */
+    public void releaseStock(@NotNull final IToken<?> requestId)
+    {
+        if (getBuilding() instanceof BuildingWareHouse wareHouse)
+        {
+            wareHouse.getItemLedger().release(requestId);
+        }
+    }
+
     @Override
     public boolean hasMatchingItemStackInWarehouse(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate, int count)
     {
-        final List<Tuple<ItemStack, BlockPos>> targetStacks = getMatchingItemStacksInWarehouse(itemStackSelectionPredicate);
-        return targetStacks.stream().mapToInt(tuple -> ItemStackUtils.getSize(tuple.getA())).sum() >= count;
+        return getAvailableCount(itemStackSelectionPredicate) >= count;
     }
 
     @Override
@@ -55,23 +128,13 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     @Override
     public boolean hasMatchingItemStackInWarehouse(@NotNull final ItemStack itemStack, final int count, final boolean ignoreNBT, final boolean ignoreDamage, final int leftOver)
     {
-        int totalCountFound = 0 - leftOver;
-        for (@NotNull final BlockPos pos : getBuilding().getContainers())
+        final WarehouseItemLedger ledger = getItemLedger();
+        if (ledger == null)
         {
-            if (WorldUtil.isBlockLoaded(level, pos))
-            {
-                final BlockEntity entity = getLevel().getBlockEntity(pos);
-                if (entity instanceof TileEntityRack && !((AbstractTileEntityRack) entity).isEmpty())
-                {
-                    totalCountFound += ((AbstractTileEntityRack) entity).getCount(itemStack, ignoreDamage, ignoreNBT);
-                    if (totalCountFound >= count)
-                    {
-                        return true;
-                    }
-                }
-            }
+            return false;
         }
-        return false;
+
+        return ledger.getAvailableCount(new ItemStorage(itemStack, ignoreDamage, ignoreNBT)) - leftOver >= count;
     }
 
     @Override
@@ -85,11 +148,25 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     public List<Tuple<ItemStack, BlockPos>> getMatchingItemStacksInWarehouse(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
     {
         List<Tuple<ItemStack, BlockPos>> found = new ArrayList<>();
-        
-        if (getBuilding() != null)
+
+        final WarehouseItemLedger ledger = getItemLedger();
+        if (ledger != null)
         {
+            // Only visit the racks holding matching items and the untracked containers
+            final Set<BlockPos> candidates = ledger.getHolders(itemStackSelectionPredicate);
+            candidates.addAll(ledger.getOtherContainers());
+            if (candidates.isEmpty())
+            {
+                return found;
+            }
+
             for (@NotNull final BlockPos pos : getBuilding().getContainers())
             {
+                if (!candidates.contains(pos) || !WorldUtil.isBlockLoaded(level, pos))
+                {
+                    continue;
+                }
+
                 final BlockEntity entity = getLevel().getBlockEntity(pos);
                 if (entity instanceof TileEntityRack && !((AbstractTileEntityRack) entity).isEmpty() && ((AbstractTileEntityRack) entity).getItemCount(itemStackSelectionPredicate) > 0)
                 {
@@ -0,0 +1,182 @@
+package com.minecolonies.core.tileentities;
+
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.crafting.ItemStorage;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Aggregated content of all racks of a warehouse, see {@link BuildingItemLedger}.
+ * Also tracks stock reserved for requests the warehouse took over, so that other requests do not count the same items.
+ */
+public class WarehouseItemLedger extends BuildingItemLedger
+{
+    /**
+     * Game ticks after which a reservation is dropped if it was never released.
+     */
+    private static final int RESERVATION_TIMEOUT = 24000;
+
+    /**
+     * Reserved amount per exact item.
+     */
+    private final Map<ItemStorage, Integer> reserved = new HashMap<>();
+
+    /**
+     * Reservations by request.
+     */
+    private final Map<IToken<?>, Reservation> reservations = new HashMap<>();
+
+    @Override
+    protected void onRefresh(final long gameTime)
+    {
+        reservations.values().removeIf(reservation -> {
+            if (gameTime - reservation.createdTick > RESERVATION_TIMEOUT)
+            {
+                reservation.amounts.forEach((storage, amount) -> addTo(reserved, storage, -amount));
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Get the unreserved amount of an item, honouring the damage and nbt settings of the given storage.
+     *
+     * @param storage the item to count.
+     * @return the amount.
+     */
+    public int getAvailableCount(@NotNull final ItemStorage storage)
+    {
+        int count = 0;
+        for (final ItemStorage candidate : getVariants(storage))
+        {
+            count += getAvailable(candidate);
+        }
+        return count;
+    }
+
+    /**
+     * Get the unreserved amount of all items matching a predicate.
+     *
+     * @param predicate the predicate.
+     * @return the amount.
+     */
+    public int getAvailableCount(@NotNull final Predicate<ItemStack> predicate)
+    {
+        int count = 0;
+        for (final ItemStorage storage : getCandidates(predicate))
+        {
+            if (predicate.test(storage.getItemStack()))
+            {
+                count += getAvailable(storage);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the unreserved amount of an exact item.
+     *
+     * @param storage the exact item.
+     * @return the amount.
+     */
+    private int getAvailable(final ItemStorage storage)
+    {
+        return Math.max(0, getTotal(storage) - reserved.getOrDefault(storage, 0));
+    }
+
+    /**
+     * Reserves unreserved stock matching a predicate for a request, replacing an earlier reservation of it.
+     *
+     * @param requestId the request.
+     * @param predicate the items the request accepts.
+     * @param amount    the amount to reserve at most.
+     * @param gameTime  the current game time.
+     * @return the amount actually reserved.
+     */
+    public int reserve(@NotNull final IToken<?> requestId, @NotNull final Predicate<ItemStack> predicate, final int amount, final long gameTime)
+    {
+        release(requestId);
+
+        final Reservation reservation = new Reservation(gameTime);
+        int remaining = amount;
+        for (final ItemStorage storage : getCandidates(predicate))
+        {
+            if (remaining <= 0)
+            {
+                break;
+            }
+
+            if (predicate.test(storage.getItemStack()))
+            {
+                final int taken = Math.min(remaining, getAvailable(storage));
+                if (taken > 0)
+                {
+                    reservation.amounts.merge(storage, taken, Integer::sum);
+                    remaining -= taken;
+                }
+            }
+        }
+
+        if (!reservation.amounts.isEmpty())
+        {
+            reservation.amounts.forEach((storage, taken) -> addTo(reserved, storage, taken));
+            reservations.put(requestId, reservation);
+        }
+        return amount - remaining;
+    }
+
+    /**
+     * Releases the stock reserved for a request.
+     *
+     * @param requestId the request.
+     */
+    public void release(@NotNull final IToken<?> requestId)
+    {
+        final Reservation reservation = reservations.remove(requestId);
+        if (reservation != null)
+        {
+            reservation.amounts.forEach((storage, amount) -> addTo(reserved, storage, -amount));
+        }
+    }
+
+    /**
+     * Adds to an amount of a map, removing it once it reaches zero.
+     */
+    private static void addTo(final Map<ItemStorage, Integer> map, final ItemStorage storage, final int delta)
+    {
+        final int amount = map.getOrDefault(storage, 0) + delta;
+        if (amount > 0)
+        {
+            map.put(storage, amount);
+        }
+        else
+        {
+            map.remove(storage);
+        }
+    }
+
+    /**
+     * Stock reserved for one request.
+     */
+    private static class Reservation
+    {
+        /**
+         * Reserved amount per exact item.
+         */
+        private final Map<ItemStorage, Integer> amounts = new HashMap<>();
+
+        /**
+         * Game time of the reservation.
+         */
+        private final long createdTick;
+
+        private Reservation(final long createdTick)
+        {
+            this.createdTick = createdTick;
+        }
+    }
+}
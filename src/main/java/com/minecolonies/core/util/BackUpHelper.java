@@ -27,6 +27,12 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -55,6 +61,32 @@ public final class BackUpHelper
      */
     private static final int MAX_BACKUPS = 20;
 
+    /**
+     * Folder of the incremental backup store and the name scheme of its backups
+     */
+    private static final String FILENAME_BACKUP_STORE = "backups";
+    private static final String BACKUP_NAME           = "colonies-%s";
+
+    /**
+     * Colony save files, group 1 is the colony id and group 2 is set for deleted colonies
+     */
+    private static final Pattern COLONY_FILE_PATTERN = Pattern.compile("colony(\\d+)\\.dat(\\.deleted)?");
+
+    /**
+     * Stores the backups in the background, one at a time
+     */
+    private static final ExecutorService backupExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "MineColonies Backup");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * The last scheduled backup
+     */
+    @Nullable
+    private static volatile Future<?> lastBackup = null;
+
     /**
      * Last backup timer before the next is allowed
      */
@@ -72,7 +104,8 @@ public final class BackUpHelper
     }
 
     /**
-     * Backup the colony
+     * Backup the colony data. Saves the colonies and marks the files of deleted colonies on the calling thread, then stores the changed parts of the files
+     * in the incremental backup store in the background, see {@link IncrementalBackupStore}.
      *
      * @return true if succesful.
      */
@@ -84,78 +117,56 @@ public final class BackUpHelper
         }
         lastBackupTime = System.currentTimeMillis();
 
-        BackUpHelper.saveColonies();
-        try (FileOutputStream fos = new FileOutputStream(getBackupSaveLocation(new Date())))
+        try
         {
+            BackUpHelper.saveColonies();
             @NotNull final File saveDir =
               new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
-            final ZipOutputStream zos = new ZipOutputStream(fos);
 
-            for (final ResourceKey<Level> dimensionType : net.minecraftforge.server.ServerLifecycleHooks.getCurrentServer().levels.keySet())
+            final List<String> files = new ArrayList<>();
+            files.add(FILENAME_MINECOLONIES);
+            for (final ResourceKey<Level> dimensionType : ServerLifecycleHooks.getCurrentServer().levels.keySet())
             {
-                for (int i = 1; i <= IColonyManager.getInstance().getTopColonyId() + 1; i++)
+                final String folder = getFolderForDimension(dimensionType.location());
+                final String[] colonyFiles = new File(saveDir, folder).list((dir, name) -> COLONY_FILE_PATTERN.matcher(name).matches());
+                if (colonyFiles == null)
+                {
+                    continue;
+                }
+
+                for (final String fileName : colonyFiles)
                 {
-                    @NotNull final File file = new File(saveDir, getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY, i));
-                    @NotNull final File fileDeleted = new File(saveDir, getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY_DELETED, i));
-                    if (file.exists())
+                    final Matcher matcher = COLONY_FILE_PATTERN.matcher(fileName);
+                    matcher.matches();
+                    final int colonyId = Integer.parseInt(matcher.group(1));
+                    if (matcher.group(2) == null && IColonyManager.getInstance().getColonyByDimension(colonyId, dimensionType) == null)
                     {
                         // mark existing files
-                        if (IColonyManager.getInstance().getColonyByDimension(i, dimensionType) == null)
-                        {
-                            markColonyDeleted(i, dimensionType);
-                            addToZipFile(getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY_DELETED, i), zos, saveDir);
-                        }
-                        else
-                        {
-                            addToZipFile(getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY, i), zos, saveDir);
-                        }
+                        markColonyDeleted(colonyId, dimensionType);
+                        files.add(folder + String.format(FILENAME_COLONY_DELETED, colonyId));
                     }
-                    else if (fileDeleted.exists())
+                    else
                     {
-                        addToZipFile(getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY_DELETED, i), zos, saveDir);
+                        files.add(folder + fileName);
                     }
                 }
             }
-            addToZipFile(getSaveLocation().getName(), zos, saveDir);
-            zos.close();
-
-            File[] files = saveDir.listFiles();
-
-            if (files == null)
-            {
-                return true;
-            }
-
-            final List<File> fileList = new ArrayList<>();
 
-            for (final File current : files)
-            {
-                if (current.isDirectory() || !current.exists() || !current.getName().contains("colonies-"))
+            final String backupName = String.format(BACKUP_NAME, new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(new Date()));
+            final IncrementalBackupStore store = new IncrementalBackupStore(new File(saveDir, FILENAME_BACKUP_STORE));
+            lastBackup = backupExecutor.submit(() -> {
+                ColonyFileWriter.awaitPendingWrites();
+                try
                 {
-                    continue;
+                    final int newChunks = store.store(backupName, saveDir, files);
+                    store.prune(MAX_BACKUPS);
+                    Log.getLogger().info("Stored colony backup " + backupName + " with " + files.size() + " files, " + newChunks + " new chunks");
                 }
-
-                fileList.add(current);
-            }
-
-            if (fileList.size() <= MAX_BACKUPS)
-            {
-                return true;
-            }
-
-            fileList.sort(Comparator.comparingLong(File::lastModified));
-
-            int deleteCount = fileList.size() - MAX_BACKUPS;
-            for (File current : fileList)
-            {
-                if (deleteCount <= 0)
+                catch (final IOException e)
                 {
-                    break;
+                    Log.getLogger().warn("Unable to backup colony data, please contact an administrator", e);
                 }
-
-                deleteCount--;
-                current.delete();
-            }
+            });
         }
         catch (final Exception e)
         {
@@ -169,6 +180,59 @@ public final class BackUpHelper
         return true;
     }
 
+    /**
+     * Blocks until the last backup is stored, e.g. before the server shuts down.
+     */
+    public static void awaitBackup()
+    {
+        final Future<?> backup = lastBackup;
+        if (backup == null)
+        {
+            return;
+        }
+
+        try
+        {
+            backup.get();
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        catch (final ExecutionException e)
+        {
+            Log.getLogger().warn("Unable to backup colony data, please contact an administrator", e.getCause());
+        }
+    }
+
+    /**
+     * Restores the colony files of a backup into the save folder, from where they can be loaded with {@link #loadColonyBackup}.
+     * The colonies loaded in the world are not touched until then.
+     *
+     * @param backupName the name of the backup.
+     * @return false if the backup does not exist or is incomplete.
+     */
+    public static boolean restoreBackupFiles(final String backupName)
+    {
+        awaitBackup();
+        ColonyFileWriter.awaitPendingWrites();
+        @NotNull final File saveDir = new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
+        try
+        {
+            return new IncrementalBackupStore(new File(saveDir, FILENAME_BACKUP_STORE)).restore(backupName, saveDir);
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Unable to restore colony backup " + backupName, e);
+            return false;
+        }
+        finally
+        {
+            // The restored files differ from what was written last, even a failed restore may have replaced some of them
+            ColonyFileWriter.invalidate();
+        }
+    }
+
     /**
      * Loads the colony managers backup file
      */
@@ -222,33 +286,6 @@ public final class BackUpHelper
         }
     }
 
-    /**
-     * Get save location for Minecolonies backup data, from the world/save directory.
-     *
-     * @param date the current time.
-     * @return Save file for minecolonies.
-     */
-    @NotNull
-    private static File getBackupSaveLocation(final Date date)
-    {
-        @NotNull final File saveDir =
-          new File(net.minecraftforge.server.ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
-        return new File(saveDir, String.format(FILENAME_MINECOLONIES_BACKUP, new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(date)));
-    }
-
-    /**
-     * Add zip to file.
-     *
-     * @param fileName the file name.
-     * @param zos      the output stream.
-     * @param folder   the folder.
-     */
-    private static void addToZipFile(final String fileName, final ZipOutputStream zos, final File folder)
-    {
-        final File file = new File(folder, fileName);
-        addFileToZipWithPath(fileName, zos, file);
-    }
-
     /**
      * Add the file to the given zip, with the path
      *
@@ -329,22 +366,25 @@ public final class BackUpHelper
     }
 
     /**
-     * Save all the Colonies.
+     * Save all the Colonies. Serializes on the calling thread and writes the files in the background, see {@link ColonyFileWriter}.
+     * Colonies which did not change since their last save are skipped.
      */
     public static void saveColonies()
     {
         @NotNull final CompoundTag compound = new CompoundTag();
         IColonyManager.getInstance().write(compound);
 
-        @NotNull final File file = getSaveLocation();
-        saveNBTToPath(file, compound);
+        ColonyFileWriter.write(getSaveLocation(), compound);
         @NotNull final File saveDir =
           new File(net.minecraftforge.server.ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
         for (final IColony colony : IColonyManager.getInstance().getAllColonies())
         {
-            final CompoundTag colonyCompound = new CompoundTag();
-            colony.write(colonyCompound);
-            saveNBTToPath(new File(saveDir, getFolderForDimension(colony.getDimension().location()) + String.format(FILENAME_COLONY, colony.getID())), colonyCompound);
+            final CompoundTag colonyCompound = colony.getColonyTag();
+            if (colonyCompound != null)
+            {
+                ColonyFileWriter.writeIfChanged(new File(saveDir, getFolderForDimension(colony.getDimension().location()) + String.format(FILENAME_COLONY, colony.getID())),
+                  colonyCompound);
+            }
         }
     }
 
@@ -356,6 +396,7 @@ public final class BackUpHelper
      */
     public static void markColonyDeleted(final int colonyID, final ResourceKey<Level> dimensionID)
     {
+        ColonyFileWriter.awaitPendingWrites();
         @NotNull final File saveDir =
           new File(net.minecraftforge.server.ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
         final File toDelete = new File(saveDir, getFolderForDimension(dimensionID.location()) + String.format(FILENAME_COLONY, colonyID));
@@ -412,6 +453,7 @@ public final class BackUpHelper
      */
     public static void loadColonyBackup(final int colonyId, final ResourceKey<Level> dimension, boolean loadDeleted, boolean claimChunks)
     {
+        ColonyFileWriter.awaitPendingWrites();
         @NotNull final File saveDir = new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
         @NotNull final File backupFile = new File(saveDir, getFolderForDimension(dimension.location()) + String.format(FILENAME_COLONY, colonyId));
         CompoundTag compound = loadNBTFromPath(backupFile);
@@ -485,6 +527,7 @@ public final class BackUpHelper
      */
     public static String exportColony(final IColony colony)
     {
+        ColonyFileWriter.awaitPendingWrites();
         final MinecraftServer server = net.minecraftforge.server.ServerLifecycleHooks.getCurrentServer();
         final File topworldDir = server.getWorldPath(LevelResource.ROOT).toFile();
         final File minecraftDir = new File(topworldDir.getAbsolutePath().replace(topworldDir.getPath(), ""));
@@ -0,0 +1,190 @@
+package com.minecolonies.core.util;
+
+import com.minecolonies.api.colony.IColonyTagCapability;
+import com.minecolonies.api.util.ChunkCapData;
+import com.minecolonies.core.Network;
+import com.minecolonies.core.network.messages.client.UpdateChunkCapabilityMessage;
+import com.minecolonies.core.network.messages.client.UpdateChunkRangeCapabilityMessage;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+import static com.minecolonies.api.colony.IColony.CLOSE_COLONY_CAP;
+import static com.minecolonies.api.util.constant.Constants.TICKS_FIVE_MIN;
+
+/**
+ * Server side bookkeeping of the chunk claims each player received. Claims are versioned per region of chunks, a player entering a chunk only receives the
+ * regions around it which changed since they were last sent to that player. The client keeps the received claims, see {@link ChunkClientDataHelper}.
+ */
+public final class ChunkClaimSync
+{
+    /**
+     * Regions are squares of 4 by 4 chunks.
+     */
+    private static final int REGION_SHIFT = 2;
+
+    /**
+     * Range in chunks around the player which gets synced.
+     */
+    private static final int SYNC_RANGE = 8;
+
+    /**
+     * Game ticks after which all regions get sent to a player again, covers claim changes that bypassed the tracking.
+     */
+    private static final int FULL_REFRESH_INTERVAL = TICKS_FIVE_MIN * 2;
+
+    /**
+     * Region versions by dimension, regions without entry are at version 0.
+     */
+    private static final Map<ResourceKey<Level>, Long2IntOpenHashMap> regionVersions = new HashMap<>();
+
+    /**
+     * What each player received.
+     */
+    private static final Map<UUID, PlayerState> players = new HashMap<>();
+
+    /**
+     * Last handed out region version.
+     */
+    private static int versionCounter = 0;
+
+    private ChunkClaimSync()
+    {
+        throw new IllegalStateException("Tried to initialize: ChunkClaimSync but this is a Utility class.");
+    }
+
+    /**
+     * Called after the claims of a chunk changed, bumps the version of its region and updates the players tracking the chunk.
+     *
+     * @param chunk the chunk.
+     * @param cap   the claim capability of the chunk.
+     */
+    public static void onClaimChanged(@NotNull final LevelChunk chunk, @NotNull final IColonyTagCapability cap)
+    {
+        final ChunkPos pos = chunk.getPos();
+        regionVersions.computeIfAbsent(chunk.getLevel().dimension(), dim -> new Long2IntOpenHashMap())
+          .put(ChunkPos.asLong(pos.x >> REGION_SHIFT, pos.z >> REGION_SHIFT), ++versionCounter);
+        Network.getNetwork().sendToTrackingChunk(new UpdateChunkCapabilityMessage(cap, pos.x, pos.z), chunk);
+    }
+
+    /**
+     * Sends the claims of all regions around a player which the player did not receive at their current version.
+     * Regions with chunks which are not loaded on the server are sent again next time.
+     *
+     * @param player the player.
+     * @param center the chunk the player is in.
+     */
+    public static void syncAround(@NotNull final ServerPlayer player, @NotNull final ChunkPos center)
+    {
+        final Level level = player.level;
+        final long gameTime = level.getGameTime();
+        PlayerState state = players.get(player.getUUID());
+        if (state == null || state.dimension != level.dimension() || gameTime - state.lastRefresh >= FULL_REFRESH_INTERVAL)
+        {
+            state = new PlayerState(level.dimension(), gameTime);
+            players.put(player.getUUID(), state);
+        }
+
+        final Long2IntOpenHashMap versions = regionVersions.get(level.dimension());
+        final List<ChunkCapData> caps = new ArrayList<>();
+        for (int regionX = (center.x - SYNC_RANGE) >> REGION_SHIFT; regionX <= (center.x + SYNC_RANGE) >> REGION_SHIFT; regionX++)
+        {
+            for (int regionZ = (center.z - SYNC_RANGE) >> REGION_SHIFT; regionZ <= (center.z + SYNC_RANGE) >> REGION_SHIFT; regionZ++)
+            {
+                final long region = ChunkPos.asLong(regionX, regionZ);
+                final int version = versions == null ? 0 : versions.get(region);
+                if (state.known.containsKey(region) && state.known.get(region) == version)
+                {
+                    continue;
+                }
+
+                if (collectRegion(level, regionX, regionZ, caps))
+                {
+                    state.known.put(region, version);
+                }
+            }
+        }
+
+        if (!caps.isEmpty())
+        {
+            Network.getNetwork().sendToPlayer(new UpdateChunkRangeCapabilityMessage(caps), player);
+        }
+    }
+
+    /**
+     * Collects the claims of all loaded chunks of a region.
+     *
+     * @param level   the level.
+     * @param regionX the region x coordinate.
+     * @param regionZ the region z coordinate.
+     * @param caps    the list to add to.
+     * @return true if all chunks of the region were loaded.
+     */
+    private static boolean collectRegion(final Level level, final int regionX, final int regionZ, final List<ChunkCapData> caps)
+    {
+        boolean complete = true;
+        final int size = 1 << REGION_SHIFT;
+        for (int chunkX = regionX << REGION_SHIFT; chunkX < (regionX << REGION_SHIFT) + size; chunkX++)
+        {
+            for (int chunkZ = regionZ << REGION_SHIFT; chunkZ < (regionZ << REGION_SHIFT) + size; chunkZ++)
+            {
+                final LevelChunk chunk = level.getChunkSource().getChunkNow(chunkX, chunkZ);
+                if (chunk == null)
+                {
+                    complete = false;
+                    continue;
+                }
+
+                final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null).resolve().orElse(null);
+                if (cap != null)
+                {
+                    caps.add(new ChunkCapData(chunkX, chunkZ, cap.getOwningColony(), cap.getStaticClaimColonies(), cap.getAllClaimingBuildings()));
+                }
+            }
+        }
+        return complete;
+    }
+
+    /**
+     * Forgets what a player received, e.g. on logout or dimension change.
+     *
+     * @param playerId the player.
+     */
+    public static void onPlayerReset(@NotNull final UUID playerId)
+    {
+        players.remove(playerId);
+    }
+
+    /**
+     * Regions a player received.
+     */
+    private static class PlayerState
+    {
+        /**
+         * The dimension the regions belong to.
+         */
+        private final ResourceKey<Level> dimension;
+
+        /**
+         * Game time all regions were last sent at.
+         */
+        private final long lastRefresh;
+
+        /**
+         * Received version by region.
+         */
+        private final Long2IntOpenHashMap known = new Long2IntOpenHashMap();
+
+        private PlayerState(final ResourceKey<Level> dimension, final long lastRefresh)
+        {
+            this.dimension = dimension;
+            this.lastRefresh = lastRefresh;
+        }
+    }
+}
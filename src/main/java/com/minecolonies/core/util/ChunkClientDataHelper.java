@@ -3,58 +3,62 @@ package com.minecolonies.core.util;
 import com.minecolonies.api.colony.IColonyTagCapability;
 import com.minecolonies.api.colony.event.ClientChunkUpdatedEvent;
 import com.minecolonies.api.util.ChunkCapData;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraftforge.common.MinecraftForge;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-
 import static com.minecolonies.api.colony.IColony.CLOSE_COLONY_CAP;
 
 /**
- * Helper class for late applying caps on client side, due to loading order
+ * Client side cache of the received chunk claims. The server only sends claims which changed since it last sent them, so the claims are kept for chunks
+ * which are not loaded yet or get reloaded later on.
  */
 public class ChunkClientDataHelper
 {
     /**
-     * The later to apply chunks
+     * The received claims by chunk position.
      */
-    private static final List<ChunkCapData> chunkCapsToAdd = new ArrayList<>();
+    private static final Long2ObjectOpenHashMap<ChunkCapData> chunkCaps = new Long2ObjectOpenHashMap<>();
 
     /**
-     * Adds a colony chunk data entry
+     * Stores a received colony chunk data entry
      *
      * @param chunkCap the capability to add.
      */
     public static void addCapData(final ChunkCapData chunkCap)
     {
-        chunkCapsToAdd.add(chunkCap);
+        final long pos = ChunkPos.asLong(chunkCap.x, chunkCap.z);
+        if (chunkCap.getOwningColony() == 0 && chunkCap.getStaticColonyClaim().isEmpty())
+        {
+            chunkCaps.remove(pos);
+        }
+        else
+        {
+            chunkCaps.put(pos, chunkCap);
+        }
     }
 
     /**
-     * Applies saved data for late loading on client side
+     * Applies the cached data to a chunk loaded on client side
      *
      * @param chunk the chunk to apply it to.
      */
     public static void applyLate(final LevelChunk chunk)
     {
-        if (chunkCapsToAdd.isEmpty())
+        final ChunkCapData chunkCapData = chunkCaps.get(chunk.getPos().toLong());
+        if (chunkCapData != null)
         {
-            return;
+            applyCap(chunkCapData, chunk);
         }
+    }
 
-        final Iterator<ChunkCapData> iterator = chunkCapsToAdd.iterator();
-
-        while (iterator.hasNext())
-        {
-            final ChunkCapData chunkCapData = iterator.next();
-            if (chunk.getPos().x == chunkCapData.x && chunk.getPos().z == chunkCapData.z)
-            {
-                applyCap(chunkCapData, chunk);
-                iterator.remove();
-            }
-        }
+    /**
+     * Drops all cached claims, e.g. when leaving the world.
+     */
+    public static void clearCache()
+    {
+        chunkCaps.clear();
     }
 
     /**
@@ -7,9 +7,8 @@ import com.minecolonies.api.colony.IColonyTagCapability;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.util.*;
 import com.minecolonies.core.MineColonies;
-import com.minecolonies.core.Network;
+import com.minecolonies.core.colony.ColonyClaimIndex;
 import com.minecolonies.core.colony.IColonyManagerCapability;
-import com.minecolonies.core.network.messages.client.UpdateChunkCapabilityMessage;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.SectionPos;
 import net.minecraft.util.Tuple;
@@ -72,6 +71,12 @@ public final class ChunkDataHelper
             }
         }
 
+        final IColonyTagCapability closeCap = chunk.getCapability(CLOSE_COLONY_CAP, null).resolve().orElse(null);
+        if (closeCap != null)
+        {
+            updateClaimIndex(world, chunk, closeCap);
+        }
+
         final int closeColony = ColonyUtils.getOwningColony(chunk);
         if (closeColony != 0)
         {
@@ -120,7 +125,43 @@ public final class ChunkDataHelper
 
         if (cap != null)
         {
-            Network.getNetwork().sendToEveryone(new UpdateChunkCapabilityMessage(cap, chunk.getPos().x, chunk.getPos().z));
+            updateClaimIndex(chunk.getLevel(), chunk, cap);
+            ChunkClaimSync.onClaimChanged(chunk, cap);
+        }
+    }
+
+    /**
+     * Get the claim index of a world.
+     *
+     * @param world the world.
+     * @return the index or null if the world has no colony manager.
+     */
+    @Nullable
+    private static ColonyClaimIndex getClaimIndex(final Level world)
+    {
+        final ColonyClaimIndex index = ColonyClaimIndex.get(world.dimension());
+        if (index != null)
+        {
+            return index;
+        }
+
+        final IColonyManagerCapability cap = world.getCapability(COLONY_MANAGER_CAP, null).resolve().orElse(null);
+        return cap == null ? null : cap.getClaimIndex();
+    }
+
+    /**
+     * Takes the claims of a loaded chunk over into the claim index.
+     *
+     * @param world the world.
+     * @param chunk the chunk.
+     * @param cap   the claim capability of the chunk.
+     */
+    private static void updateClaimIndex(final Level world, final LevelChunk chunk, final IColonyTagCapability cap)
+    {
+        final ColonyClaimIndex index = getClaimIndex(world);
+        if (index != null)
+        {
+            index.update(chunk.getPos().toLong(), cap);
         }
     }
 
@@ -196,6 +237,7 @@ public final class ChunkDataHelper
                 if (storage != null)
                 {
                     storage.applyToCap(colonyCap, chunk);
+                    updateClaimIndex(w, chunk, colonyCap);
                 }
                 if (colonyCap.getOwningColony() != 0)
                 {
@@ -366,6 +408,12 @@ public final class ChunkDataHelper
         {
             final ChunkLoadStorage newStorage = new ChunkLoadStorage(id, ChunkPos.asLong(chunkBlockPos), add, world.dimension().location(), forceOwnerChange);
             chunkManager.addChunkStorage(SectionPos.blockToSectionCoord(chunkBlockPos.getX()), SectionPos.blockToSectionCoord(chunkBlockPos.getZ()), newStorage);
+
+            final ColonyClaimIndex index = getClaimIndex(world);
+            if (index != null)
+            {
+                index.onStaticClaim(ChunkPos.asLong(chunkBlockPos), id, add, forceOwnerChange, world.dimension());
+            }
             return false;
         }
 
@@ -401,7 +449,8 @@ public final class ChunkDataHelper
             cap.removeColony(id, chunk);
         }
 
-        Network.getNetwork().sendToTrackingChunk(new UpdateChunkCapabilityMessage(cap, chunk.getPos().x, chunk.getPos().z), chunk);
+        updateClaimIndex(world, chunk, cap);
+        ChunkClaimSync.onClaimChanged(chunk, cap);
         return true;
     }
 
@@ -430,6 +479,12 @@ public final class ChunkDataHelper
         {
             final ChunkLoadStorage newStorage = new ChunkLoadStorage(colony.getID(), ChunkPos.asLong(chunkBlockPos), world.dimension().location(), buildingPos, add);
             chunkManager.addChunkStorage(SectionPos.blockToSectionCoord(chunkBlockPos.getX()), SectionPos.blockToSectionCoord(chunkBlockPos.getZ()), newStorage);
+
+            final ColonyClaimIndex index = getClaimIndex(world);
+            if (index != null)
+            {
+                index.onBuildingClaim(ChunkPos.asLong(chunkBlockPos), colony.getID(), add);
+            }
             return false;
         }
 
@@ -467,7 +522,8 @@ public final class ChunkDataHelper
             cap.removeBuildingClaim(colony.getID(), buildingPos, chunk);
         }
 
-        Network.getNetwork().sendToTrackingChunk(new UpdateChunkCapabilityMessage(cap, chunk.getPos().x, chunk.getPos().z), chunk);
+        updateClaimIndex(world, chunk, cap);
+        ChunkClaimSync.onClaimChanged(chunk, cap);
         return true;
     }
 }
@@ -0,0 +1,280 @@
+package com.minecolonies.core.util;
+
+import com.minecolonies.api.util.Log;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes colony save files off the server thread. The compound is serialized to bytes on the calling thread, so later changes to it do not matter, and the
+ * bytes are written on a small bounded pool through a temporary file which then replaces the target. Only the newest bytes of a file get written if saves of
+ * it queue up. Also skips compounds which were written before and did not change since.
+ */
+public final class ColonyFileWriter
+{
+    /**
+     * Number of writer threads.
+     */
+    private static final int WRITER_THREADS = 2;
+
+    /**
+     * Writes which may queue up before the saving thread writes itself.
+     */
+    private static final int MAX_QUEUED_WRITES = 256;
+
+    /**
+     * Suffix of the temporary file a save is written to first.
+     */
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    /**
+     * Thread counter for the thread names.
+     */
+    private static final AtomicInteger threadCount = new AtomicInteger();
+
+    /**
+     * The writer pool.
+     */
+    private static final ThreadPoolExecutor executor = new ThreadPoolExecutor(WRITER_THREADS,
+      WRITER_THREADS,
+      30,
+      TimeUnit.SECONDS,
+      new LinkedBlockingQueue<>(MAX_QUEUED_WRITES),
+      runnable -> {
+          final Thread thread = new Thread(runnable, "MineColonies Colony Writer " + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+      },
+      new ThreadPoolExecutor.CallerRunsPolicy());
+
+    static
+    {
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Newest not yet written bytes by file.
+     */
+    private static final Map<File, byte[]> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Locks keeping writes of the same file in order.
+     */
+    private static final Map<File, Object> fileLocks = new ConcurrentHashMap<>();
+
+    /**
+     * The last compound written to each file.
+     */
+    private static final Map<File, CompoundTag> lastWritten = new ConcurrentHashMap<>();
+
+    /**
+     * Submitted writes which may not have finished yet.
+     */
+    private static final Queue<Future<?>> inFlight = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Timings by file name.
+     */
+    private static final Map<String, Timing> timings = new ConcurrentHashMap<>();
+
+    private ColonyFileWriter()
+    {
+        throw new IllegalStateException("Tried to initialize: ColonyFileWriter but this is a Utility class.");
+    }
+
+    /**
+     * Saves a compound to a file unless this exact compound instance was written to it before.
+     * Meant for cached compounds like {@link com.minecolonies.api.colony.IColony#getColonyTag()}, which are replaced when the colony changes.
+     *
+     * @param file     the file.
+     * @param compound the compound.
+     */
+    public static void writeIfChanged(@NotNull final File file, @NotNull final CompoundTag compound)
+    {
+        if (lastWritten.get(file) == compound && file.exists())
+        {
+            getTiming(file).skipped++;
+            return;
+        }
+        lastWritten.put(file, compound);
+        if (!write(file, compound))
+        {
+            lastWritten.remove(file);
+        }
+    }
+
+    /**
+     * Saves a compound to a file.
+     *
+     * @param file     the file.
+     * @param compound the compound, is serialized right away.
+     * @return false if the compound could not be serialized.
+     */
+    public static boolean write(@NotNull final File file, @NotNull final CompoundTag compound)
+    {
+        final long start = System.nanoTime();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes))
+        {
+            NbtIo.write(compound, output);
+        }
+        catch (final IOException exception)
+        {
+            Log.getLogger().error("Exception when serializing " + file.getName(), exception);
+            return false;
+        }
+
+        final Timing timing = getTiming(file);
+        timing.serializeNanos = System.nanoTime() - start;
+        timing.bytes = bytes.size();
+
+        if (pending.put(file, bytes.toByteArray()) == null)
+        {
+            inFlight.removeIf(Future::isDone);
+            inFlight.add(executor.submit(() -> flush(file)));
+        }
+        return true;
+    }
+
+    /**
+     * Writes the newest pending bytes of a file.
+     *
+     * @param file the file.
+     */
+    private static void flush(final File file)
+    {
+        synchronized (fileLocks.computeIfAbsent(file, f -> new Object()))
+        {
+            final byte[] data = pending.remove(file);
+            if (data == null)
+            {
+                return;
+            }
+
+            final long start = System.nanoTime();
+            try
+            {
+                writeAtomically(file, data);
+            }
+            catch (final IOException exception)
+            {
+                lastWritten.remove(file);
+                Log.getLogger().error("Exception when saving " + file.getName(), exception);
+                return;
+            }
+
+            final Timing timing = getTiming(file);
+            timing.writeNanos = System.nanoTime() - start;
+            timing.writes++;
+        }
+    }
+
+    /**
+     * Writes data to a temporary file next to the target and moves it over the target.
+     *
+     * @param file the target.
+     * @param data the data.
+     * @throws IOException if writing failed, the target is untouched then.
+     */
+    private static void writeAtomically(final File file, final byte[] data) throws IOException
+    {
+        file.getParentFile().mkdirs();
+        final Path target = file.toPath();
+        final Path temp = target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+        Files.write(temp, data);
+        try
+        {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (final AtomicMoveNotSupportedException e)
+        {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Blocks until all submitted writes finished, e.g. before the save files are read or moved.
+     */
+    public static void awaitPendingWrites()
+    {
+        Future<?> future;
+        while ((future = inFlight.poll()) != null)
+        {
+            try
+            {
+                future.get();
+            }
+            catch (final InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            catch (final ExecutionException e)
+            {
+                Log.getLogger().error("Exception when saving colony files", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Forgets which compounds were written, so the next save writes every file again. Needed after the files were replaced behind the writer's back.
+     */
+    public static void invalidate()
+    {
+        lastWritten.clear();
+    }
+
+    /**
+     * Get the timing entry of a file.
+     *
+     * @param file the file.
+     * @return the entry.
+     */
+    private static Timing getTiming(final File file)
+    {
+        return timings.computeIfAbsent(file.getName(), name -> new Timing());
+    }
+
+    /**
+     * Get the timings of the last save by file name.
+     *
+     * @return the timings.
+     */
+    public static Map<String, Timing> getTimings()
+    {
+        return timings;
+    }
+
+    /**
+     * Resets the timings.
+     */
+    public static void resetTimings()
+    {
+        timings.clear();
+    }
+
+    /**
+     * Timings of the saves of one file.
+     */
+    public static class Timing
+    {
+        public volatile long serializeNanos;
+        public volatile long writeNanos;
+        public volatile int  bytes;
+        public volatile int  writes;
+        public volatile int  skipped;
+    }
+}
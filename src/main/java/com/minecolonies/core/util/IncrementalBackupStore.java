@@ -0,0 +1,389 @@
+package com.minecolonies.core.util;
+
+import com.minecolonies.api.util.Log;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.StringTag;
+import net.minecraft.nbt.Tag;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content addressed store of colony file backups. Files are split into chunks which are stored compressed under their hash, so a backup only adds the chunks
+ * which changed since any earlier backup. Each backup is a manifest listing the chunks of every file it contains.
+ * Chunk boundaries depend on the content, so data inserted into a file only changes the chunks around it instead of shifting all following chunks.
+ */
+public class IncrementalBackupStore
+{
+    /**
+     * Minimum and maximum size of the chunks files are split into.
+     */
+    private static final int MIN_CHUNK_SIZE = 16 * 1024;
+    private static final int MAX_CHUNK_SIZE = 256 * 1024;
+
+    /**
+     * A chunk ends where the rolling fingerprint has these bits unset, about every 32kB after the minimum size.
+     */
+    private static final long BOUNDARY_MASK = (1 << 15) - 1;
+
+    /**
+     * Random values per byte for the rolling fingerprint, fixed so that boundaries stay the same across restarts.
+     */
+    private static final long[] GEAR = new long[256];
+
+    static
+    {
+        final Random random = new Random(0x6d696e65636f6cL);
+        for (int i = 0; i < GEAR.length; i++)
+        {
+            GEAR[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * Folders and names within the store.
+     */
+    private static final String OBJECTS_FOLDER   = "objects";
+    private static final String MANIFESTS_FOLDER = "manifests";
+    private static final String MANIFEST_SUFFIX  = ".manifest";
+    private static final String TEMP_SUFFIX      = ".tmp";
+
+    /**
+     * Manifest tags.
+     */
+    private static final String TAG_FILES  = "files";
+    private static final String TAG_CHUNKS = "chunks";
+
+    /**
+     * Root folder of the store.
+     */
+    private final File root;
+
+    /**
+     * Create a store.
+     *
+     * @param root the folder of the store.
+     */
+    public IncrementalBackupStore(@NotNull final File root)
+    {
+        this.root = root;
+    }
+
+    /**
+     * Stores a backup of files.
+     *
+     * @param name          the name of the backup.
+     * @param baseDir       the folder the paths are relative to.
+     * @param relativePaths the files to back up.
+     * @return the number of chunks which were not stored before.
+     * @throws IOException if the backup could not be written, no manifest is written then.
+     */
+    public int store(@NotNull final String name, @NotNull final File baseDir, @NotNull final Collection<String> relativePaths) throws IOException
+    {
+        int newChunks = 0;
+        final CompoundTag files = new CompoundTag();
+        for (final String path : relativePaths)
+        {
+            final File file = new File(baseDir, path);
+            if (!file.exists())
+            {
+                continue;
+            }
+
+            final ListTag chunks = new ListTag();
+            final byte[] data = Files.readAllBytes(file.toPath());
+            int start = 0;
+            while (start < data.length)
+            {
+                final int end = nextBoundary(data, start);
+                final String hash = hash(data, start, end - start);
+                if (storeChunk(hash, data, start, end - start))
+                {
+                    newChunks++;
+                }
+                chunks.add(StringTag.valueOf(hash));
+                start = end;
+            }
+
+            final CompoundTag entry = new CompoundTag();
+            entry.put(TAG_CHUNKS, chunks);
+            files.put(path.replace(File.separatorChar, '/'), entry);
+        }
+
+        final CompoundTag manifest = new CompoundTag();
+        manifest.put(TAG_FILES, files);
+        final File manifestFile = getManifestFile(name);
+        manifestFile.getParentFile().mkdirs();
+        final File temp = new File(manifestFile.getPath() + TEMP_SUFFIX);
+        NbtIo.writeCompressed(manifest, temp);
+        move(temp, manifestFile);
+        return newChunks;
+    }
+
+    /**
+     * Writes the files of a backup back into a folder, where {@link BackUpHelper#loadColonyBackup} can load them from.
+     *
+     * @param name    the name of the backup.
+     * @param baseDir the folder to restore into.
+     * @return false if the backup does not exist or a chunk is missing, no file is touched then.
+     * @throws IOException if restoring failed.
+     */
+    public boolean restore(@NotNull final String name, @NotNull final File baseDir) throws IOException
+    {
+        final CompoundTag manifest = readManifest(name);
+        if (manifest == null)
+        {
+            return false;
+        }
+
+        final CompoundTag files = manifest.getCompound(TAG_FILES);
+        for (final String path : files.getAllKeys())
+        {
+            for (final Tag hash : files.getCompound(path).getList(TAG_CHUNKS, Tag.TAG_STRING))
+            {
+                if (!getChunkFile(hash.getAsString()).exists())
+                {
+                    Log.getLogger().warn("Backup " + name + " misses chunk " + hash.getAsString() + " of " + path);
+                    return false;
+                }
+            }
+        }
+
+        for (final String path : files.getAllKeys())
+        {
+            final File target = new File(baseDir, path.replace('/', File.separatorChar));
+            target.getParentFile().mkdirs();
+            final File temp = new File(target.getPath() + TEMP_SUFFIX);
+            try (OutputStream output = new BufferedOutputStream(new FileOutputStream(temp)))
+            {
+                for (final Tag hash : files.getCompound(path).getList(TAG_CHUNKS, Tag.TAG_STRING))
+                {
+                    try (InputStream input = new GZIPInputStream(new FileInputStream(getChunkFile(hash.getAsString()))))
+                    {
+                        input.transferTo(output);
+                    }
+                }
+            }
+            move(temp, target);
+        }
+        return true;
+    }
+
+    /**
+     * Get the names of all backups, oldest first.
+     *
+     * @return the names.
+     */
+    public List<String> getBackups()
+    {
+        final File[] manifests = new File(root, MANIFESTS_FOLDER).listFiles((dir, fileName) -> fileName.endsWith(MANIFEST_SUFFIX));
+        if (manifests == null)
+        {
+            return new ArrayList<>();
+        }
+
+        final List<String> names = new ArrayList<>();
+        for (final File manifest : manifests)
+        {
+            names.add(manifest.getName().substring(0, manifest.getName().length() - MANIFEST_SUFFIX.length()));
+        }
+        // Names start with their date, so they sort by age
+        Collections.sort(names);
+        return names;
+    }
+
+    /**
+     * Deletes the oldest backups beyond a limit and all chunks no remaining backup refers to.
+     *
+     * @param maxBackups the number of backups to keep.
+     */
+    public void prune(final int maxBackups)
+    {
+        final List<String> backups = getBackups();
+        for (int i = 0; i < backups.size() - maxBackups; i++)
+        {
+            getManifestFile(backups.get(i)).delete();
+        }
+
+        final Set<String> referenced = new HashSet<>();
+        for (final String backup : getBackups())
+        {
+            final CompoundTag manifest = readManifest(backup);
+            if (manifest == null)
+            {
+                // Keep all chunks rather than deleting chunks of a backup that could not be read
+                return;
+            }
+
+            final CompoundTag files = manifest.getCompound(TAG_FILES);
+            for (final String path : files.getAllKeys())
+            {
+                for (final Tag hash : files.getCompound(path).getList(TAG_CHUNKS, Tag.TAG_STRING))
+                {
+                    referenced.add(hash.getAsString());
+                }
+            }
+        }
+
+        final File[] buckets = new File(root, OBJECTS_FOLDER).listFiles(File::isDirectory);
+        if (buckets == null)
+        {
+            return;
+        }
+
+        for (final File bucket : buckets)
+        {
+            final File[] chunks = bucket.listFiles();
+            if (chunks == null)
+            {
+                continue;
+            }
+
+            for (final File chunk : chunks)
+            {
+                if (!referenced.contains(chunk.getName()))
+                {
+                    chunk.delete();
+                }
+            }
+        }
+    }
+
+    /**
+     * Find the end of the chunk starting at an offset.
+     *
+     * @param data  the file data.
+     * @param start the start of the chunk.
+     * @return the end of the chunk, exclusive.
+     */
+    private static int nextBoundary(final byte[] data, final int start)
+    {
+        final int max = Math.min(data.length, start + MAX_CHUNK_SIZE);
+        long fingerprint = 0;
+        for (int i = start; i < max; i++)
+        {
+            fingerprint = (fingerprint << 1) + GEAR[data[i] & 0xFF];
+            if (i - start >= MIN_CHUNK_SIZE && (fingerprint & BOUNDARY_MASK) == 0)
+            {
+                return i + 1;
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Stores a chunk unless a chunk with the same hash is stored already.
+     *
+     * @param hash   the hash of the chunk.
+     * @param data   the file data.
+     * @param offset the start of the chunk.
+     * @param length the length of the chunk.
+     * @return true if the chunk was new.
+     * @throws IOException if writing failed.
+     */
+    private boolean storeChunk(final String hash, final byte[] data, final int offset, final int length) throws IOException
+    {
+        final File chunkFile = getChunkFile(hash);
+        if (chunkFile.exists())
+        {
+            return false;
+        }
+
+        chunkFile.getParentFile().mkdirs();
+        final File temp = new File(chunkFile.getPath() + TEMP_SUFFIX);
+        try (OutputStream output = new GZIPOutputStream(new FileOutputStream(temp)))
+        {
+            output.write(data, offset, length);
+        }
+        move(temp, chunkFile);
+        return true;
+    }
+
+    /**
+     * Read the manifest of a backup.
+     *
+     * @param name the backup.
+     * @return the manifest or null if it does not exist or could not be read.
+     */
+    private CompoundTag readManifest(final String name)
+    {
+        final File manifestFile = getManifestFile(name);
+        if (!manifestFile.exists())
+        {
+            return null;
+        }
+
+        try
+        {
+            return NbtIo.readCompressed(manifestFile);
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Could not read backup manifest " + name, e);
+            return null;
+        }
+    }
+
+    private File getManifestFile(final String name)
+    {
+        return new File(new File(root, MANIFESTS_FOLDER), name + MANIFEST_SUFFIX);
+    }
+
+    private File getChunkFile(final String hash)
+    {
+        return new File(new File(new File(root, OBJECTS_FOLDER), hash.substring(0, 2)), hash);
+    }
+
+    /**
+     * Hashes a chunk.
+     *
+     * @param data   the file data.
+     * @param offset the start of the chunk.
+     * @param length the length of the chunk.
+     * @return the hash as hex string.
+     */
+    private static String hash(final byte[] data, final int offset, final int length)
+    {
+        try
+        {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(data, offset, length);
+            return HexFormat.of().formatHex(digest.digest());
+        }
+        catch (final NoSuchAlgorithmException e)
+        {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Moves a finished temporary file over its target.
+     *
+     * @param temp   the temporary file.
+     * @param target the target.
+     * @throws IOException if moving failed.
+     */
+    private static void move(final File temp, final File target) throws IOException
+    {
+        final Path targetPath = target.toPath();
+        try
+        {
+            Files.move(temp.toPath(), targetPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (final AtomicMoveNotSupportedException e)
+        {
+            Files.move(temp.toPath(), targetPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
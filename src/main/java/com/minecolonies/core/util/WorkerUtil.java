@@ -48,6 +48,8 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.minecolonies.api.util.constant.CitizenConstants.MOVE_MINIMAL;
 import static com.minecolonies.api.util.constant.CitizenConstants.ROTATION_MOVEMENT;
@@ -75,6 +77,11 @@ public final class WorkerUtil
      */
     public static List<Tuple<ToolType, ItemStack>> tools;
 
+    /**
+     * Best tool and required harvest level by block state, dropped when the tags are reloaded.
+     */
+    private static final Map<BlockState, ToolClassification> toolClassifications = new ConcurrentHashMap<>();
+
     private WorkerUtil()
     {
         //Hide default constructor.
@@ -186,25 +193,44 @@ public final class WorkerUtil
 
         if (blockHardness > 0f)
         {
-            for (final Tuple<ToolType, ItemStack> tool : getOrInitTestTools())
+            // The right tool for materially textured blocks depends on the material stored in the block entity
+            if (state.getBlock() instanceof IMateriallyTexturedBlock)
+            {
+                return findBestTool(state, level, pos);
+            }
+            return getToolClassification(state).toolType();
+        }
+
+        return ToolType.NONE;
+    }
+
+    /**
+     * Tries all test tools on a block.
+     *
+     * @param state the target BlockState.
+     * @param level the level, only used for materially textured blocks.
+     * @param pos   the position, only used for materially textured blocks.
+     * @return the first tool which is correct for the drops.
+     */
+    private static IToolType findBestTool(final BlockState state, final BlockGetter level, final BlockPos pos)
+    {
+        for (final Tuple<ToolType, ItemStack> tool : getOrInitTestTools())
+        {
+            if (tool.getB() != null && tool.getB().getItem() instanceof DiggerItem)
             {
-                if (tool.getB() != null && tool.getB().getItem() instanceof DiggerItem)
+                if (state.getBlock() instanceof IMateriallyTexturedBlock materiallyTexturedBlock)
                 {
-                    if (state.getBlock() instanceof IMateriallyTexturedBlock materiallyTexturedBlock)
-                    {
-                        if (materiallyTexturedBlock.isCorrectToolForDrops(state, tool.getB(), level, pos))
-                        {
-                            return tool.getA();
-                        }
-                    }
-                    if (tool.getB().isCorrectToolForDrops(state))
+                    if (materiallyTexturedBlock.isCorrectToolForDrops(state, tool.getB(), level, pos))
                     {
                         return tool.getA();
                     }
                 }
+                if (tool.getB().isCorrectToolForDrops(state))
+                {
+                    return tool.getA();
+                }
             }
         }
-
         return ToolType.NONE;
     }
 
@@ -215,6 +241,17 @@ public final class WorkerUtil
      * @return the required harvestLevel.
      */
     public static int getCorrectHarvestLevelForBlock(final BlockState target)
+    {
+        return getToolClassification(target).harvestLevel();
+    }
+
+    /**
+     * Walks the sorted tiers to find the harvest level of a block.
+     *
+     * @param target the target block.
+     * @return the required harvestLevel.
+     */
+    private static int findHarvestLevel(final BlockState target)
     {
         int required = 0;
         final List<Tier> tiers = TierSortingRegistry.getSortedTiers();
@@ -235,6 +272,59 @@ public final class WorkerUtil
         return required;
     }
 
+    /**
+     * Get the best tool and the required harvest level of a block state, classified once and then cached.
+     *
+     * @param state the block state.
+     * @return the classification.
+     */
+    private static ToolClassification getToolClassification(final BlockState state)
+    {
+        final ToolClassification cached = toolClassifications.get(state);
+        if (cached != null)
+        {
+            return cached;
+        }
+
+        final ToolClassification classification = new ToolClassification(findBestTool(state, null, null), findHarvestLevel(state));
+        toolClassifications.put(state, classification);
+        return classification;
+    }
+
+    /**
+     * Classifies all blocks of a blueprint ahead, so the workers building or clearing it find them cached.
+     *
+     * @param blueprint the blueprint.
+     */
+    public static void prepareToolClassifications(@NotNull final Blueprint blueprint)
+    {
+        for (final BlockState state : blueprint.getPalette())
+        {
+            if (!(state.getBlock() instanceof IMateriallyTexturedBlock))
+            {
+                getToolClassification(state);
+            }
+        }
+    }
+
+    /**
+     * Drops all cached tool classifications, the tags they depend on changed.
+     */
+    public static void clearToolClassifications()
+    {
+        toolClassifications.clear();
+    }
+
+    /**
+     * Best tool and required harvest level of a block state.
+     *
+     * @param toolType     the tool type which is correct for the drops.
+     * @param harvestLevel the required harvest level.
+     */
+    private record ToolClassification(IToolType toolType, int harvestLevel)
+    {
+    }
+
     /**
      * Change the citizens Rotation to look at said block.
      *